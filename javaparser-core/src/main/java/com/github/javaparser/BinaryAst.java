@@ -0,0 +1,1120 @@
+package com.github.javaparser;
+
+import com.github.javaparser.ast.ArrayBracketPair;
+import com.github.javaparser.ast.ArrayCreationLevel;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.PackageDeclaration;
+import com.github.javaparser.ast.body.*;
+import com.github.javaparser.ast.comments.BlockComment;
+import com.github.javaparser.ast.comments.Comment;
+import com.github.javaparser.ast.comments.CommentsCollection;
+import com.github.javaparser.ast.comments.JavadocComment;
+import com.github.javaparser.ast.comments.LineComment;
+import com.github.javaparser.ast.expr.*;
+import com.github.javaparser.ast.imports.*;
+import com.github.javaparser.ast.stmt.*;
+import com.github.javaparser.ast.type.*;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+import static java.util.Collections.emptyList;
+
+/**
+ * A compact binary format for parsed compilation units, so that a cache can load the AST of an unchanged file
+ * instead of parsing it again.
+ * <p>
+ * After a header with a magic number, the format version and flags, the tree follows in preorder. Every node is
+ * written as a byte with its {@link NodeKind} and whether comments follow, its range, and its attributes and children
+ * in the order of its constructor. Numbers are varints, and lines are written relative to the line of the previous
+ * node, so a range mostly takes three bytes. Names, literals and comment texts go through a string table that is built while
+ * writing: the first occurrence of a string is written out, later ones only refer to it.
+ * <p>
+ * Comments and tokens are optional. Without comments, the tree is read back without any; without tokens, the
+ * {@link ParseResult#getTokens() tokens} of the result are empty. The problems of a parse are not kept, so only
+ * successful results should be cached.
+ * <p>
+ * Several compilation units can be written to the same output, one after the other, and read back in turn from the
+ * same buffer.
+ */
+public final class BinaryAst {
+    private static final int MAGIC = 0x4a415354;
+    private static final int VERSION = 2;
+    private static final int COMMENTS = 1;
+    private static final int TOKENS = 2;
+    private static final int COMMENTED = 0x80;
+    private static final NodeKind[] KINDS = NodeKind.values();
+
+    static {
+        // the kind of a node and its comments flag share a byte
+        if (KINDS.length >= COMMENTED) {
+            throw new IllegalStateException("Too many node kinds for the binary AST header: " + KINDS.length + ".");
+        }
+    }
+
+    private BinaryAst() {
+    }
+
+    /**
+     * Writes a compilation unit with its comments.
+     */
+    public static void write(CompilationUnit cu, DataOutput out) throws IOException {
+        write(cu, Optional.empty(), true, out);
+    }
+
+    /**
+     * Writes the compilation unit of a parse result.
+     *
+     * @param comments whether to keep the comments of the tree.
+     * @param tokens whether to keep the tokens of the result, if it has them.
+     */
+    public static void write(ParseResult<CompilationUnit> result, boolean comments, boolean tokens, DataOutput out)
+            throws IOException {
+        CompilationUnit cu = assertNotNull(result).getResult()
+                .orElseThrow(() -> new IllegalArgumentException("The parse result has no compilation unit."));
+        write(cu, tokens ? result.getTokens() : Optional.empty(), comments, out);
+    }
+
+    private static void write(CompilationUnit cu, Optional<List<Token>> tokens, boolean comments, DataOutput out)
+            throws IOException {
+        assertNotNull(cu);
+        assertNotNull(out);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeByte((comments ? COMMENTS : 0) | (tokens.isPresent() ? TOKENS : 0));
+        Writer writer = new Writer(out, comments);
+        writer.node(cu);
+        if (tokens.isPresent()) {
+            writer.tokens(tokens.get());
+        }
+    }
+
+    /**
+     * Reads the next compilation unit from the buffer, which is left after its end. The buffer must be big-endian,
+     * which is the default.
+     *
+     * @return a result with the compilation unit, the tokens if they were written, and the comments of the tree if
+     * they were written.
+     */
+    public static ParseResult<CompilationUnit> read(ByteBuffer in) throws IOException {
+        assertNotNull(in);
+        try {
+            if (in.remaining() < 9 || in.getInt() != MAGIC) {
+                throw new IOException("Not a binary AST.");
+            }
+            int version = in.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported binary AST version " + version + ".");
+            }
+            int flags = in.get();
+            Reader reader = new Reader(in);
+            Node cu = reader.node();
+            if (!(cu instanceof CompilationUnit)) {
+                throw new IOException("Binary AST does not hold a compilation unit.");
+            }
+            Optional<List<Token>> tokens = (flags & TOKENS) != 0 ? Optional.of(reader.tokens()) : Optional.empty();
+            Optional<CommentsCollection> comments = (flags & COMMENTS) != 0 ?
+                    Optional.of(new CommentsCollection(reader.comments)) : Optional.empty();
+            return new ParseResult<>(Optional.of((CompilationUnit) cu), new ArrayList<>(), tokens, comments);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Binary AST is truncated.", e);
+        } catch (ClassCastException | IndexOutOfBoundsException e) {
+            // a node where another kind of node belongs, or an operator or primitive type that does not exist
+            throw new IOException("Binary AST is malformed.", e);
+        }
+    }
+
+    private static final class Writer {
+        private final DataOutput out;
+        private final boolean comments;
+        private final Map<String, Integer> strings = new HashMap<>();
+        private int line;
+
+        Writer(DataOutput out, boolean comments) {
+            this.out = out;
+            this.comments = comments;
+        }
+
+        void node(Optional<? extends Node> node) throws IOException {
+            node(node.orElse(null));
+        }
+
+        void node(Node node) throws IOException {
+            if (node == null) {
+                out.writeByte(0);
+                return;
+            }
+            NodeKind kind = node.getKind();
+            List<Comment> orphans = node.getOrphanComments();
+            boolean commented = comments && (node.getComment().isPresent() || !orphans.isEmpty());
+            out.writeByte(kind.ordinal() + 1 | (commented ? COMMENTED : 0));
+            Range range = node.getRange();
+            position(range.begin.line, range.begin.column, range.end.line, range.end.column);
+            if (commented) {
+                node(node.getComment());
+                varint(orphans.size());
+                for (Comment orphan : orphans) {
+                    node(orphan);
+                }
+            }
+            switch (kind) {
+                case COMPILATION_UNIT: {
+                    CompilationUnit n = (CompilationUnit) node;
+                    node(n.getPackage());
+                    list(n.getImports());
+                    list(n.getTypes());
+                    break;
+                }
+                case PACKAGE_DECLARATION: {
+                    PackageDeclaration n = (PackageDeclaration) node;
+                    list(n.getAnnotations());
+                    node(n.getName());
+                    break;
+                }
+                case TYPE_PARAMETER: {
+                    TypeParameter n = (TypeParameter) node;
+                    string(n.getName());
+                    list(n.getTypeBound());
+                    list(n.getAnnotations());
+                    break;
+                }
+                case LINE_COMMENT:
+                case BLOCK_COMMENT:
+                case JAVADOC_COMMENT:
+                    string(((Comment) node).getContent());
+                    break;
+                case CLASS_OR_INTERFACE_DECLARATION: {
+                    ClassOrInterfaceDeclaration n = (ClassOrInterfaceDeclaration) node;
+                    modifiers(n.getModifiers());
+                    list(n.getAnnotations());
+                    bool(n.isInterface());
+                    node(n.getNameExpr());
+                    list(n.getTypeParameters());
+                    list(n.getExtends());
+                    list(n.getImplements());
+                    list(n.getMembers());
+                    break;
+                }
+                case ENUM_DECLARATION: {
+                    EnumDeclaration n = (EnumDeclaration) node;
+                    modifiers(n.getModifiers());
+                    list(n.getAnnotations());
+                    node(n.getNameExpr());
+                    list(n.getImplements());
+                    list(n.getEntries());
+                    list(n.getMembers());
+                    break;
+                }
+                case ENUM_CONSTANT_DECLARATION: {
+                    EnumConstantDeclaration n = (EnumConstantDeclaration) node;
+                    list(n.getAnnotations());
+                    string(n.getName());
+                    list(n.getArgs());
+                    list(n.getClassBody());
+                    break;
+                }
+                case ANNOTATION_DECLARATION: {
+                    AnnotationDeclaration n = (AnnotationDeclaration) node;
+                    modifiers(n.getModifiers());
+                    list(n.getAnnotations());
+                    node(n.getNameExpr());
+                    list(n.getMembers());
+                    break;
+                }
+                case ANNOTATION_MEMBER_DECLARATION: {
+                    AnnotationMemberDeclaration n = (AnnotationMemberDeclaration) node;
+                    modifiers(n.getModifiers());
+                    list(n.getAnnotations());
+                    node(n.getType());
+                    string(n.getName());
+                    node(n.getDefaultValue());
+                    break;
+                }
+                case FIELD_DECLARATION: {
+                    FieldDeclaration n = (FieldDeclaration) node;
+                    modifiers(n.getModifiers());
+                    list(n.getAnnotations());
+                    node(n.getElementType());
+                    list(n.getVariables());
+                    list(n.getArrayBracketPairsAfterElementType());
+                    break;
+                }
+                case VARIABLE_DECLARATOR: {
+                    VariableDeclarator n = (VariableDeclarator) node;
+                    node(n.getId());
+                    node(n.getInit());
+                    break;
+                }
+                case VARIABLE_DECLARATOR_ID: {
+                    VariableDeclaratorId n = (VariableDeclaratorId) node;
+                    string(n.getName());
+                    list(n.getArrayBracketPairsAfterId());
+                    break;
+                }
+                case CONSTRUCTOR_DECLARATION: {
+                    ConstructorDeclaration n = (ConstructorDeclaration) node;
+                    modifiers(n.getModifiers());
+                    list(n.getAnnotations());
+                    list(n.getTypeParameters());
+                    node(n.getNameExpr());
+                    list(n.getParameters());
+                    list(n.getThrows());
+                    node(n.getBody());
+                    break;
+                }
+                case METHOD_DECLARATION: {
+                    MethodDeclaration n = (MethodDeclaration) node;
+                    modifiers(n.getModifiers());
+                    list(n.getAnnotations());
+                    list(n.getTypeParameters());
+                    node(n.getElementType());
+                    list(n.getArrayBracketPairsAfterElementType());
+                    node(n.getNameExpr());
+                    list(n.getParameters());
+                    list(n.getArrayBracketPairsAfterParameterList());
+                    list(n.getThrows());
+                    node(n.getBody());
+                    bool(n.isDefault());
+                    break;
+                }
+                case PARAMETER: {
+                    Parameter n = (Parameter) node;
+                    modifiers(n.getModifiers());
+                    list(n.getAnnotations());
+                    node(n.getElementType());
+                    list(n.getArrayBracketPairsAfterElementType());
+                    bool(n.isVarArgs());
+                    node(n.getId());
+                    break;
+                }
+                case INITIALIZER_DECLARATION: {
+                    InitializerDeclaration n = (InitializerDeclaration) node;
+                    bool(n.isStatic());
+                    node(n.getBlock());
+                    break;
+                }
+                case CLASS_OR_INTERFACE_TYPE: {
+                    ClassOrInterfaceType n = (ClassOrInterfaceType) node;
+                    node(n.getScope());
+                    string(n.getName());
+                    optionalList(n.getTypeArguments());
+                    list(n.getAnnotations());
+                    break;
+                }
+                case PRIMITIVE_TYPE: {
+                    PrimitiveType n = (PrimitiveType) node;
+                    varint(n.getType().ordinal());
+                    list(n.getAnnotations());
+                    break;
+                }
+                case ARRAY_TYPE: {
+                    ArrayType n = (ArrayType) node;
+                    list(n.getAnnotations());
+                    node(n.getComponentType());
+                    break;
+                }
+                case ARRAY_CREATION_LEVEL: {
+                    ArrayCreationLevel n = (ArrayCreationLevel) node;
+                    node(n.getDimension());
+                    list(n.getAnnotations());
+                    break;
+                }
+                case INTERSECTION_TYPE: {
+                    IntersectionType n = (IntersectionType) node;
+                    list(n.getElements());
+                    list(n.getAnnotations());
+                    break;
+                }
+                case UNION_TYPE: {
+                    UnionType n = (UnionType) node;
+                    list(n.getElements());
+                    list(n.getAnnotations());
+                    break;
+                }
+                case VOID_TYPE:
+                    list(((VoidType) node).getAnnotations());
+                    break;
+                case WILDCARD_TYPE: {
+                    WildcardType n = (WildcardType) node;
+                    node(n.getExtends());
+                    node(n.getSuper());
+                    list(n.getAnnotations());
+                    break;
+                }
+                case ARRAY_ACCESS_EXPR: {
+                    ArrayAccessExpr n = (ArrayAccessExpr) node;
+                    node(n.getName());
+                    node(n.getIndex());
+                    break;
+                }
+                case ARRAY_CREATION_EXPR: {
+                    ArrayCreationExpr n = (ArrayCreationExpr) node;
+                    node(n.getElementType());
+                    list(n.getLevels());
+                    node(n.getInitializer());
+                    break;
+                }
+                case ARRAY_INITIALIZER_EXPR:
+                    list(((ArrayInitializerExpr) node).getValues());
+                    break;
+                case ASSIGN_EXPR: {
+                    AssignExpr n = (AssignExpr) node;
+                    node(n.getTarget());
+                    node(n.getValue());
+                    varint(n.getOperator().ordinal());
+                    break;
+                }
+                case BINARY_EXPR: {
+                    BinaryExpr n = (BinaryExpr) node;
+                    node(n.getLeft());
+                    node(n.getRight());
+                    varint(n.getOperator().ordinal());
+                    break;
+                }
+                case CAST_EXPR: {
+                    CastExpr n = (CastExpr) node;
+                    node(n.getType());
+                    node(n.getExpr());
+                    break;
+                }
+                case CLASS_EXPR:
+                    node(((ClassExpr) node).getType());
+                    break;
+                case CONDITIONAL_EXPR: {
+                    ConditionalExpr n = (ConditionalExpr) node;
+                    node(n.getCondition());
+                    node(n.getThenExpr());
+                    node(n.getElseExpr());
+                    break;
+                }
+                case ENCLOSED_EXPR:
+                    node(((EnclosedExpr) node).getInner());
+                    break;
+                case FIELD_ACCESS_EXPR: {
+                    FieldAccessExpr n = (FieldAccessExpr) node;
+                    node(n.getScope());
+                    optionalList(n.getTypeArguments());
+                    node(n.getFieldExpr());
+                    break;
+                }
+                case INSTANCE_OF_EXPR: {
+                    InstanceOfExpr n = (InstanceOfExpr) node;
+                    node(n.getExpr());
+                    node(n.getType());
+                    break;
+                }
+                case STRING_LITERAL_EXPR:
+                case INTEGER_LITERAL_EXPR:
+                case LONG_LITERAL_EXPR:
+                case CHAR_LITERAL_EXPR:
+                case DOUBLE_LITERAL_EXPR:
+                    string(((StringLiteralExpr) node).getValue());
+                    break;
+                case BOOLEAN_LITERAL_EXPR:
+                    bool(((BooleanLiteralExpr) node).getValue());
+                    break;
+                case METHOD_CALL_EXPR: {
+                    MethodCallExpr n = (MethodCallExpr) node;
+                    node(n.getScope());
+                    optionalList(n.getTypeArguments());
+                    node(n.getNameExpr());
+                    list(n.getArgs());
+                    break;
+                }
+                case NAME_EXPR:
+                    string(((NameExpr) node).getName());
+                    break;
+                case OBJECT_CREATION_EXPR: {
+                    ObjectCreationExpr n = (ObjectCreationExpr) node;
+                    node(n.getScope());
+                    node(n.getType());
+                    optionalList(n.getTypeArguments());
+                    list(n.getArgs());
+                    optionalList(n.getAnonymousClassBody());
+                    break;
+                }
+                case QUALIFIED_NAME_EXPR: {
+                    QualifiedNameExpr n = (QualifiedNameExpr) node;
+                    node(n.getQualifier());
+                    string(n.getName());
+                    break;
+                }
+                case THIS_EXPR:
+                    node(((ThisExpr) node).getClassExpr());
+                    break;
+                case SUPER_EXPR:
+                    node(((SuperExpr) node).getClassExpr());
+                    break;
+                case UNARY_EXPR: {
+                    UnaryExpr n = (UnaryExpr) node;
+                    node(n.getExpr());
+                    varint(n.getOperator().ordinal());
+                    break;
+                }
+                case VARIABLE_DECLARATION_EXPR: {
+                    VariableDeclarationExpr n = (VariableDeclarationExpr) node;
+                    modifiers(n.getModifiers());
+                    list(n.getAnnotations());
+                    node(n.getElementType());
+                    list(n.getVariables());
+                    list(n.getArrayBracketPairsAfterElementType());
+                    break;
+                }
+                case MARKER_ANNOTATION_EXPR:
+                    node(((MarkerAnnotationExpr) node).getName());
+                    break;
+                case SINGLE_MEMBER_ANNOTATION_EXPR: {
+                    SingleMemberAnnotationExpr n = (SingleMemberAnnotationExpr) node;
+                    node(n.getName());
+                    node(n.getMemberValue());
+                    break;
+                }
+                case NORMAL_ANNOTATION_EXPR: {
+                    NormalAnnotationExpr n = (NormalAnnotationExpr) node;
+                    node(n.getName());
+                    list(n.getPairs());
+                    break;
+                }
+                case MEMBER_VALUE_PAIR: {
+                    MemberValuePair n = (MemberValuePair) node;
+                    string(n.getName());
+                    node(n.getValue());
+                    break;
+                }
+                case LAMBDA_EXPR: {
+                    LambdaExpr n = (LambdaExpr) node;
+                    list(n.getParameters());
+                    node(n.getBody());
+                    bool(n.isParametersEnclosed());
+                    break;
+                }
+                case METHOD_REFERENCE_EXPR: {
+                    MethodReferenceExpr n = (MethodReferenceExpr) node;
+                    node(n.getScope());
+                    optionalList(n.getTypeArguments());
+                    string(n.getIdentifier());
+                    break;
+                }
+                case TYPE_EXPR:
+                    node(((TypeExpr) node).getType());
+                    break;
+                case EXPLICIT_CONSTRUCTOR_INVOCATION_STMT: {
+                    ExplicitConstructorInvocationStmt n = (ExplicitConstructorInvocationStmt) node;
+                    optionalList(n.getTypeArguments());
+                    bool(n.isThis());
+                    node(n.getExpr());
+                    list(n.getArgs());
+                    break;
+                }
+                case TYPE_DECLARATION_STMT:
+                    node(((TypeDeclarationStmt) node).getTypeDeclaration());
+                    break;
+                case ASSERT_STMT: {
+                    AssertStmt n = (AssertStmt) node;
+                    node(n.getCheck());
+                    node(n.getMessage());
+                    break;
+                }
+                case BLOCK_STMT:
+                    list(((BlockStmt) node).getStmts());
+                    break;
+                case LABELED_STMT: {
+                    LabeledStmt n = (LabeledStmt) node;
+                    string(n.getLabel());
+                    node(n.getStmt());
+                    break;
+                }
+                case EXPRESSION_STMT:
+                    node(((ExpressionStmt) node).getExpression());
+                    break;
+                case SWITCH_STMT: {
+                    SwitchStmt n = (SwitchStmt) node;
+                    node(n.getSelector());
+                    list(n.getEntries());
+                    break;
+                }
+                case SWITCH_ENTRY_STMT: {
+                    SwitchEntryStmt n = (SwitchEntryStmt) node;
+                    node(n.getLabel());
+                    list(n.getStmts());
+                    break;
+                }
+                case BREAK_STMT:
+                    string(((BreakStmt) node).getId().orElse(null));
+                    break;
+                case CONTINUE_STMT:
+                    string(((ContinueStmt) node).getId().orElse(null));
+                    break;
+                case RETURN_STMT:
+                    node(((ReturnStmt) node).getExpr());
+                    break;
+                case IF_STMT: {
+                    IfStmt n = (IfStmt) node;
+                    node(n.getCondition());
+                    node(n.getThenStmt());
+                    node(n.getElseStmt());
+                    break;
+                }
+                case WHILE_STMT: {
+                    WhileStmt n = (WhileStmt) node;
+                    node(n.getCondition());
+                    node(n.getBody());
+                    break;
+                }
+                case DO_STMT: {
+                    DoStmt n = (DoStmt) node;
+                    node(n.getBody());
+                    node(n.getCondition());
+                    break;
+                }
+                case FOREACH_STMT: {
+                    ForeachStmt n = (ForeachStmt) node;
+                    node(n.getVariable());
+                    node(n.getIterable());
+                    node(n.getBody());
+                    break;
+                }
+                case FOR_STMT: {
+                    ForStmt n = (ForStmt) node;
+                    list(n.getInit());
+                    node(n.getCompare());
+                    list(n.getUpdate());
+                    node(n.getBody());
+                    break;
+                }
+                case THROW_STMT:
+                    node(((ThrowStmt) node).getExpr());
+                    break;
+                case SYNCHRONIZED_STMT: {
+                    SynchronizedStmt n = (SynchronizedStmt) node;
+                    node(n.getExpr());
+                    node(n.getBody());
+                    break;
+                }
+                case TRY_STMT: {
+                    TryStmt n = (TryStmt) node;
+                    list(n.getResources());
+                    node(n.getTryBlock());
+                    list(n.getCatchs());
+                    node(n.getFinallyBlock());
+                    break;
+                }
+                case CATCH_CLAUSE: {
+                    CatchClause n = (CatchClause) node;
+                    node(n.getParam());
+                    node(n.getBody());
+                    break;
+                }
+                case ARRAY_BRACKET_PAIR:
+                    list(((ArrayBracketPair) node).getAnnotations());
+                    break;
+                case SINGLE_STATIC_IMPORT_DECLARATION: {
+                    SingleStaticImportDeclaration n = (SingleStaticImportDeclaration) node;
+                    node(n.getType());
+                    string(n.getStaticMember());
+                    break;
+                }
+                case SINGLE_TYPE_IMPORT_DECLARATION:
+                    node(((SingleTypeImportDeclaration) node).getType());
+                    break;
+                case STATIC_IMPORT_ON_DEMAND_DECLARATION:
+                    node(((StaticImportOnDemandDeclaration) node).getType());
+                    break;
+                case TYPE_IMPORT_ON_DEMAND_DECLARATION:
+                    node(((TypeImportOnDemandDeclaration) node).getName());
+                    break;
+                case EMPTY_TYPE_DECLARATION:
+                case EMPTY_MEMBER_DECLARATION:
+                case EMPTY_IMPORT_DECLARATION:
+                case EMPTY_STMT:
+                case UNKNOWN_TYPE:
+                case INTEGER_LITERAL_MIN_VALUE_EXPR:
+                case LONG_LITERAL_MIN_VALUE_EXPR:
+                case NULL_LITERAL_EXPR:
+                    break;
+                default:
+                    throw new IllegalArgumentException("Cannot write a " + node.getClass().getSimpleName() + ".");
+            }
+        }
+
+        void list(NodeList<?> list) throws IOException {
+            varint(list.size());
+            for (Node element : list) {
+                node(element);
+            }
+        }
+
+        void optionalList(Optional<? extends NodeList<?>> list) throws IOException {
+            if (!list.isPresent()) {
+                varint(0);
+                return;
+            }
+            varint(list.get().size() + 1);
+            for (Node element : list.get()) {
+                node(element);
+            }
+        }
+
+        void tokens(List<Token> tokens) throws IOException {
+            varint(tokens.size());
+            for (Token token : tokens) {
+                varint(token.kind);
+                string(token.image);
+                position(token.beginLine, token.beginColumn, token.endLine, token.endColumn);
+            }
+        }
+
+        /**
+         * A byte with the lines from the previous position to the begin and from the begin to the end, four bits each,
+         * where 15 means that the number follows as a varint. Then the begin column, and the end column relative to
+         * the begin column if the range is on one line.
+         */
+        void position(int beginLine, int beginColumn, int endLine, int endColumn) throws IOException {
+            int lines = beginLine - line;
+            int length = endLine - beginLine;
+            out.writeByte(nibble(lines) << 4 | nibble(length));
+            if (nibble(lines) == 15) {
+                signed(lines);
+            }
+            if (nibble(length) == 15) {
+                signed(length);
+            }
+            varint(beginColumn);
+            signed(length == 0 ? endColumn - beginColumn : endColumn);
+            line = beginLine;
+        }
+
+        private static int nibble(int value) {
+            return value >= 0 && value < 15 ? value : 15;
+        }
+
+        void modifiers(EnumSet<Modifier> modifiers) throws IOException {
+            int bits = 0;
+            for (Modifier modifier : modifiers) {
+                bits |= 1 << modifier.ordinal();
+            }
+            varint(bits);
+        }
+
+        /**
+         * 0 for null, 1 for a new string followed by its UTF-8 length and bytes, or the index of a string that was
+         * written before plus 2.
+         */
+        void string(String string) throws IOException {
+            if (string == null) {
+                varint(0);
+                return;
+            }
+            Integer index = strings.get(string);
+            if (index != null) {
+                varint(index + 2);
+                return;
+            }
+            strings.put(string, strings.size());
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            varint(1);
+            varint(bytes.length);
+            out.write(bytes);
+        }
+
+        void bool(boolean value) throws IOException {
+            out.writeByte(value ? 1 : 0);
+        }
+
+        void signed(int value) throws IOException {
+            varint((value << 1) ^ (value >> 31));
+        }
+
+        void varint(int value) throws IOException {
+            while ((value & ~0x7f) != 0) {
+                out.writeByte((value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte(value);
+        }
+    }
+
+    private static final class Reader {
+        private static final Modifier[] MODIFIERS = Modifier.values();
+
+        private final ByteBuffer in;
+        private final List<String> strings = new ArrayList<>();
+        private final List<Comment> comments = new ArrayList<>();
+        private int line;
+
+        Reader(ByteBuffer in) {
+            this.in = in;
+        }
+
+        @SuppressWarnings("unchecked")
+        <N extends Node> Optional<N> optional() throws IOException {
+            return Optional.ofNullable((N) node());
+        }
+
+        @SuppressWarnings("unchecked")
+        <N extends Node> N child() throws IOException {
+            return (N) node();
+        }
+
+        Node node() throws IOException {
+            int header = in.get() & 0xff;
+            if (header == 0) {
+                return null;
+            }
+            int kindNumber = header & ~COMMENTED;
+            if (kindNumber == 0 || kindNumber > KINDS.length) {
+                throw new IOException("Unknown node kind " + kindNumber + " in binary AST.");
+            }
+            NodeKind kind = KINDS[kindNumber - 1];
+            Range range = range();
+            Optional<Comment> comment = Optional.empty();
+            List<Comment> orphans = emptyList();
+            if ((header & COMMENTED) != 0) {
+                comment = optional();
+                int orphanCount = varint();
+                if (orphanCount > 0) {
+                    orphans = new ArrayList<>(orphanCount);
+                    for (int i = 0; i < orphanCount; i++) {
+                        orphans.add(child());
+                    }
+                }
+            }
+            Node node = create(kind, range);
+            if (comment.isPresent()) {
+                node.setComment(comment);
+            }
+            for (Comment orphan : orphans) {
+                node.addOrphanComment(orphan);
+            }
+            if (node instanceof Comment) {
+                comments.add((Comment) node);
+            }
+            return node;
+        }
+
+        private Node create(NodeKind kind, Range range) throws IOException {
+            switch (kind) {
+                case COMPILATION_UNIT:
+                    return new CompilationUnit(range, optional(), list(), list());
+                case PACKAGE_DECLARATION:
+                    return new PackageDeclaration(range, list(), child());
+                case TYPE_PARAMETER:
+                    return new TypeParameter(range, string(), list(), list());
+                case LINE_COMMENT:
+                    return new LineComment(range, string());
+                case BLOCK_COMMENT:
+                    return new BlockComment(range, string());
+                case JAVADOC_COMMENT:
+                    return new JavadocComment(range, string());
+                case CLASS_OR_INTERFACE_DECLARATION:
+                    return new ClassOrInterfaceDeclaration(range, modifiers(), list(), bool(), child(), list(), list(),
+                            list(), list());
+                case ENUM_DECLARATION:
+                    return new EnumDeclaration(range, modifiers(), list(), child(), list(), list(), list());
+                case ENUM_CONSTANT_DECLARATION:
+                    return new EnumConstantDeclaration(range, list(), string(), list(), list());
+                case ANNOTATION_DECLARATION:
+                    return new AnnotationDeclaration(range, modifiers(), list(), child(), list());
+                case ANNOTATION_MEMBER_DECLARATION:
+                    return new AnnotationMemberDeclaration(range, modifiers(), list(), child(), string(), optional());
+                case FIELD_DECLARATION:
+                    return new FieldDeclaration(range, modifiers(), list(), child(), list(), list());
+                case VARIABLE_DECLARATOR:
+                    return new VariableDeclarator(range, child(), optional());
+                case VARIABLE_DECLARATOR_ID:
+                    return new VariableDeclaratorId(range, string(), list());
+                case CONSTRUCTOR_DECLARATION:
+                    return new ConstructorDeclaration(range, modifiers(), list(), list(), child(), list(), list(),
+                            child());
+                case METHOD_DECLARATION:
+                    return new MethodDeclaration(range, modifiers(), list(), list(), child(), list(), child(), list(),
+                            list(), list(), optional()).setDefault(bool());
+                case PARAMETER:
+                    return new Parameter(range, modifiers(), list(), child(), list(), bool(), child());
+                case INITIALIZER_DECLARATION:
+                    return new InitializerDeclaration(range, bool(), child());
+                case CLASS_OR_INTERFACE_TYPE:
+                    return annotated(new ClassOrInterfaceType(range, optional(), string(), optionalList()));
+                case PRIMITIVE_TYPE:
+                    return annotated(new PrimitiveType(range, PrimitiveType.Primitive.values()[varint()]));
+                case ARRAY_TYPE: {
+                    NodeList<AnnotationExpr> annotations = list();
+                    return new ArrayType(range, child(), annotations);
+                }
+                case ARRAY_CREATION_LEVEL:
+                    return new ArrayCreationLevel(range, optional(), list());
+                case INTERSECTION_TYPE:
+                    return annotated(new IntersectionType(range, list()));
+                case UNION_TYPE:
+                    return annotated(new UnionType(range, list()));
+                case VOID_TYPE:
+                    return annotated(new VoidType(range));
+                case WILDCARD_TYPE:
+                    return annotated(new WildcardType(range, optional(), optional()));
+                case UNKNOWN_TYPE:
+                    return new UnknownType().setRange(range);
+                case ARRAY_ACCESS_EXPR:
+                    return new ArrayAccessExpr(range, child(), child());
+                case ARRAY_CREATION_EXPR:
+                    return new ArrayCreationExpr(range, child(), list(), optional());
+                case ARRAY_INITIALIZER_EXPR:
+                    return new ArrayInitializerExpr(range, list());
+                case ASSIGN_EXPR:
+                    return new AssignExpr(range, child(), child(), AssignExpr.Operator.values()[varint()]);
+                case BINARY_EXPR:
+                    return new BinaryExpr(range, child(), child(), BinaryExpr.Operator.values()[varint()]);
+                case CAST_EXPR:
+                    return new CastExpr(range, child(), child());
+                case CLASS_EXPR:
+                    return new ClassExpr(range, child());
+                case CONDITIONAL_EXPR:
+                    return new ConditionalExpr(range, child(), child(), child());
+                case ENCLOSED_EXPR:
+                    return new EnclosedExpr(range, optional());
+                case FIELD_ACCESS_EXPR:
+                    return new FieldAccessExpr(range, child(), optionalList(), child());
+                case INSTANCE_OF_EXPR:
+                    return new InstanceOfExpr(range, child(), child());
+                case STRING_LITERAL_EXPR:
+                    return new StringLiteralExpr(range, string());
+                case INTEGER_LITERAL_EXPR:
+                    return new IntegerLiteralExpr(range, string());
+                case LONG_LITERAL_EXPR:
+                    return new LongLiteralExpr(range, string());
+                case CHAR_LITERAL_EXPR:
+                    return new CharLiteralExpr(range, string());
+                case DOUBLE_LITERAL_EXPR:
+                    return new DoubleLiteralExpr(range, string());
+                case BOOLEAN_LITERAL_EXPR:
+                    return new BooleanLiteralExpr(range, bool());
+                case INTEGER_LITERAL_MIN_VALUE_EXPR:
+                    return new IntegerLiteralMinValueExpr(range);
+                case LONG_LITERAL_MIN_VALUE_EXPR:
+                    return new LongLiteralMinValueExpr(range);
+                case NULL_LITERAL_EXPR:
+                    return new NullLiteralExpr(range);
+                case METHOD_CALL_EXPR:
+                    return new MethodCallExpr(range, optional(), optionalList(), child(), list());
+                case NAME_EXPR:
+                    return new NameExpr(range, string());
+                case OBJECT_CREATION_EXPR:
+                    return new ObjectCreationExpr(range, optional(), child(), optionalList(), list(), optionalList());
+                case QUALIFIED_NAME_EXPR:
+                    return new QualifiedNameExpr(range, child(), string());
+                case THIS_EXPR:
+                    return new ThisExpr(range, optional());
+                case SUPER_EXPR:
+                    return new SuperExpr(range, optional());
+                case UNARY_EXPR:
+                    return new UnaryExpr(range, child(), UnaryExpr.Operator.values()[varint()]);
+                case VARIABLE_DECLARATION_EXPR:
+                    return new VariableDeclarationExpr(range, modifiers(), list(), child(), list(), list());
+                case MARKER_ANNOTATION_EXPR:
+                    return new MarkerAnnotationExpr(range, child());
+                case SINGLE_MEMBER_ANNOTATION_EXPR:
+                    return new SingleMemberAnnotationExpr(range, child(), child());
+                case NORMAL_ANNOTATION_EXPR:
+                    return new NormalAnnotationExpr(range, child(), list());
+                case MEMBER_VALUE_PAIR:
+                    return new MemberValuePair(range, string(), child());
+                case LAMBDA_EXPR:
+                    return new LambdaExpr(range, list(), child(), bool());
+                case METHOD_REFERENCE_EXPR:
+                    return new MethodReferenceExpr(range, child(), optionalList(), string());
+                case TYPE_EXPR:
+                    return new TypeExpr(range, child());
+                case EXPLICIT_CONSTRUCTOR_INVOCATION_STMT:
+                    return new ExplicitConstructorInvocationStmt(range, optionalList(), bool(), optional(), list());
+                case TYPE_DECLARATION_STMT:
+                    return new TypeDeclarationStmt(range, child());
+                case ASSERT_STMT:
+                    return new AssertStmt(range, child(), optional());
+                case BLOCK_STMT:
+                    return new BlockStmt(range, list());
+                case LABELED_STMT:
+                    return new LabeledStmt(range, string(), child());
+                case EMPTY_STMT:
+                    return new EmptyStmt(range);
+                case EXPRESSION_STMT:
+                    return new ExpressionStmt(range, child());
+                case SWITCH_STMT:
+                    return new SwitchStmt(range, child(), list());
+                case SWITCH_ENTRY_STMT:
+                    return new SwitchEntryStmt(range, optional(), list());
+                case BREAK_STMT:
+                    return new BreakStmt(range, Optional.ofNullable(string()));
+                case CONTINUE_STMT:
+                    return new ContinueStmt(range, Optional.ofNullable(string()));
+                case RETURN_STMT:
+                    return new ReturnStmt(range, optional());
+                case IF_STMT:
+                    return new IfStmt(range, child(), child(), optional());
+                case WHILE_STMT:
+                    return new WhileStmt(range, child(), child());
+                case DO_STMT:
+                    return new DoStmt(range, child(), child());
+                case FOREACH_STMT:
+                    return new ForeachStmt(range, child(), child(), child());
+                case FOR_STMT:
+                    return new ForStmt(range, list(), optional(), list(), child());
+                case THROW_STMT:
+                    return new ThrowStmt(range, child());
+                case SYNCHRONIZED_STMT:
+                    return new SynchronizedStmt(range, child(), child());
+                case TRY_STMT:
+                    return new TryStmt(range, list(), child(), list(), optional());
+                case CATCH_CLAUSE:
+                    return new CatchClause(range, child(), child());
+                case ARRAY_BRACKET_PAIR:
+                    return new ArrayBracketPair(range, list());
+                case EMPTY_TYPE_DECLARATION:
+                    return new EmptyTypeDeclaration(range);
+                case EMPTY_MEMBER_DECLARATION:
+                    return new EmptyMemberDeclaration(range);
+                case EMPTY_IMPORT_DECLARATION:
+                    return new EmptyImportDeclaration(range);
+                case SINGLE_STATIC_IMPORT_DECLARATION:
+                    return new SingleStaticImportDeclaration(range, child(), string());
+                case SINGLE_TYPE_IMPORT_DECLARATION:
+                    return new SingleTypeImportDeclaration(range, child());
+                case STATIC_IMPORT_ON_DEMAND_DECLARATION:
+                    return new StaticImportOnDemandDeclaration(range, child());
+                case TYPE_IMPORT_ON_DEMAND_DECLARATION:
+                    return new TypeImportOnDemandDeclaration(range, child());
+                default:
+                    throw new IOException("Unexpected " + kind + " in binary AST.");
+            }
+        }
+
+        /**
+         * Reads the annotations of a type into the list it already has.
+         */
+        private Type<?> annotated(Type<?> type) throws IOException {
+            NodeList<AnnotationExpr> annotations = type.getAnnotations();
+            for (int i = varint(); i > 0; i--) {
+                annotations.add(child());
+            }
+            return type;
+        }
+
+        <N extends Node> NodeList<N> list() throws IOException {
+            return elements(varint());
+        }
+
+        <N extends Node> Optional<NodeList<N>> optionalList() throws IOException {
+            int size = varint();
+            return size == 0 ? Optional.empty() : Optional.of(elements(size - 1));
+        }
+
+        private <N extends Node> NodeList<N> elements(int size) throws IOException {
+            NodeList<N> list = new NodeList<>();
+            for (int i = 0; i < size; i++) {
+                list.add(child());
+            }
+            return list;
+        }
+
+        List<Token> tokens() throws IOException {
+            int size = varint();
+            List<Token> tokens = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                Token token = new Token(varint(), string());
+                Range range = range();
+                token.beginLine = range.begin.line;
+                token.beginColumn = range.begin.column;
+                token.endLine = range.end.line;
+                token.endColumn = range.end.column;
+                tokens.add(token);
+            }
+            return tokens;
+        }
+
+        private Range range() throws IOException {
+            int shape = in.get() & 0xff;
+            int lines = shape >>> 4;
+            int length = shape & 0xf;
+            if (lines == 15) {
+                lines = signed();
+            }
+            if (length == 15) {
+                length = signed();
+            }
+            int beginLine = line += lines;
+            int beginColumn = varint();
+            int endLine = beginLine + length;
+            int endColumn = signed() + (length == 0 ? beginColumn : 0);
+            if (beginLine == 0 && beginColumn == 0 && endLine == 0 && endColumn == 0) {
+                return Range.UNKNOWN;
+            }
+            return Range.range(beginLine, beginColumn, endLine, endColumn);
+        }
+
+        private EnumSet<Modifier> modifiers() throws IOException {
+            int bits = varint();
+            EnumSet<Modifier> modifiers = EnumSet.noneOf(Modifier.class);
+            for (Modifier modifier : MODIFIERS) {
+                if ((bits & 1 << modifier.ordinal()) != 0) {
+                    modifiers.add(modifier);
+                }
+            }
+            return modifiers;
+        }
+
+        private String string() throws IOException {
+            int reference = varint();
+            if (reference == 0) {
+                return null;
+            }
+            if (reference > 1) {
+                if (reference - 2 >= strings.size()) {
+                    throw new IOException("Unknown string " + (reference - 2) + " in binary AST.");
+                }
+                return strings.get(reference - 2);
+            }
+            int length = varint();
+            if (length > in.remaining()) {
+                throw new IOException("Binary AST is truncated.");
+            }
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            String string = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(string);
+            return string;
+        }
+
+        private boolean bool() {
+            return in.get() != 0;
+        }
+
+        private int signed() throws IOException {
+            int value = varint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private int varint() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = in.get();
+                value |= (b & 0x7f) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint in binary AST.");
+        }
+    }
+}
@@ -27,14 +27,22 @@ import com.github.javaparser.ast.comments.Comment;
 import com.github.javaparser.ast.comments.LineComment;
 import com.github.javaparser.utils.PositionUtils;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 
-import static com.github.javaparser.ast.Node.NODE_BY_BEGIN_POSITION;
 import static com.github.javaparser.utils.Utils.some;
 
 /**
  * Assigns comments to nodes of the AST.
- * 
+ * <p>
+ * Every node is visited once. Its children and the comments within it are both sorted by position, so the comments
+ * inside each child are found by walking both lists together, and the comments that precede a child are found by
+ * merging the lists instead of sorting them together.
+ *
  * @author Sebastian Kuerten
  * @author Júlio Vilmar Gesser
  */
@@ -44,44 +52,25 @@ class CommentsInserter {
     CommentsInserter(ParserConfiguration configuration) {
         this.configuration = configuration;
     }
-    
+
     /**
-     * Comments are attributed to the thing they comment and are removed from
-     * the comments.
+     * Attributes the comments to the node and its descendants, or adds them as orphans.
+     * The set of comments is not changed.
      */
-    private void insertComments(CompilationUnit cu, TreeSet<Comment> comments) {
-        if (comments.isEmpty())
-            return;
-
-        /* I should sort all the direct children and the comments, if a comment
-         is the first thing then it
-         a comment to the CompilationUnit */
-
-        // FIXME if there is no package it could be also a comment to the following class...
-        // so I could use some heuristics in these cases to distinguish the two
-        // cases
-
-        List<Node> children = cu.getBackwardsCompatibleChildrenNodes();
-
-        Comment firstComment = comments.iterator().next();
-        if (cu.getPackage().isPresent()
-                && (children.isEmpty() || PositionUtils.areInOrder(
-                firstComment, cu.getPackage().get()))) {
-            cu.setComment(some(firstComment));
-            comments.remove(firstComment);
-        }
+    void insertComments(Node node, TreeSet<Comment> commentsToAttribute) {
+        insertComments(node, new ArrayList<>(commentsToAttribute));
     }
 
     /**
-     * This method try to attributes the nodes received to child of the node. It
-     * returns the node that were not attributed.
+     * @param comments the comments within the node, sorted by begin position. Attributed comments are removed.
      */
-    void insertComments(Node node, TreeSet<Comment> commentsToAttribute) {
-        if (commentsToAttribute.isEmpty())
+    void insertComments(Node node, List<Comment> comments) {
+        if (comments.isEmpty())
             return;
-        
-        if(node instanceof CompilationUnit){
-            insertComments((CompilationUnit)node, commentsToAttribute);
+
+        List<Node> children = node.getBackwardsCompatibleChildrenNodes();
+        if (node instanceof CompilationUnit) {
+            insertComments((CompilationUnit) node, children, comments);
         }
 
         // the comments can:
@@ -92,77 +81,103 @@ class CommentsInserter {
         // if they preceed a child they are assigned to it, otherweise they
         // remain "orphans"
 
-        List<Node> children = node.getBackwardsCompatibleChildrenNodes();
-
+        boolean[] taken = new boolean[comments.size()];
         for (Node child : children) {
-            TreeSet<Comment> commentsInsideChild = new TreeSet<>(NODE_BY_BEGIN_POSITION);
-            for (Comment c : commentsToAttribute) {
-                if (PositionUtils.nodeContains(child, c,
+            List<Comment> commentsInsideChild = new ArrayList<>();
+            // a comment inside the child begins within it
+            for (int i = firstBeginningAtOrAfter(comments, child.getBegin());
+                 i < comments.size() && !isAfter(comments.get(i).getBegin(), child.getEnd()); i++) {
+                if (!taken[i] && PositionUtils.nodeContains(child, comments.get(i),
                         configuration.doNotConsiderAnnotationsAsNodeStartForCodeAttribution)) {
-                    commentsInsideChild.add(c);
+                    commentsInsideChild.add(comments.get(i));
+                    taken[i] = true;
                 }
             }
-            commentsToAttribute.removeAll(commentsInsideChild);
             insertComments(child, commentsInsideChild);
         }
+        comments = remaining(comments, taken);
+        if (comments.isEmpty())
+            return;
 
         /* I can attribute in line comments to elements preceeding them, if
          there is something contained in their line */
-        List<Comment> attributedComments = new LinkedList<>();
-        for (Comment comment : commentsToAttribute) {
+        Map<Integer, List<Node>> childrenByEndLine = null;
+        taken = new boolean[comments.size()];
+        for (int i = 0; i < comments.size(); i++) {
+            Comment comment = comments.get(i);
             if (comment.isLineComment()) {
-                for (Node child : children) {
-                    if (child.getEnd().line == comment.getBegin().line
-                        && attributeLineCommentToNodeOrChild(child,
-                                comment.asLineComment())) {
-                            attributedComments.add(comment);
+                if (childrenByEndLine == null) {
+                    childrenByEndLine = new HashMap<>();
+                    for (Node child : children) {
+                        childrenByEndLine.computeIfAbsent(child.getEnd().line, line -> new ArrayList<>()).add(child);
+                    }
+                }
+                for (Node child : childrenByEndLine.getOrDefault(comment.getBegin().line, Collections.emptyList())) {
+                    if (attributeLineCommentToNodeOrChild(child, comment.asLineComment())) {
+                        taken[i] = true;
                     }
                 }
             }
         }
-        commentsToAttribute.removeAll(attributedComments);
+        comments = remaining(comments, taken);
 
-        /* at this point I create an ordered list of all remaining comments and
-         children */
-        Comment previousComment = null;
-        attributedComments = new LinkedList<>();
-        List<Node> childrenAndComments = new LinkedList<>();
-        for (Node child : children) {
-            // Avoid attributing comments to a meaningless container.
-            childrenAndComments.add(child);
+        /* at this point I walk all remaining comments and children in order */
+        if (configuration.doNotConsiderAnnotationsAsNodeStartForCodeAttribution) {
+            children = new ArrayList<>(children);
+            PositionUtils.sortByBeginPosition(children, true);
         }
-        childrenAndComments.addAll(commentsToAttribute);
-        PositionUtils.sortByBeginPosition(childrenAndComments,
-                configuration.doNotConsiderAnnotationsAsNodeStartForCodeAttribution);
-
-        for (Node thing : childrenAndComments) {
-            if (thing instanceof Comment) {
-                previousComment = (Comment) thing;
-                if (!previousComment.isOrphan()) {
-                    previousComment = null;
-                }
-            } else {
-                if (previousComment != null && !thing.getComment().isPresent()) {
-                    if (!configuration.doNotAssignCommentsPrecedingEmptyLines
-                            || !thereAreLinesBetween(previousComment, thing)) {
-                        thing.setComment(some(previousComment));
-                        attributedComments.add(previousComment);
-                        previousComment = null;
-                    }
+        taken = new boolean[comments.size()];
+        int previousComment = -1;
+        int nextComment = 0;
+        for (Node child : children) {
+            // comments that begin at the same position as the child come after it
+            while (nextComment < comments.size()
+                    && !PositionUtils.areInOrder(child, comments.get(nextComment),
+                    configuration.doNotConsiderAnnotationsAsNodeStartForCodeAttribution)) {
+                previousComment = comments.get(nextComment).isOrphan() ? nextComment : -1;
+                nextComment++;
+            }
+            if (previousComment != -1 && !child.getComment().isPresent()) {
+                Comment comment = comments.get(previousComment);
+                if (!configuration.doNotAssignCommentsPrecedingEmptyLines
+                        || !thereAreLinesBetween(comment, child)) {
+                    child.setComment(some(comment));
+                    taken[previousComment] = true;
+                    previousComment = -1;
                 }
             }
         }
 
-        commentsToAttribute.removeAll(attributedComments);
-
         // all the remaining are orphan nodes
-        for (Comment c : commentsToAttribute) {
+        for (Comment c : remaining(comments, taken)) {
             if (c.isOrphan()) {
                 node.addOrphanComment(c);
             }
         }
     }
 
+    /**
+     * Comments are attributed to the thing they comment and are removed from
+     * the comments.
+     */
+    private void insertComments(CompilationUnit cu, List<Node> children, List<Comment> comments) {
+        /* I should sort all the direct children and the comments, if a comment
+         is the first thing then it
+         a comment to the CompilationUnit */
+
+        // FIXME if there is no package it could be also a comment to the following class...
+        // so I could use some heuristics in these cases to distinguish the two
+        // cases
+
+        Comment firstComment = comments.get(0);
+        if (cu.getPackage().isPresent()
+                && (children.isEmpty() || PositionUtils.areInOrder(
+                firstComment, cu.getPackage().get()))) {
+            cu.setComment(some(firstComment));
+            comments.remove(0);
+        }
+    }
+
     private boolean attributeLineCommentToNodeOrChild(Node node, LineComment lineComment) {
         // The node start and end at the same line as the comment,
         // let's give to it the comment
@@ -175,13 +190,14 @@ class CommentsInserter {
         } else {
             // try with all the children, sorted by reverse position (so the
             // first one is the nearest to the comment
-            List<Node> children = new LinkedList<Node>();
-            children.addAll(node.getChildrenNodes());
-            PositionUtils.sortByBeginPosition(children);
-            Collections.reverse(children);
+            List<Node> children = node.getChildrenNodes();
+            if (!isSortedByBeginPosition(children)) {
+                children = new ArrayList<>(children);
+                PositionUtils.sortByBeginPosition(children);
+            }
 
-            for (Node child : children) {
-                if (attributeLineCommentToNodeOrChild(child, lineComment)) {
+            for (int i = children.size() - 1; i >= 0; i--) {
+                if (attributeLineCommentToNodeOrChild(children.get(i), lineComment)) {
                     return true;
                 }
             }
@@ -198,4 +214,44 @@ class CommentsInserter {
         return b.getBegin().line > (endOfA + 1);
     }
 
+    private static boolean isSortedByBeginPosition(List<Node> nodes) {
+        for (int i = 1; i < nodes.size(); i++) {
+            if (!PositionUtils.areInOrder(nodes.get(i - 1), nodes.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Comment> remaining(List<Comment> comments, boolean[] taken) {
+        List<Comment> remaining = new ArrayList<>(comments.size());
+        for (int i = 0; i < comments.size(); i++) {
+            if (!taken[i]) {
+                remaining.add(comments.get(i));
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * @return the index of the first comment that begins at or after the position.
+     */
+    private static int firstBeginningAtOrAfter(List<Comment> comments, Position position) {
+        int low = 0;
+        int high = comments.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            Position begin = comments.get(middle).getBegin();
+            if (begin.line < position.line || (begin.line == position.line && begin.column < position.column)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static boolean isAfter(Position position, Position other) {
+        return position.line > other.line || (position.line == other.line && position.column > other.column);
+    }
 }
@@ -23,8 +23,10 @@ package com.github.javaparser;
 
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.StructuralHash;
 import com.github.javaparser.ast.imports.ImportDeclaration;
 import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.comments.Comment;
 import com.github.javaparser.ast.comments.CommentsCollection;
 import com.github.javaparser.ast.expr.AnnotationExpr;
 import com.github.javaparser.ast.expr.Expression;
@@ -34,7 +36,9 @@ import com.github.javaparser.ast.stmt.Statement;
 import java.io.*;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.TreeSet;
 
 import static com.github.javaparser.ParseStart.*;
 import static com.github.javaparser.Providers.UTF8;
@@ -47,8 +51,14 @@ import static com.github.javaparser.utils.Utils.assertNotNull;
  * @author Júlio Vilmar Gesser
  */
 public final class JavaParser {
+	private final ParserConfiguration configuration;
 	private final CommentsInserter commentsInserter;
 
+	/**
+	 * The parsers behind the static methods, one per thread, so repeated calls reuse the parser and token manager.
+	 */
+	private static final ThreadLocal<JavaParser> THREAD_PARSERS = ThreadLocal.withInitial(JavaParser::new);
+
 	private ASTParser astParser = null;
 
 	/**
@@ -64,15 +74,26 @@ public final class JavaParser {
 	 * Creating an instance will reduce setup time between parsing files.
 	 */
 	public JavaParser(ParserConfiguration configuration) {
+		this.configuration = configuration;
 		commentsInserter = new CommentsInserter(configuration);
 	}
 
+	/**
+	 * Returns a parser with the default configuration for the calling thread.
+	 * It is the same instance on every call from a thread, and it must not be handed to other threads.
+	 * This is what the static parse methods use.
+	 */
+	public static JavaParser forCurrentThread() {
+		return THREAD_PARSERS.get();
+	}
+
 	private ASTParser getParserForProvider(Provider provider) {
 		if (astParser == null) {
 			astParser = new ASTParser(provider);
 		} else {
-			astParser.ReInit(provider);
+			astParser.reset(provider);
 		}
+		astParser.configure(configuration);
 		return astParser;
 	}
 
@@ -92,10 +113,20 @@ public final class JavaParser {
 		try {
             final ASTParser parser = getParserForProvider(provider);
 			N resultNode = start.parse(parser);
-            final CommentsCollection comments = astParser.getCommentsCollection();
-            commentsInserter.insertComments(resultNode, comments.copy().getComments());
-            
-			return new ParseResult<>(Optional.of(resultNode), parser.problems, Optional.of(astParser.getTokens()), Optional.of(astParser.getCommentsCollection()));
+            final CommentsCollection comments = parser.getCommentsCollection();
+            if (configuration.collectComments && configuration.attributeComments) {
+                commentsInserter.insertComments(resultNode, commentsOutsideOf(parser.unparsedBodies, comments.getComments()));
+            }
+            if (configuration.computeStructuralHashes) {
+                StructuralHash.compute(resultNode);
+            }
+            if (configuration.indexNodesByType && resultNode instanceof CompilationUnit) {
+                ((CompilationUnit) resultNode).indexNodes();
+            }
+
+			return new ParseResult<>(Optional.of(resultNode), parser.problems,
+					configuration.storeTokens ? Optional.of(parser.getTokens()) : Optional.empty(),
+					configuration.collectComments ? Optional.of(comments) : Optional.empty());
 		} catch (Exception e) {
 			return new ParseResult<>(e);
 		} finally {
@@ -107,6 +138,34 @@ public final class JavaParser {
 		}
 	}
 
+	/**
+	 * Hands the comments within bodies that were not parsed to those bodies, to be attributed when they are parsed.
+	 *
+	 * @param bodies the bodies that were not parsed, in the order they appear in the source.
+	 * @return the other comments.
+	 */
+	private TreeSet<Comment> commentsOutsideOf(List<UnparsedBody> bodies, TreeSet<Comment> comments) {
+		if (bodies.isEmpty()) {
+			return comments;
+		}
+		TreeSet<Comment> outside = new TreeSet<>(comments.comparator());
+		int b = 0;
+		for (Comment comment : comments) {
+			while (b < bodies.size() && bodies.get(b).getRange().end.isBefore(comment.getBegin())) {
+				b++;
+			}
+			if (b < bodies.size() && bodies.get(b).getRange().contains(comment.getRange())) {
+				bodies.get(b).addComment(comment);
+			} else {
+				outside.add(comment);
+			}
+		}
+		for (UnparsedBody body : bodies) {
+			body.attributeComments(commentsInserter);
+		}
+		return outside;
+	}
+
 	/**
 	 * Parses the Java code contained in the {@link InputStream} and returns a
 	 * {@link CompilationUnit} that represents it.
@@ -238,7 +297,7 @@ public final class JavaParser {
 	}
 
 	private static <T extends Node> T simplifiedParse(ParseStart<T> context, Provider provider) {
-		ParseResult<T> result = new JavaParser(new ParserConfiguration()).parse(context, provider);
+		ParseResult<T> result = forCurrentThread().parse(context, provider);
 		if (result.isSuccessful()) {
 			return result.getResult().get();
 		}
@@ -0,0 +1,222 @@
+package com.github.javaparser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static com.github.javaparser.ASTParserConstants.*;
+import static com.github.javaparser.Providers.provider;
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * Turns source code into tokens without building an AST, for callers that only need the tokens, like token based
+ * clone detection.
+ * <p>
+ * Only the lexer runs, and a light scanner over the tokens marks where the methods and constructors with a body are.
+ * The scanner follows the braces: a body is a "{" after the ")" of a parameter list (and an optional throws clause)
+ * inside a class, interface or enum body. It does not check the syntax, so on code that does not compile it may find
+ * other boundaries than the parser would.
+ * <p>
+ * Like {@link JavaParser}, an instance reuses its lexer between calls and must not be shared between threads.
+ */
+public final class JavaTokenizer {
+    private JavaCharStream stream;
+    private ASTParserTokenManager tokenManager;
+
+    public TokenizeResult tokenize(String code) {
+        return tokenize(provider(code));
+    }
+
+    public TokenizeResult tokenize(Provider provider) {
+        assertNotNull(provider);
+        List<Problem> problems = new ArrayList<>();
+        try {
+            if (tokenManager == null) {
+                stream = new JavaCharStream(provider);
+                tokenManager = new ASTParserTokenManager(stream);
+                // only the tokens are used, so comments are not turned into nodes; this survives the resets
+                tokenManager.configure(true, false);
+            } else {
+                stream.ReInit(provider, 1, 1);
+                tokenManager.ReInit(stream);
+                tokenManager.reset();
+            }
+            while (tokenManager.getNextToken().kind != EOF) {
+                // the token manager collects the tokens
+            }
+        } catch (TokenMgrException e) {
+            problems.add(new Problem(e.getMessage(), Optional.empty(), Optional.of(e)));
+        } finally {
+            try {
+                provider.close();
+            } catch (IOException e) {
+                // we have read everything we need
+            }
+        }
+        List<Token> tokens = tokenManager.getTokens();
+        return new TokenizeResult(tokens, new MethodScanner(tokens).scan(), problems);
+    }
+
+    /**
+     * Finds method bodies by following the braces and parentheses of a token list.
+     */
+    private static final class MethodScanner {
+        private static final int OTHER = 0;
+        private static final int TYPE_BODY = 1;
+        private static final int ENUM_BODY = 2;
+        private static final int METHOD_BODY = 3;
+
+        private final List<Token> tokens;
+        private final int[] openingParenthesis;
+        private final int[] braceKinds;
+        private final int[] braceTokens;
+        private final int[] methodNames;
+
+        MethodScanner(List<Token> tokens) {
+            this.tokens = tokens;
+            this.openingParenthesis = new int[tokens.size()];
+            this.braceKinds = new int[tokens.size() + 1];
+            this.braceTokens = new int[tokens.size() + 1];
+            this.methodNames = new int[tokens.size() + 1];
+        }
+
+        List<MethodBoundary> scan() {
+            List<MethodBoundary> methods = new ArrayList<>();
+            int[] parentheses = new int[tokens.size()];
+            int parenthesisDepth = 0;
+            int braceDepth = 0;
+            int pendingType = OTHER;
+            for (int i = 0; i < tokens.size(); i++) {
+                switch (kind(i)) {
+                    case LPAREN:
+                        parentheses[parenthesisDepth++] = i;
+                        break;
+                    case RPAREN:
+                        openingParenthesis[i] = parenthesisDepth > 0 ? parentheses[--parenthesisDepth] : -1;
+                        break;
+                    case CLASS:
+                    case INTERFACE:
+                    case ENUM:
+                        // Foo.class is a literal, not a declaration
+                        if (kind(i - 1) != DOT) {
+                            pendingType = kind(i) == ENUM ? ENUM_BODY : TYPE_BODY;
+                        }
+                        break;
+                    case LBRACE:
+                        int enclosing = braceDepth == 0 ? OTHER : braceKinds[braceDepth - 1];
+                        braceKinds[braceDepth] = pendingType != OTHER ? pendingType : classify(i, enclosing);
+                        braceTokens[braceDepth] = i;
+                        if (braceKinds[braceDepth] == METHOD_BODY) {
+                            methodNames[braceDepth] = methodName(i);
+                        }
+                        braceDepth++;
+                        pendingType = OTHER;
+                        break;
+                    case RBRACE:
+                        if (braceDepth > 0) {
+                            braceDepth--;
+                            if (braceKinds[braceDepth] == METHOD_BODY) {
+                                methods.add(boundary(methodNames[braceDepth], braceTokens[braceDepth], i));
+                            }
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+            methods.sort(Comparator.comparingInt(MethodBoundary::getFirstToken));
+            return methods;
+        }
+
+        /**
+         * @return what the "{" at this index opens, when it is not the body of a type declaration.
+         */
+        private int classify(int brace, int enclosing) {
+            int before = skipThrowsClause(brace - 1);
+            if (kind(before) == RPAREN && openingParenthesis[before] > 0) {
+                int name = openingParenthesis[before] - 1;
+                if (kind(name) == GT) {
+                    // new Foo<Bar>() {
+                    return TYPE_BODY;
+                }
+                if (kind(name) != IDENTIFIER) {
+                    // if, for, while, catch...
+                    return OTHER;
+                }
+                if (kind(name - 1) == NEW || kind(name - 1) == DOT) {
+                    // an anonymous class
+                    return TYPE_BODY;
+                }
+                if (enclosing == ENUM_BODY && (kind(name - 1) == COMMA || kind(name - 1) == LBRACE)) {
+                    // an enum constant with arguments and a body
+                    return TYPE_BODY;
+                }
+                return enclosing == TYPE_BODY || enclosing == ENUM_BODY ? METHOD_BODY : OTHER;
+            }
+            if (enclosing == ENUM_BODY && kind(before) == IDENTIFIER
+                    && (kind(before - 1) == COMMA || kind(before - 1) == LBRACE)) {
+                // an enum constant with a body
+                return TYPE_BODY;
+            }
+            return OTHER;
+        }
+
+        /**
+         * @return the index of the token before the throws clause that ends at this index, or the index itself.
+         */
+        private int skipThrowsClause(int end) {
+            int i = end;
+            while (i >= 0) {
+                switch (kind(i)) {
+                    case IDENTIFIER:
+                    case DOT:
+                    case COMMA:
+                    case LT:
+                    case GT:
+                    case HOOK:
+                    case EXTENDS:
+                    case SUPER:
+                    case AT:
+                        i--;
+                        continue;
+                    case THROWS:
+                        return i - 1;
+                    default:
+                        return end;
+                }
+            }
+            return end;
+        }
+
+        private int methodName(int brace) {
+            return openingParenthesis[skipThrowsClause(brace - 1)] - 1;
+        }
+
+        private MethodBoundary boundary(int name, int body, int end) {
+            // the declaration starts after the previous ";", "{" or "}" outside of annotation arguments
+            int first = name;
+            int depth = 0;
+            for (int i = name - 1; i >= 0; i--) {
+                int kind = kind(i);
+                if (kind == RPAREN) {
+                    depth++;
+                } else if (kind == LPAREN) {
+                    depth--;
+                } else if (depth == 0 && (kind == SEMICOLON || kind == LBRACE || kind == RBRACE)) {
+                    break;
+                }
+                first = i;
+            }
+            Token begin = tokens.get(first);
+            Token last = tokens.get(end);
+            return new MethodBoundary(tokens.get(name).image, first, body, end,
+                    Range.range(begin.beginLine, begin.beginColumn, last.endLine, last.endColumn));
+        }
+
+        private int kind(int index) {
+            return index < 0 || index >= tokens.size() ? -1 : tokens.get(index).kind;
+        }
+    }
+}
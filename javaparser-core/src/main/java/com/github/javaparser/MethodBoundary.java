@@ -0,0 +1,60 @@
+package com.github.javaparser;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * Where a method or constructor with a body lies in a list of tokens, as found by {@link JavaTokenizer}.
+ * The indexes point into {@link TokenizeResult#getTokens()}.
+ */
+public final class MethodBoundary {
+    private final String name;
+    private final int firstToken;
+    private final int bodyToken;
+    private final int lastToken;
+    private final Range range;
+
+    MethodBoundary(String name, int firstToken, int bodyToken, int lastToken, Range range) {
+        this.name = assertNotNull(name);
+        this.firstToken = firstToken;
+        this.bodyToken = bodyToken;
+        this.lastToken = lastToken;
+        this.range = assertNotNull(range);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the index of the first token of the declaration: its first annotation, modifier or type.
+     */
+    public int getFirstToken() {
+        return firstToken;
+    }
+
+    /**
+     * @return the index of the "{" that opens the body.
+     */
+    public int getBodyToken() {
+        return bodyToken;
+    }
+
+    /**
+     * @return the index of the "}" that closes the body.
+     */
+    public int getLastToken() {
+        return lastToken;
+    }
+
+    /**
+     * @return the range from the first token of the declaration to the end of its body.
+     */
+    public Range getRange() {
+        return range;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + range;
+    }
+}
@@ -0,0 +1,166 @@
+package com.github.javaparser;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.utils.Pair;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.github.javaparser.ParseStart.COMPILATION_UNIT;
+import static com.github.javaparser.Providers.provider;
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * Parses many source files at once, spread over the threads of a fork/join pool.
+ * <p>
+ * Results are delivered as a stream while the files are still being parsed. Only a window of files, a few per
+ * thread, is parsed ahead of the one the stream is waiting for, so memory does not grow with the number of files and
+ * the first results are there long before the last file is parsed. Every worker thread keeps its own
+ * {@link JavaParser}, so the parser and token manager are set up once per thread instead of once per file.
+ */
+public final class ParallelParser {
+    /**
+     * Every thread has about this many files waiting for it, so it does not run idle while the stream waits for a
+     * large file.
+     */
+    private static final int FILES_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    private final ThreadLocal<JavaParser> parsers;
+
+    /**
+     * Creates a parser that uses all available processors.
+     */
+    public ParallelParser(ParserConfiguration configuration) {
+        this(configuration, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param parallelism the number of worker threads.
+     */
+    public ParallelParser(ParserConfiguration configuration, int parallelism) {
+        assertNotNull(configuration);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, not " + parallelism);
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.parsers = ThreadLocal.withInitial(() -> new JavaParser(configuration));
+    }
+
+    /**
+     * Parses every file below the source root with a name that ends in the suffix, like ".java".
+     *
+     * @return the paths with their parse results, in path order.
+     * @throws IOException when the source root can not be read.
+     */
+    public Stream<Pair<Path, ParseResult<CompilationUnit>>> parse(Path sourceRoot, String suffix) throws IOException {
+        return parse(findSourceFiles(sourceRoot, suffix));
+    }
+
+    /**
+     * Finds the files below the source root, or the source root itself if it is a file, with a name that ends in the
+     * suffix, like ".java".
+     *
+     * @return the files in path order.
+     * @throws IOException when the source root can not be read.
+     */
+    public static List<Path> findSourceFiles(Path sourceRoot, String suffix) throws IOException {
+        try (Stream<Path> paths = Files.walk(sourceRoot)) {
+            return paths
+                    .filter(Files::isRegularFile)
+                    .filter(path -> path.toString().endsWith(suffix))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Parses the files in parallel. A file that can not be read gives a parse result with the reason as its problem.
+     * Files are parsed as the stream is consumed; closing the stream cancels the files that are still being parsed.
+     *
+     * @return the paths with their parse results, in the order of the files.
+     */
+    public Stream<Pair<Path, ParseResult<CompilationUnit>>> parse(Collection<Path> files) {
+        Window window = new Window(files.toArray(new Path[files.size()]));
+        return StreamSupport.stream(Spliterators.spliterator(window, window.paths.length,
+                Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(window::cancel);
+    }
+
+    /**
+     * Stops the worker threads. The parser can not be used afterwards.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private ParseResult<CompilationUnit> parse(Path file) {
+        try {
+            return parsers.get().parse(COMPILATION_UNIT, provider(file));
+        } catch (IOException e) {
+            return new ParseResult<>(e);
+        }
+    }
+
+    /**
+     * Hands out the results in the order of the files, and keeps the pool busy with the files after the next one.
+     */
+    private final class Window implements Iterator<Pair<Path, ParseResult<CompilationUnit>>> {
+        private final Path[] paths;
+        private final Deque<ForkJoinTask<ParseResult<CompilationUnit>>> running = new ArrayDeque<>();
+        private final int size = pool.getParallelism() * FILES_PER_THREAD;
+        private int submitted = 0;
+        private int delivered = 0;
+
+        Window(Path[] paths) {
+            this.paths = paths;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delivered < paths.length;
+        }
+
+        @Override
+        public Pair<Path, ParseResult<CompilationUnit>> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            fill();
+            ParseResult<CompilationUnit> result = running.removeFirst().join();
+            Path path = paths[delivered++];
+            fill();
+            return new Pair<>(path, result);
+        }
+
+        private void fill() {
+            while (submitted < paths.length && running.size() < size) {
+                Path path = paths[submitted++];
+                running.addLast(pool.submit(() -> parse(path)));
+            }
+        }
+
+        void cancel() {
+            for (ForkJoinTask<?> task : running) {
+                task.cancel(false);
+            }
+            running.clear();
+            submitted = paths.length;
+            delivered = paths.length;
+        }
+    }
+}
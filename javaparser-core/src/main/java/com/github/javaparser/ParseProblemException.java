@@ -17,7 +17,7 @@ public class ParseProblemException extends RuntimeException {
      */
     private final List<Problem> problems;
 
-    ParseProblemException(List<Problem> problems) {
+    public ParseProblemException(List<Problem> problems) {
         super(createMessage(assertNotNull(problems)));
         this.problems = problems;
     }
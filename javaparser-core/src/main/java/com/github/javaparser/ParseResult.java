@@ -63,14 +63,16 @@ public class ParseResult<T> {
     }
 
     /**
-     * @return the complete list of tokens that were parsed, or empty if parsing failed completely.
+     * @return the complete list of tokens that were parsed, or empty if parsing failed completely
+     * or {@link ParserConfiguration#storeTokens} was off.
      */
     public Optional<List<Token>> getTokens() {
         return tokens;
     }
 
     /**
-     * @return the complete collection of comments encountered while parsing.
+     * @return the complete collection of comments encountered while parsing,
+     * or empty if {@link ParserConfiguration#collectComments} was off.
      */
     public Optional<CommentsCollection> getCommentsCollection() {
         return commentsCollection;
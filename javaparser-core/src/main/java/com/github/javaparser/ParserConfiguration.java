@@ -3,4 +3,41 @@ package com.github.javaparser;
 public class ParserConfiguration {
     public boolean doNotAssignCommentsPrecedingEmptyLines = true;
     public boolean doNotConsiderAnnotationsAsNodeStartForCodeAttribution = false;
-}
\ No newline at end of file
+    /**
+     * Compute the {@link com.github.javaparser.ast.StructuralHash structural hashes} of all nodes right after parsing.
+     * This parses the bodies that {@link #lazyMethodBodies} left for later.
+     */
+    public boolean computeStructuralHashes = false;
+    /**
+     * Keep the list of all tokens, for {@link ParseResult#getTokens()}.
+     */
+    public boolean storeTokens = true;
+    /**
+     * Turn comments into {@link com.github.javaparser.ast.comments.Comment} nodes, for
+     * {@link ParseResult#getCommentsCollection()} and for attribution. When off, the AST has no comments.
+     */
+    public boolean collectComments = true;
+    /**
+     * Attach the collected comments to the nodes they belong to, or keep them as orphans. When off, the comments are
+     * only found in {@link ParseResult#getCommentsCollection()}.
+     */
+    public boolean attributeComments = true;
+    /**
+     * Skip the bodies of methods and constructors, and only parse them when {@link
+     * com.github.javaparser.ast.body.MethodDeclaration#getBody()} or {@link
+     * com.github.javaparser.ast.body.ConstructorDeclaration#getBody()} is called, for analyses that mostly look at
+     * declarations. Until then the bodies are not among the children of their declarations.
+     */
+    public boolean lazyMethodBodies = false;
+    /**
+     * Do not stop at the first syntax error. The member or statement with the error is skipped up to the next ";" or
+     * block, the error is added to the {@link ParseResult#getProblems() problems}, and parsing goes on with the next
+     * member or statement, so the result holds everything that could be parsed.
+     */
+    public boolean recoverFromErrors = false;
+    /**
+     * Build the {@link com.github.javaparser.ast.CompilationUnit#getNodeIndex() index of nodes by type} of a parsed
+     * compilation unit right after parsing.
+     */
+    public boolean indexNodesByType = false;
+}
@@ -40,6 +40,7 @@ public class Position implements Comparable<Position> {
 	 */
 	public static final Position HOME = new Position(1, 1);
 	public static final Position UNKNOWN = new Position(0, 0);
+	public static final long PACKED_UNKNOWN = pack(0, 0);
 
 	public Position(int line, int column) {
 		if (line < Node.ABSOLUTE_END_LINE) {
@@ -59,6 +60,51 @@ public class Position implements Comparable<Position> {
 		return new Position(line, column);
 	}
 
+	/**
+	 * Packs a position into a long, with the line in the high and the column in the low 32 bits,
+	 * for storing positions without creating objects.
+	 * The sign bit of the column is flipped, so packed positions compare like the positions themselves.
+	 */
+	public static long pack(int line, int column) {
+		return ((long) line << 32) | ((column ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+	}
+
+	public static long pack(Position position) {
+		return pack(position.line, position.column);
+	}
+
+	/**
+	 * @return the position that was packed by {@link #pack(int, int)}.
+	 */
+	public static Position unpack(long packed) {
+		if (packed == PACKED_UNKNOWN) {
+			return UNKNOWN;
+		}
+		return new Position(line(packed), column(packed));
+	}
+
+	public static int line(long packed) {
+		return (int) (packed >> 32);
+	}
+
+	public static int column(long packed) {
+		return (int) packed ^ Integer.MIN_VALUE;
+	}
+
+	/**
+	 * {@link #isAfter(Position)} for packed positions.
+	 */
+	public static boolean isAfter(long packed, long other) {
+		return line(other) == Node.ABSOLUTE_BEGIN_LINE || packed > other;
+	}
+
+	/**
+	 * {@link #isBefore(Position)} for packed positions.
+	 */
+	public static boolean isBefore(long packed, long other) {
+		return line(other) == Node.ABSOLUTE_END_LINE || packed < other;
+	}
+
 	public Position withColumn(int column) {
 		return new Position(this.line, column);
 	}
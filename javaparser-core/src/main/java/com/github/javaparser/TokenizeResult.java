@@ -0,0 +1,49 @@
+package com.github.javaparser;
+
+import java.util.List;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * The result of tokenizing source code with a {@link JavaTokenizer}.
+ */
+public final class TokenizeResult {
+    private final List<Token> tokens;
+    private final List<MethodBoundary> methods;
+    private final List<Problem> problems;
+
+    TokenizeResult(List<Token> tokens, List<MethodBoundary> methods, List<Problem> problems) {
+        this.tokens = assertNotNull(tokens);
+        this.methods = assertNotNull(methods);
+        this.problems = assertNotNull(problems);
+    }
+
+    /**
+     * @return whether all source code could be turned into tokens.
+     */
+    public boolean isSuccessful() {
+        return problems.isEmpty();
+    }
+
+    /**
+     * @return the tokens in the order they were found, ending with EOF if the whole source could be read.
+     * These are the same tokens that {@link ParseResult#getTokens()} holds after a full parse.
+     */
+    public List<Token> getTokens() {
+        return tokens;
+    }
+
+    /**
+     * @return the methods and constructors with a body, in the order they start.
+     */
+    public List<MethodBoundary> getMethods() {
+        return methods;
+    }
+
+    /**
+     * @return the problems that stopped tokenizing, or an empty list.
+     */
+    public List<Problem> getProblems() {
+        return problems;
+    }
+}
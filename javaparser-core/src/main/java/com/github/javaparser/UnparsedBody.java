@@ -0,0 +1,65 @@
+package com.github.javaparser;
+
+import com.github.javaparser.ast.comments.Comment;
+import com.github.javaparser.ast.stmt.BlockStmt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * The body of a method or constructor that has not been parsed yet, see {@link ParserConfiguration#lazyMethodBodies}.
+ * <p>
+ * It keeps the tokens from "{" to "}", and the comments in between, until the body is asked for.
+ * The tokens carry their positions in the file, so the parsed body gets the same ranges as with a full parse.
+ */
+public final class UnparsedBody {
+    private final List<Token> tokens;
+    private final boolean constructor;
+    private final List<Comment> comments = new ArrayList<>();
+    private CommentsInserter commentsInserter;
+
+    UnparsedBody(List<Token> tokens, boolean constructor) {
+        this.tokens = assertNotNull(tokens);
+        this.constructor = constructor;
+    }
+
+    public Range getRange() {
+        Token first = tokens.get(0);
+        Token last = tokens.get(tokens.size() - 1);
+        return Range.range(first.beginLine, first.beginColumn, last.endLine, last.endColumn);
+    }
+
+    /**
+     * Has the comments within the body attributed when it is parsed.
+     */
+    void attributeComments(CommentsInserter commentsInserter) {
+        this.commentsInserter = commentsInserter;
+    }
+
+    void addComment(Comment comment) {
+        comments.add(comment);
+    }
+
+    /**
+     * @return the body, with the comments within it attributed like a full parse would have done.
+     * @throws ParseProblemException if the body does not parse.
+     */
+    public BlockStmt parse() {
+        List<Problem> problems = new ArrayList<>();
+        BlockStmt body;
+        try {
+            body = ASTParser.parseUnparsedBody(tokens, constructor, problems);
+        } catch (ParseException e) {
+            throw new ParseProblemException(e);
+        }
+        if (!problems.isEmpty()) {
+            throw new ParseProblemException(problems);
+        }
+        if (commentsInserter != null) {
+            commentsInserter.insertComments(body, new ArrayList<>(comments));
+        }
+        return body;
+    }
+}
@@ -28,11 +28,16 @@ public class ArrayBracketPair extends Node implements NodeWithAnnotations<ArrayB
 		v.visit(this, arg);
     }
 
+    @Override public NodeKind getKind() {
+        return NodeKind.ARRAY_BRACKET_PAIR;
+    }
+
     public NodeList<AnnotationExpr> getAnnotations() {
         return annotations;
     }
 
     public ArrayBracketPair setAnnotations(NodeList<AnnotationExpr> annotations) {
+        detachReplacedChild(this.annotations, annotations);
         setAsParentNodeOf(annotations);
         this.annotations = assertNotNull(annotations);
         return this;
@@ -34,6 +34,10 @@ public class ArrayCreationLevel extends Node implements NodeWithAnnotations<Arra
         v.visit(this, arg);
     }
 
+    @Override public NodeKind getKind() {
+        return NodeKind.ARRAY_CREATION_LEVEL;
+    }
+
     public ArrayCreationLevel setDimension(Optional<Expression> dimension) {
         this.dimension = assertNotNull(dimension);
         setAsParentNodeOf(dimension);
@@ -49,8 +53,18 @@ public class ArrayCreationLevel extends Node implements NodeWithAnnotations<Arra
     }
 
     public ArrayCreationLevel setAnnotations(NodeList<AnnotationExpr> annotations) {
+        detachReplacedChild(this.annotations, annotations);
         setAsParentNodeOf(annotations);
         this.annotations = assertNotNull(annotations);
         return this;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (dimension.isPresent() && dimension.get() == child) {
+            dimension = Optional.ofNullable((Expression) replacement);
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
@@ -0,0 +1,133 @@
+package com.github.javaparser.ast;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * The children of a node, in the order they were added.
+ * <p>
+ * Children are kept in an array, and every child remembers its slot, so it can be taken out without searching for it
+ * and without calling equals. A removed child leaves a hole that is closed the next time the list is read, so a run
+ * of removals costs one pass over the array.
+ */
+final class ChildList extends AbstractList<Node> implements RandomAccess {
+    private static final Node[] EMPTY = new Node[0];
+
+    private Node[] slots = EMPTY;
+    private int used = 0;
+    private int holes = 0;
+
+    @Override
+    public boolean add(Node child) {
+        if (used == slots.length) {
+            compact();
+            if (used == slots.length) {
+                slots = Arrays.copyOf(slots, Math.max(4, used * 2));
+            }
+        }
+        child.slotInParent = used;
+        slots[used++] = child;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Takes a child out, comparing by identity.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Node)) {
+            return false;
+        }
+        Node child = (Node) o;
+        int slot = child.slotInParent;
+        if (slot < 0 || slot >= used || slots[slot] != child) {
+            return false;
+        }
+        slots[slot] = null;
+        child.slotInParent = -1;
+        holes++;
+        if (slot == used - 1) {
+            // nothing to close behind the last child
+            used--;
+            holes--;
+        }
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Moves a child to just before another child, for a parent whose children are not in the order they were added.
+     */
+    void moveBefore(Node child, Node next) {
+        if (!contains(child) || !contains(next) || child == next) {
+            return;
+        }
+        compact();
+        int from = child.slotInParent;
+        int to = next.slotInParent;
+        if (from < to) {
+            to--;
+            System.arraycopy(slots, from + 1, slots, from, to - from);
+        } else {
+            System.arraycopy(slots, to, slots, to + 1, from - to);
+        }
+        slots[to] = child;
+        for (int slot = Math.min(from, to); slot <= Math.max(from, to); slot++) {
+            slots[slot].slotInParent = slot;
+        }
+        modCount++;
+    }
+
+    @Override
+    public Node get(int index) {
+        compact();
+        if (index < 0 || index >= used) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + used);
+        }
+        return slots[index];
+    }
+
+    @Override
+    public int size() {
+        return used - holes;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Node && ((Node) o).slotInParent >= 0 && ((Node) o).slotInParent < used
+                && slots[((Node) o).slotInParent] == o;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!contains(o)) {
+            return -1;
+        }
+        compact();
+        return ((Node) o).slotInParent;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    private void compact() {
+        if (holes == 0) {
+            return;
+        }
+        int to = 0;
+        for (int from = 0; from < used; from++) {
+            Node child = slots[from];
+            if (child != null) {
+                child.slotInParent = to;
+                slots[to++] = child;
+            }
+        }
+        Arrays.fill(slots, to, used, null);
+        used = to;
+        holes = 0;
+    }
+}
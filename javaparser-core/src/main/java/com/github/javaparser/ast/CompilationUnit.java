@@ -67,6 +67,8 @@ public final class CompilationUnit extends Node {
 
     private NodeList<TypeDeclaration<?>> types;
 
+    private NodeIndex nodeIndex;
+
     public CompilationUnit() {
         this(Range.UNKNOWN, none(), new NodeList<>(), new NodeList<>());
     }
@@ -93,6 +95,31 @@ public final class CompilationUnit extends Node {
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.COMPILATION_UNIT;
+    }
+
+    /**
+     * @return the index of the nodes in this compilation unit, built on the first call if it was not built while
+     * parsing. It is not updated when the compilation unit changes, see {@link #indexNodes()}.
+     * @see com.github.javaparser.ParserConfiguration#indexNodesByType
+     */
+    public NodeIndex getNodeIndex() {
+        if (nodeIndex == null) {
+            return indexNodes();
+        }
+        return nodeIndex;
+    }
+
+    /**
+     * Builds the index of the nodes in this compilation unit again, as they are now.
+     */
+    public NodeIndex indexNodes() {
+        nodeIndex = NodeIndex.of(this);
+        return nodeIndex;
+    }
+
     /**
      * Return a list containing all comments declared in this compilation unit.
      * Including javadocs, line comments and block comments of all types,
@@ -152,6 +179,7 @@ public final class CompilationUnit extends Node {
      *            the list of imports
      */
     public CompilationUnit setImports(NodeList<ImportDeclaration> imports) {
+        detachReplacedChild(this.imports, imports);
         this.imports = assertNotNull(imports);
         setAsParentNodeOf(this.imports);
         return this;
@@ -177,6 +205,7 @@ public final class CompilationUnit extends Node {
      *            the lis of types
      */
     public CompilationUnit setTypes(NodeList<TypeDeclaration<?>> types) {
+        detachReplacedChild(this.types, types);
         this.types = assertNotNull(types);
         setAsParentNodeOf(this.types);
         return this;
@@ -391,4 +420,13 @@ public final class CompilationUnit extends Node {
                 && type instanceof AnnotationDeclaration)
                 .findFirst().orElse(null);
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (pakage.isPresent() && pakage.get() == child) {
+            pakage = Optional.ofNullable((PackageDeclaration) replacement);
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
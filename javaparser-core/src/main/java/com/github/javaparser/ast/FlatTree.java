@@ -0,0 +1,278 @@
+package com.github.javaparser.ast;
+
+import com.github.javaparser.Position;
+import com.github.javaparser.Range;
+import com.github.javaparser.ast.body.AnnotationMemberDeclaration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.body.EnumConstantDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.VariableDeclaratorId;
+import com.github.javaparser.ast.comments.Comment;
+import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
+import com.github.javaparser.ast.expr.MemberValuePair;
+import com.github.javaparser.ast.expr.MethodReferenceExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.expr.UnaryExpr;
+import com.github.javaparser.ast.imports.SingleStaticImportDeclaration;
+import com.github.javaparser.ast.stmt.BreakStmt;
+import com.github.javaparser.ast.stmt.ContinueStmt;
+import com.github.javaparser.ast.stmt.LabeledStmt;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.PrimitiveType;
+import com.github.javaparser.ast.type.TypeParameter;
+import com.github.javaparser.ast.visitor.KindDispatcher;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * A read-only copy of a tree in parallel arrays of primitives, for analyses that only read the tree and go over many
+ * nodes, like clone fingerprinting over a whole corpus.
+ * <p>
+ * Nodes are numbered in preorder, the root being 0, so that the nodes of a subtree are the numbers from the root of
+ * the subtree up to its {@link #getSubtreeEnd(int) end}. For every node the tree keeps its kind, its parent, its
+ * first child, its next sibling, its begin and end as {@link Position#pack(Position) packed positions}, and the id
+ * of its text in a string table. The text is the one string that a node holds itself, like the name of a
+ * {@link NameExpr}, the value of a literal, the operator of a {@link BinaryExpr} or the content of a comment.
+ * <p>
+ * The tree holds the nodes that {@link Node#getChildrenNodes()} reaches, so comments are only in it as orphans.
+ * Bodies of {@link com.github.javaparser.ParserConfiguration#lazyMethodBodies lazy methods} are parsed while the
+ * tree is built. The tree is a snapshot: it does not follow changes to the nodes it was built from.
+ */
+public final class FlatTree {
+    /**
+     * Stands for a missing node or text.
+     */
+    public static final int NONE = -1;
+
+    private static final NodeKind[] KINDS = NodeKind.values();
+
+    private static final KindDispatcher<Builder> TEXTS = new KindDispatcher<Builder>()
+            .on(NameExpr.class, (name, builder) -> builder.text = name.getName())
+            .on(StringLiteralExpr.class, (literal, builder) -> builder.text = literal.getValue())
+            .on(BooleanLiteralExpr.class, (literal, builder) -> builder.text = String.valueOf(literal.getValue()))
+            .on(ClassOrInterfaceType.class, (type, builder) -> builder.text = type.getName())
+            .on(PrimitiveType.class, (type, builder) -> builder.text = type.getType().name())
+            .on(TypeParameter.class, (parameter, builder) -> builder.text = parameter.getName())
+            .on(VariableDeclaratorId.class, (id, builder) -> builder.text = id.getName())
+            .on(EnumConstantDeclaration.class, (constant, builder) -> builder.text = constant.getName())
+            .on(AnnotationMemberDeclaration.class, (member, builder) -> builder.text = member.getName())
+            .on(MemberValuePair.class, (pair, builder) -> builder.text = pair.getName())
+            .on(LabeledStmt.class, (statement, builder) -> builder.text = statement.getLabel())
+            .on(BreakStmt.class, (statement, builder) -> builder.text = statement.getId().orElse(null))
+            .on(ContinueStmt.class, (statement, builder) -> builder.text = statement.getId().orElse(null))
+            .on(MethodReferenceExpr.class, (reference, builder) -> builder.text = reference.getIdentifier())
+            .on(BinaryExpr.class, (expression, builder) -> builder.text = expression.getOperator().name())
+            .on(UnaryExpr.class, (expression, builder) -> builder.text = expression.getOperator().name())
+            .on(AssignExpr.class, (expression, builder) -> builder.text = expression.getOperator().name())
+            .on(Comment.class, (comment, builder) -> builder.text = comment.getContent())
+            .on(SingleStaticImportDeclaration.class, (declaration, builder) -> builder.text =
+                    declaration.getStaticMember())
+            .on(MethodDeclaration.class, (method, builder) -> method.getBody())
+            .on(ConstructorDeclaration.class, (constructor, builder) -> constructor.getBody());
+
+    private final int size;
+    private final byte[] kinds;
+    private final int[] parents;
+    private final int[] firstChildren;
+    private final int[] nextSiblings;
+    private final long[] begins;
+    private final long[] ends;
+    private final int[] texts;
+    private final String[] strings;
+
+    private FlatTree(Builder builder) {
+        size = builder.size;
+        kinds = Arrays.copyOf(builder.kinds, size);
+        parents = Arrays.copyOf(builder.parents, size);
+        firstChildren = Arrays.copyOf(builder.firstChildren, size);
+        nextSiblings = Arrays.copyOf(builder.nextSiblings, size);
+        begins = Arrays.copyOf(builder.begins, size);
+        ends = Arrays.copyOf(builder.ends, size);
+        texts = Arrays.copyOf(builder.texts, size);
+        strings = new String[builder.strings.size()];
+        for (Map.Entry<String, Integer> string : builder.strings.entrySet()) {
+            strings[string.getValue()] = string.getKey();
+        }
+    }
+
+    /**
+     * Copies the root and everything below it.
+     */
+    public static FlatTree of(Node root) {
+        return new FlatTree(new Builder().add(assertNotNull(root)));
+    }
+
+    /**
+     * @return the number of nodes.
+     */
+    public int size() {
+        return size;
+    }
+
+    public NodeKind getKind(int node) {
+        return KINDS[kinds[node]];
+    }
+
+    /**
+     * @return the parent of the node, or {@link #NONE} for the root.
+     */
+    public int getParent(int node) {
+        return parents[node];
+    }
+
+    /**
+     * @return the first child of the node, which is the next node if there is one, or {@link #NONE}.
+     */
+    public int getFirstChild(int node) {
+        return firstChildren[node];
+    }
+
+    /**
+     * @return the next child of the parent of the node, or {@link #NONE}.
+     */
+    public int getNextSibling(int node) {
+        return nextSiblings[node];
+    }
+
+    /**
+     * @return the node after the last node of the subtree of the node, which is {@link #size()} at the end.
+     */
+    public int getSubtreeEnd(int node) {
+        for (int ancestor = node; ancestor != NONE; ancestor = parents[ancestor]) {
+            if (nextSiblings[ancestor] != NONE) {
+                return nextSiblings[ancestor];
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return the packed begin position of the node, see {@link Position#unpack(long)}.
+     */
+    public long getBegin(int node) {
+        return begins[node];
+    }
+
+    /**
+     * @return the packed end position of the node, see {@link Position#unpack(long)}.
+     */
+    public long getEnd(int node) {
+        return ends[node];
+    }
+
+    public Range getRange(int node) {
+        return Range.range(Position.unpack(begins[node]), Position.unpack(ends[node]));
+    }
+
+    /**
+     * @return the id of the text of the node in the string table, or {@link #NONE}. Equal texts have equal ids.
+     */
+    public int getTextId(int node) {
+        return texts[node];
+    }
+
+    /**
+     * @return the text of the node, or null.
+     */
+    public String getText(int node) {
+        return texts[node] == NONE ? null : strings[texts[node]];
+    }
+
+    /**
+     * @return the string with this id in the string table.
+     */
+    public String getString(int id) {
+        return strings[id];
+    }
+
+    /**
+     * @return the number of different texts.
+     */
+    public int getStringCount() {
+        return strings.length;
+    }
+
+    private static final class Builder {
+        private int size;
+        private byte[] kinds = new byte[64];
+        private int[] parents = new int[64];
+        private int[] firstChildren = new int[64];
+        private int[] nextSiblings = new int[64];
+        private int[] lastChildren = new int[64];
+        private long[] begins = new long[64];
+        private long[] ends = new long[64];
+        private int[] texts = new int[64];
+        private final Map<String, Integer> strings = new HashMap<>();
+        private String text;
+
+        private Node[] stack = new Node[64];
+        private int[] stackParents = new int[64];
+
+        Builder add(Node root) {
+            int top = 0;
+            stack[top] = root;
+            stackParents[top++] = NONE;
+            while (top > 0) {
+                Node node = stack[--top];
+                stack[top] = null;
+                int index = add(node, stackParents[top]);
+                List<Node> children = node.getChildrenNodes();
+                if (top + children.size() > stack.length) {
+                    stack = Arrays.copyOf(stack, Math.max(stack.length * 2, top + children.size()));
+                    stackParents = Arrays.copyOf(stackParents, stack.length);
+                }
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    stack[top] = children.get(i);
+                    stackParents[top++] = index;
+                }
+            }
+            return this;
+        }
+
+        private int add(Node node, int parent) {
+            if (size == kinds.length) {
+                grow();
+            }
+            int index = size++;
+            text = null;
+            TEXTS.dispatch(node, this);
+            kinds[index] = (byte) node.getKind().ordinal();
+            parents[index] = parent;
+            firstChildren[index] = NONE;
+            nextSiblings[index] = NONE;
+            lastChildren[index] = NONE;
+            begins[index] = node.getPackedBegin();
+            ends[index] = node.getPackedEnd();
+            texts[index] = text == null ? NONE : strings.computeIfAbsent(text, string -> strings.size());
+            if (parent != NONE) {
+                if (lastChildren[parent] == NONE) {
+                    firstChildren[parent] = index;
+                } else {
+                    nextSiblings[lastChildren[parent]] = index;
+                }
+                lastChildren[parent] = index;
+            }
+            return index;
+        }
+
+        private void grow() {
+            int capacity = kinds.length * 2;
+            kinds = Arrays.copyOf(kinds, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            firstChildren = Arrays.copyOf(firstChildren, capacity);
+            nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+            lastChildren = Arrays.copyOf(lastChildren, capacity);
+            begins = Arrays.copyOf(begins, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            texts = Arrays.copyOf(texts, capacity);
+        }
+    }
+}
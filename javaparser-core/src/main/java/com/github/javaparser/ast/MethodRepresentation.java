@@ -1,10 +1,13 @@
 package com.github.javaparser.ast;
 
+import com.github.javaparser.Range;
 import com.github.javaparser.ast.body.Parameter;
 import com.github.javaparser.ast.type.ReferenceType;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Optional;
 import java.util.StringTokenizer;
 
 /**
@@ -18,6 +21,8 @@ public class MethodRepresentation {
     private String methodName;
     private String className;
     private String filePath;
+    private Range range;
+    private IdentityHashMap<UserDataKey<?>, Object> userData = null;
 
     public MethodRepresentation(String filePath, String className) {
         this.filePath = filePath;
@@ -78,6 +83,39 @@ public class MethodRepresentation {
         return methodTokens;
     }
 
+    /**
+     * @return where the method declaration is in its file, or empty if this representation was created without it.
+     */
+    public Optional<Range> getRange() {
+        return Optional.ofNullable(range);
+    }
+
+    public void setRange(Range range) {
+        this.range = range;
+    }
+
+    /**
+     * Gets user data for this method using the given key, like {@link Node#getUserData(UserDataKey)}.
+     *
+     * @return the user data, or null if no user data was found for the given key.
+     */
+    public <M> M getUserData(final UserDataKey<M> key) {
+        if (userData == null) {
+            return null;
+        }
+        return (M) userData.get(key);
+    }
+
+    /**
+     * Sets user data for this method using the given key, like {@link Node#setUserData(UserDataKey, Object)}.
+     */
+    public <M> void setUserData(UserDataKey<M> key, M object) {
+        if (userData == null) {
+            userData = new IdentityHashMap<>();
+        }
+        userData.put(key, object);
+    }
+
     private static String leftTrim(String s) {
         int i = 0;
         while (i < s.length() && Character.isWhitespace(s.charAt(i))) {
@@ -21,13 +21,12 @@
 
 package com.github.javaparser.ast;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.github.javaparser.Position;
 import com.github.javaparser.Range;
@@ -59,19 +58,32 @@ public abstract class Node implements Cloneable {
      */
     public static Comparator<Node> NODE_BY_BEGIN_POSITION = (a, b) -> a.getBegin().compareTo(b.getBegin());
 
-    private Range range;
+    /**
+     * The range, as two {@link Position#pack(int, int) packed positions}.
+     * Range and Position objects are only created when they are asked for.
+     */
+    private long begin;
+    private long end;
 
     private Node parentNode;
 
-    private List<Node> childrenNodes = new LinkedList<>();
+    private final ChildList childrenNodes = new ChildList();
+    /**
+     * Where this node is in the children of its parent, see {@link ChildList}.
+     */
+    int slotInParent = -1;
     private List<Comment> orphanComments = new LinkedList<>();
 
     private IdentityHashMap<UserDataKey<?>, Object> userData = null;
 
     private Optional<? extends Comment> comment = none();
 
+    long structuralHash;
+    long normalizedStructuralHash;
+    boolean structuralHashed;
+
     public Node(Range range) {
-        this.range = range;
+        setRange(range);
     }
 
     /**
@@ -101,6 +113,14 @@ public abstract class Node implements Cloneable {
      */
     public abstract <A> void accept(VoidVisitor<A> v, A arg);
 
+    /**
+     * @return the kind of this node, which is the same for all nodes of its class. Every class of this library has its
+     * own kind; other subclasses are {@link NodeKind#OTHER}, which tables indexed by kind handle like any other kind.
+     */
+    public NodeKind getKind() {
+        return NodeKind.OTHER;
+    }
+
     /**
      * This is a comment associated with this node.
      *
@@ -114,21 +134,21 @@ public abstract class Node implements Cloneable {
      * The begin position of this node in the source file.
      */
     public Position getBegin() {
-        return range.begin;
+        return Position.unpack(begin);
     }
 
     /**
      * The end position of this node in the source file.
      */
     public Position getEnd() {
-        return range.end;
+        return Position.unpack(end);
     }
 
     /**
      * Sets the begin position of this node in the source file.
      */
     public Node setBegin(Position begin) {
-        range = range.withBegin(begin);
+        this.begin = Position.pack(assertNotNull(begin));
         return this;
     }
 
@@ -136,7 +156,7 @@ public abstract class Node implements Cloneable {
      * Sets the end position of this node in the source file.
      */
     public Node setEnd(Position end) {
-        range = range.withEnd(end);
+        this.end = Position.pack(assertNotNull(end));
         return this;
     }
 
@@ -144,14 +164,32 @@ public abstract class Node implements Cloneable {
      * @return the range of characters in the source code that this node covers.
      */
     public Range getRange() {
-        return range;
+        if (begin == Position.PACKED_UNKNOWN && end == Position.PACKED_UNKNOWN) {
+            return Range.UNKNOWN;
+        }
+        return new Range(getBegin(), getEnd());
+    }
+
+    /**
+     * @return the begin as a packed position, without creating a Position.
+     */
+    long getPackedBegin() {
+        return begin;
+    }
+
+    /**
+     * @return the end as a packed position, without creating a Position.
+     */
+    long getPackedEnd() {
+        return end;
     }
 
     /**
      * @param range the range of characters in the source code that this node covers.
      */
     public Node setRange(Range range) {
-        this.range = range;
+        this.begin = Position.pack(range.begin);
+        this.end = Position.pack(range.end);
         return this;
     }
 
@@ -211,9 +249,79 @@ public abstract class Node implements Cloneable {
         return visitor.getSource();
     }
 
+    /**
+     * Prints what {@link #toString()} returns straight into the output.
+     */
+    public final void print(Appendable out) {
+        new DumpVisitor().print(this, out);
+    }
+
+    /**
+     * Prints what {@link #toStringWithoutComments()} returns straight into the output.
+     */
+    public final void printWithoutComments(Appendable out) {
+        new DumpVisitor(false).print(this, out);
+    }
+
+    /**
+     * The hash code of {@link #toString()}, computed while printing, without building the String.
+     */
     @Override
     public final int hashCode() {
-        return toString().hashCode();
+        final StringHash hash = new StringHash();
+        print(hash);
+        return hash.hash;
+    }
+
+    /**
+     * Computes the {@link String#hashCode() hash code} of the String that would hold everything appended to it.
+     */
+    private static final class StringHash implements Appendable {
+        private int hash;
+
+        @Override
+        public Appendable append(CharSequence text) {
+            return append(text, 0, text.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence text, int start, int end) {
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + text.charAt(i);
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            hash = 31 * hash + c;
+            return this;
+        }
+    }
+
+    /**
+     * A hash of the structure of this subtree, ignoring layout and comments.
+     * Computed for the whole subtree on first use, unless the parser already did so.
+     *
+     * @see StructuralHash
+     */
+    public long getStructuralHash() {
+        if (!structuralHashed) {
+            StructuralHash.compute(this);
+        }
+        return structuralHash;
+    }
+
+    /**
+     * Like {@link #getStructuralHash()}, but equal for subtrees that only differ in identifiers, literals and types.
+     *
+     * @see StructuralHash
+     */
+    public long getNormalizedStructuralHash() {
+        if (!structuralHashed) {
+            StructuralHash.compute(this);
+        }
+        return normalizedStructuralHash;
     }
 
     @Override
@@ -280,7 +388,8 @@ public abstract class Node implements Cloneable {
     }
 
     public <N extends Node> boolean containsWithin(N other) {
-        return range.contains(other.getRange());
+        Node node = other;
+        return Position.isBefore(begin, node.begin) && Position.isAfter(end, node.end);
     }
 
     public void addOrphanComment(Comment comment) {
@@ -332,6 +441,10 @@ public abstract class Node implements Cloneable {
      * @param parentNode node to be set as parent
      */
     public void setParentNode(Node parentNode) {
+        if (parentNode == this.parentNode) {
+            // keep the place among the children
+            return;
+        }
         // remove from old parent, if any
         if (this.parentNode != null) {
             this.parentNode.childrenNodes.remove(this);
@@ -362,15 +475,44 @@ public abstract class Node implements Cloneable {
         childNode.ifPresent(c -> c.setParentNode(this));
     }
 
+    /**
+     * Called by a setter before it replaces a child, so the old child does not stay behind in
+     * {@link #getChildrenNodes()}. The new child takes the place of the old one, so the order of the children does not
+     * depend on whether a child was set by the constructor or replaced later.
+     */
+    protected void detachReplacedChild(Node oldChild, Node newChild) {
+        if (oldChild == null || oldChild == newChild || oldChild.getParentNode() != this) {
+            return;
+        }
+        if (newChild != null) {
+            newChild.setParentNode(this);
+            childrenNodes.moveBefore(newChild, oldChild);
+        }
+        oldChild.setParentNode(null);
+    }
+
+    /**
+     * Moves a child to just before another child in {@link #getChildrenNodes()}.
+     */
+    void moveChildBefore(Node child, Node next) {
+        childrenNodes.moveBefore(child, next);
+    }
+
+    protected void detachReplacedChild(Optional<? extends Node> oldChild, Optional<? extends Node> newChild) {
+        if (oldChild != null && oldChild.isPresent()) {
+            detachReplacedChild(oldChild.get(), newChild == null ? null : newChild.orElse(null));
+        }
+    }
+
     public static final int ABSOLUTE_BEGIN_LINE = -1;
     public static final int ABSOLUTE_END_LINE = -2;
 
     public boolean isPositionedAfter(Position position) {
-        return range.isAfter(position);
+        return Position.isAfter(begin, Position.pack(position));
     }
 
     public boolean isPositionedBefore(Position position) {
-        return range.isBefore(position);
+        return Position.isBefore(end, Position.pack(position));
     }
 
     public void tryAddImportToParentCompilationUnit(Class<?> clazz) {
@@ -387,13 +529,34 @@ public abstract class Node implements Cloneable {
      */
     public <N extends Node> List<N> getNodesByType(Class<N> clazz) {
         List<N> nodes = new ArrayList<>();
-        for (Node child : getChildrenNodes()) {
-            if (clazz.isInstance(child)) {
-                nodes.add(clazz.cast(child));
+        forEachNodeOfType(clazz, nodes::add);
+        return nodes;
+    }
+
+    /**
+     * Hands all nodes of a certain type below this node to the action, in the order {@link #getNodesByType(Class)}
+     * returns them: a parent before its children, and children in order.
+     * The tree is walked with a stack, without building lists on the way.
+     *
+     * @param clazz the type of node to find.
+     */
+    public <N extends Node> void forEachNodeOfType(Class<N> clazz, Consumer<? super N> action) {
+        Deque<Node> stack = new ArrayDeque<>();
+        pushChildren(this, stack);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (clazz.isInstance(node)) {
+                action.accept(clazz.cast(node));
             }
-            nodes.addAll(child.getNodesByType(clazz));
+            pushChildren(node, stack);
+        }
+    }
+
+    private static void pushChildren(Node node, Deque<Node> stack) {
+        ChildList children = node.childrenNodes;
+        for (int i = children.size() - 1; i >= 0; i--) {
+            stack.push(children.get(i));
         }
-        return nodes;
     }
 
     /**
@@ -439,44 +602,61 @@ public abstract class Node implements Cloneable {
      * Try to remove this node from the parent
      * 
      * @return true if removed, false otherwise
-     * @throws RuntimeException if it fails in an unexpected way
      */
     public boolean remove() {
         Node parentNode = this.parentNode;
         if (parentNode == null)
             return false;
-        boolean success = false;
-        Class<?> parentClass = parentNode.getClass();
-        while (parentClass != Object.class) {
-            for (Field f : parentClass.getDeclaredFields()) {
-                f.setAccessible(true);
-                try {
-                    Object object = f.get(parentNode);
-                    if (object == null)
-                        continue;
-                    if (Collection.class.isAssignableFrom(object.getClass())) {
-                        Collection<?> l = (Collection<?>) object;
-                        boolean remove = l.remove(this);
-                        success |= remove;
-                    } else if (NodeList.class.isAssignableFrom(object.getClass())) {
-                        NodeList<Node> l = (NodeList<Node>) object;
-                        success |= l.remove(this);
-                    } else if (Optional.class.equals(f.getType())) {
-                        Optional<?> opt = (Optional<?>) object;
-                        if (opt.isPresent())
-                            if (opt.get() == this)
-                                f.set(parentNode, Optional.empty());
-                    } else if (object == this) {
-                        f.set(parentNode, null);
-                        success |= true;
-                    }
-                } catch (IllegalArgumentException | IllegalAccessException e) {
-                    throw new RuntimeException("Error while removing " + getClass().getSimpleName(), e);
+        boolean success = parentNode.replaceChild(this, null);
+        setParentNode(null);
+        return success;
+    }
+
+    /**
+     * Try to put another node where this node is in the parent
+     *
+     * @return true if replaced, false if this node has no parent or is not held by it
+     * @throws ClassCastException if the replacement does not fit where this node is
+     */
+    public boolean replace(Node replacement) {
+        assertNotNull(replacement);
+        Node parentNode = this.parentNode;
+        if (parentNode == null || !parentNode.replaceChild(this, replacement))
+            return false;
+        replacement.setParentNode(parentNode);
+        setParentNode(null);
+        return true;
+    }
+
+    /**
+     * Puts the replacement in the slot of this node that holds the child, or empties the slot when the replacement is
+     * null. Every node class overrides this for the children it holds in its own fields, so finding the slot takes a
+     * few identity comparisons instead of reflection; children in node lists are looked up in the lists. The parent of
+     * the nodes is left to the caller.
+     *
+     * @return whether the child was found.
+     */
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (comment.isPresent() && comment.get() == child) {
+            setComment(Optional.ofNullable((Comment) replacement));
+            return true;
+        }
+        for (ListIterator<Comment> i = orphanComments.listIterator(); i.hasNext(); ) {
+            if (i.next() == child) {
+                if (replacement == null) {
+                    i.remove();
+                } else {
+                    i.set((Comment) replacement);
                 }
+                return true;
             }
-            parentClass = parentClass.getSuperclass();
         }
-        setParentNode(null);
-        return success;
+        // children added through convenience methods have their owner as parent instead of the list that holds them
+        for (Node node : childrenNodes) {
+            if (node instanceof NodeList && node.replaceChild(child, replacement)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,83 @@
+package com.github.javaparser.ast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * The nodes of a tree, grouped by their type, so that asking for all nodes of a type costs as much as there are
+ * matches instead of a walk over the tree.
+ * <p>
+ * The index is built with one walk, which groups the nodes by their exact class. Asking for a class of which
+ * several subclasses are in the tree, like {@link com.github.javaparser.ast.stmt.Statement}, costs one pass over all
+ * nodes the first time, and the answer is kept.
+ * Nodes are listed in the order {@link Node#getNodesByType(Class)} finds them.
+ * <p>
+ * The index is a snapshot: after changing a tree, or parsing a
+ * {@link com.github.javaparser.ParserConfiguration#lazyMethodBodies lazy method body}, build it again.
+ *
+ * @see CompilationUnit#getNodeIndex()
+ * @see com.github.javaparser.ParserConfiguration#indexNodesByType
+ */
+public final class NodeIndex {
+    private final List<Node> nodes = new ArrayList<>();
+    private final Map<Class<?>, List<Node>> byExactType = new HashMap<>();
+    private final Map<Class<?>, List<Node>> byType = new ConcurrentHashMap<>();
+
+    private NodeIndex(Node root) {
+        root.forEachNodeOfType(Node.class, node -> {
+            nodes.add(node);
+            byExactType.computeIfAbsent(node.getClass(), type -> new ArrayList<>()).add(node);
+        });
+    }
+
+    /**
+     * Indexes the nodes below the root, not including the root itself.
+     */
+    public static NodeIndex of(Node root) {
+        return new NodeIndex(assertNotNull(root));
+    }
+
+    /**
+     * @return the nodes of a certain type, like {@link Node#getNodesByType(Class)} would have found them when the index
+     * was built.
+     */
+    @SuppressWarnings("unchecked")
+    public <N extends Node> List<N> getNodesByType(Class<N> clazz) {
+        return (List<N>) byType.computeIfAbsent(clazz, this::collect);
+    }
+
+    /**
+     * @return the number of nodes in the index.
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    private List<Node> collect(Class<?> clazz) {
+        List<Class<?>> found = new ArrayList<>();
+        for (Class<?> type : byExactType.keySet()) {
+            if (clazz.isAssignableFrom(type)) {
+                found.add(type);
+            }
+        }
+        if (found.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (found.size() == 1) {
+            return Collections.unmodifiableList(byExactType.get(found.get(0)));
+        }
+        List<Node> matches = new ArrayList<>();
+        for (Node node : nodes) {
+            if (clazz.isInstance(node)) {
+                matches.add(node);
+            }
+        }
+        return Collections.unmodifiableList(matches);
+    }
+}
@@ -0,0 +1,171 @@
+package com.github.javaparser.ast;
+
+import com.github.javaparser.ast.body.*;
+import com.github.javaparser.ast.comments.BlockComment;
+import com.github.javaparser.ast.comments.JavadocComment;
+import com.github.javaparser.ast.comments.LineComment;
+import com.github.javaparser.ast.expr.*;
+import com.github.javaparser.ast.imports.*;
+import com.github.javaparser.ast.stmt.*;
+import com.github.javaparser.ast.type.*;
+
+import java.util.EnumSet;
+
+/**
+ * The kind of a node: one constant for every class of node that can be created, see {@link Node#getKind()}, and
+ * {@link #OTHER} for the classes that are not part of this library.
+ * <p>
+ * Analyses that handle many kinds of node can switch on the kind, or keep a table indexed by its ordinal,
+ * instead of going through chains of instanceof or through a visitor.
+ * New kinds are only added at the end, so the ordinals stay the same for tables that were stored.
+ *
+ * @see com.github.javaparser.ast.visitor.KindDispatcher
+ */
+public enum NodeKind {
+    // com.github.javaparser.ast
+    ARRAY_BRACKET_PAIR(ArrayBracketPair.class),
+    ARRAY_CREATION_LEVEL(ArrayCreationLevel.class),
+    COMPILATION_UNIT(CompilationUnit.class),
+    NODE_LIST(NodeList.class),
+    PACKAGE_DECLARATION(PackageDeclaration.class),
+
+    // com.github.javaparser.ast.body
+    ANNOTATION_DECLARATION(AnnotationDeclaration.class),
+    ANNOTATION_MEMBER_DECLARATION(AnnotationMemberDeclaration.class),
+    CLASS_OR_INTERFACE_DECLARATION(ClassOrInterfaceDeclaration.class),
+    CONSTRUCTOR_DECLARATION(ConstructorDeclaration.class),
+    EMPTY_MEMBER_DECLARATION(EmptyMemberDeclaration.class),
+    EMPTY_TYPE_DECLARATION(EmptyTypeDeclaration.class),
+    ENUM_CONSTANT_DECLARATION(EnumConstantDeclaration.class),
+    ENUM_DECLARATION(EnumDeclaration.class),
+    FIELD_DECLARATION(FieldDeclaration.class),
+    INITIALIZER_DECLARATION(InitializerDeclaration.class),
+    METHOD_DECLARATION(MethodDeclaration.class),
+    PARAMETER(Parameter.class),
+    VARIABLE_DECLARATOR(VariableDeclarator.class),
+    VARIABLE_DECLARATOR_ID(VariableDeclaratorId.class),
+
+    // com.github.javaparser.ast.comments
+    BLOCK_COMMENT(BlockComment.class),
+    JAVADOC_COMMENT(JavadocComment.class),
+    LINE_COMMENT(LineComment.class),
+
+    // com.github.javaparser.ast.expr
+    ARRAY_ACCESS_EXPR(ArrayAccessExpr.class),
+    ARRAY_CREATION_EXPR(ArrayCreationExpr.class),
+    ARRAY_INITIALIZER_EXPR(ArrayInitializerExpr.class),
+    ASSIGN_EXPR(AssignExpr.class),
+    BINARY_EXPR(BinaryExpr.class),
+    BOOLEAN_LITERAL_EXPR(BooleanLiteralExpr.class),
+    CAST_EXPR(CastExpr.class),
+    CHAR_LITERAL_EXPR(CharLiteralExpr.class),
+    CLASS_EXPR(ClassExpr.class),
+    CONDITIONAL_EXPR(ConditionalExpr.class),
+    DOUBLE_LITERAL_EXPR(DoubleLiteralExpr.class),
+    ENCLOSED_EXPR(EnclosedExpr.class),
+    FIELD_ACCESS_EXPR(FieldAccessExpr.class),
+    INSTANCE_OF_EXPR(InstanceOfExpr.class),
+    INTEGER_LITERAL_EXPR(IntegerLiteralExpr.class),
+    INTEGER_LITERAL_MIN_VALUE_EXPR(IntegerLiteralMinValueExpr.class),
+    LAMBDA_EXPR(LambdaExpr.class),
+    LONG_LITERAL_EXPR(LongLiteralExpr.class),
+    LONG_LITERAL_MIN_VALUE_EXPR(LongLiteralMinValueExpr.class),
+    MARKER_ANNOTATION_EXPR(MarkerAnnotationExpr.class),
+    MEMBER_VALUE_PAIR(MemberValuePair.class),
+    METHOD_CALL_EXPR(MethodCallExpr.class),
+    METHOD_REFERENCE_EXPR(MethodReferenceExpr.class),
+    NAME_EXPR(NameExpr.class),
+    NORMAL_ANNOTATION_EXPR(NormalAnnotationExpr.class),
+    NULL_LITERAL_EXPR(NullLiteralExpr.class),
+    OBJECT_CREATION_EXPR(ObjectCreationExpr.class),
+    QUALIFIED_NAME_EXPR(QualifiedNameExpr.class),
+    SINGLE_MEMBER_ANNOTATION_EXPR(SingleMemberAnnotationExpr.class),
+    STRING_LITERAL_EXPR(StringLiteralExpr.class),
+    SUPER_EXPR(SuperExpr.class),
+    THIS_EXPR(ThisExpr.class),
+    TYPE_EXPR(TypeExpr.class),
+    UNARY_EXPR(UnaryExpr.class),
+    VARIABLE_DECLARATION_EXPR(VariableDeclarationExpr.class),
+
+    // com.github.javaparser.ast.imports
+    EMPTY_IMPORT_DECLARATION(EmptyImportDeclaration.class),
+    SINGLE_STATIC_IMPORT_DECLARATION(SingleStaticImportDeclaration.class),
+    SINGLE_TYPE_IMPORT_DECLARATION(SingleTypeImportDeclaration.class),
+    STATIC_IMPORT_ON_DEMAND_DECLARATION(StaticImportOnDemandDeclaration.class),
+    TYPE_IMPORT_ON_DEMAND_DECLARATION(TypeImportOnDemandDeclaration.class),
+
+    // com.github.javaparser.ast.stmt
+    ASSERT_STMT(AssertStmt.class),
+    BLOCK_STMT(BlockStmt.class),
+    BREAK_STMT(BreakStmt.class),
+    CATCH_CLAUSE(CatchClause.class),
+    CONTINUE_STMT(ContinueStmt.class),
+    DO_STMT(DoStmt.class),
+    EMPTY_STMT(EmptyStmt.class),
+    EXPLICIT_CONSTRUCTOR_INVOCATION_STMT(ExplicitConstructorInvocationStmt.class),
+    EXPRESSION_STMT(ExpressionStmt.class),
+    FOR_STMT(ForStmt.class),
+    FOREACH_STMT(ForeachStmt.class),
+    IF_STMT(IfStmt.class),
+    LABELED_STMT(LabeledStmt.class),
+    RETURN_STMT(ReturnStmt.class),
+    SWITCH_ENTRY_STMT(SwitchEntryStmt.class),
+    SWITCH_STMT(SwitchStmt.class),
+    SYNCHRONIZED_STMT(SynchronizedStmt.class),
+    THROW_STMT(ThrowStmt.class),
+    TRY_STMT(TryStmt.class),
+    TYPE_DECLARATION_STMT(TypeDeclarationStmt.class),
+    WHILE_STMT(WhileStmt.class),
+
+    // com.github.javaparser.ast.type
+    ARRAY_TYPE(ArrayType.class),
+    CLASS_OR_INTERFACE_TYPE(ClassOrInterfaceType.class),
+    INTERSECTION_TYPE(IntersectionType.class),
+    PRIMITIVE_TYPE(PrimitiveType.class),
+    TYPE_PARAMETER(TypeParameter.class),
+    UNION_TYPE(UnionType.class),
+    UNKNOWN_TYPE(UnknownType.class),
+    VOID_TYPE(VoidType.class),
+    WILDCARD_TYPE(WildcardType.class),
+
+    /**
+     * Nodes of any other class, like the ones defined outside this library. Their node class is {@link Node}.
+     */
+    OTHER(Node.class);
+
+    private static final NodeKind[] KINDS = values();
+
+    private final Class<? extends Node> nodeClass;
+
+    NodeKind(Class<? extends Node> nodeClass) {
+        this.nodeClass = nodeClass;
+    }
+
+    /**
+     * @return the class of the nodes of this kind.
+     */
+    public Class<? extends Node> getNodeClass() {
+        return nodeClass;
+    }
+
+    /**
+     * @return the kinds of the nodes that are instances of the type, for instance all statements for
+     * {@link Statement}.
+     */
+    public static EnumSet<NodeKind> kindsOf(Class<? extends Node> type) {
+        EnumSet<NodeKind> kinds = EnumSet.noneOf(NodeKind.class);
+        for (NodeKind kind : KINDS) {
+            if (type.isAssignableFrom(kind.nodeClass)) {
+                kinds.add(kind);
+            }
+        }
+        return kinds;
+    }
+
+    /**
+     * @return the number of kinds, the size of a table indexed by ordinal.
+     */
+    public static int count() {
+        return KINDS.length;
+    }
+}
@@ -61,10 +61,25 @@ public class NodeList<N extends Node> extends Node implements Iterable<N> {
         }
     }
 
+    /**
+     * Removes the node, comparing by identity.
+     */
     public boolean remove(Node node) {
-        boolean remove = innerList.remove(node);
+        int index = indexOf(node);
+        if (index >= 0) {
+            innerList.remove(index);
+        }
         node.setParentNode(null);
-        return remove;
+        return index >= 0;
+    }
+
+    private int indexOf(Node node) {
+        for (int i = 0; i < innerList.size(); i++) {
+            if (innerList.get(i) == node) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     public static <X extends Node> NodeList<X> nodeList(X... nodes) {
@@ -109,6 +124,11 @@ public class NodeList<N extends Node> extends Node implements Iterable<N> {
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.NODE_LIST;
+    }
+
     public int size() {
         return innerList.size();
     }
@@ -124,6 +144,7 @@ public class NodeList<N extends Node> extends Node implements Iterable<N> {
     }
 
     public NodeList<N> set(int index, N element) {
+        detachReplacedChild(innerList.get(index), element);
         setAsParentNodeOf(element);
         innerList.set(index, element);
         return this;
@@ -157,6 +178,31 @@ public class NodeList<N extends Node> extends Node implements Iterable<N> {
     public NodeList<N> add(int index, N node) {
         own(node);
         innerList.add(index, node);
+        keepChildOrder(index);
         return this;
     }
+
+    /**
+     * Moves the element at this index to its place in the children, which are in the order of the list.
+     */
+    private void keepChildOrder(int index) {
+        if (index + 1 < innerList.size()) {
+            moveChildBefore(innerList.get(index), innerList.get(index + 1));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected boolean replaceChild(Node child, Node replacement) {
+        int index = indexOf(child);
+        if (index < 0) {
+            return super.replaceChild(child, replacement);
+        }
+        if (replacement == null) {
+            innerList.remove(index);
+        } else {
+            innerList.set(index, (N) replacement);
+        }
+        return true;
+    }
 }
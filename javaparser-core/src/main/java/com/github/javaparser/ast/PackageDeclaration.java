@@ -77,6 +77,11 @@ public final class PackageDeclaration extends Node implements NodeWithAnnotation
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.PACKAGE_DECLARATION;
+    }
+
     /**
      * Retrieves the list of annotations declared before the package
      * declaration. Return <code>null</code> if there are no annotations.
@@ -108,6 +113,7 @@ public final class PackageDeclaration extends Node implements NodeWithAnnotation
      *            the annotations to set
      */
     public PackageDeclaration setAnnotations(NodeList<AnnotationExpr> annotations) {
+        detachReplacedChild(this.annotations, annotations);
         this.annotations = assertNotNull(annotations);
         setAsParentNodeOf(this.annotations);
         return this;
@@ -125,4 +131,12 @@ public final class PackageDeclaration extends Node implements NodeWithAnnotation
         return this;
     }
 
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (name == child) {
+            name = (NameExpr) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
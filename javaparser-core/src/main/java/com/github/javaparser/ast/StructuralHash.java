@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) 2007-2010 Júlio Vilmar Gesser.
+ * Copyright (C) 2011, 2013-2016 The JavaParser Team.
+ *
+ * This file is part of JavaParser.
+ * 
+ * JavaParser can be used either under the terms of
+ * a) the GNU Lesser General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ * b) the terms of the Apache License 
+ *
+ * You should have received a copy of both licenses in LICENCE.LGPL and
+ * LICENCE.APACHE. Please refer to those files for details.
+ *
+ * JavaParser is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ */
+
+
+package com.github.javaparser.ast;
+
+import com.github.javaparser.ast.body.AnnotationMemberDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.body.EnumConstantDeclaration;
+import com.github.javaparser.ast.body.InitializerDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.VariableDeclaratorId;
+import com.github.javaparser.ast.comments.Comment;
+import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
+import com.github.javaparser.ast.expr.LambdaExpr;
+import com.github.javaparser.ast.expr.LiteralExpr;
+import com.github.javaparser.ast.expr.MemberValuePair;
+import com.github.javaparser.ast.expr.MethodReferenceExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.expr.UnaryExpr;
+import com.github.javaparser.ast.imports.SingleStaticImportDeclaration;
+import com.github.javaparser.ast.nodeTypes.NodeWithModifiers;
+import com.github.javaparser.ast.stmt.BreakStmt;
+import com.github.javaparser.ast.stmt.ContinueStmt;
+import com.github.javaparser.ast.stmt.ExplicitConstructorInvocationStmt;
+import com.github.javaparser.ast.stmt.LabeledStmt;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.PrimitiveType;
+import com.github.javaparser.ast.type.TypeParameter;
+
+/**
+ * Computes Merkle-style hashes of the structure of a subtree.
+ * <p>
+ * The hash of a node combines the kind of the node, its own attributes (names, operators, literal values, modifiers)
+ * and the hashes of its children, so it is computed bottom-up in a single pass and stored on every node.
+ * Comments are ignored.
+ * Two hashes are kept per node:
+ * <ul>
+ * <li>the structural hash, which is equal for subtrees that print the same without comments,</li>
+ * <li>the normalized structural hash, in which all names, literals and types are replaced by a placeholder,
+ * so it is equal for subtrees that only differ in identifiers, literals and types.</li>
+ * </ul>
+ * The hashes are a snapshot: after changing a tree, call {@link #compute(Node)} again.
+ *
+ * @see com.github.javaparser.ParserConfiguration#computeStructuralHashes
+ */
+public final class StructuralHash {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long NAME = hash("name");
+    private static final long LITERAL = hash("literal");
+    private static final long TYPE = hash("type");
+
+    /**
+     * The hash of every node kind, by the ordinal of the kind. It is the hash of the class name, so it does not change
+     * when kinds are added.
+     */
+    private static final long[] KINDS = new long[NodeKind.count()];
+
+    static {
+        for (NodeKind kind : NodeKind.values()) {
+            KINDS[kind.ordinal()] = hash(kind.getNodeClass().getName());
+        }
+    }
+
+    private StructuralHash() {
+    }
+
+    /**
+     * Computes the hashes of a node and all its descendants, replacing any hashes computed before.
+     * Bodies of {@link com.github.javaparser.ParserConfiguration#lazyMethodBodies lazy methods} are parsed first, so
+     * that they are part of the hash of their declaration.
+     */
+    public static void compute(Node node) {
+        if (node instanceof MethodDeclaration) {
+            ((MethodDeclaration) node).getBody();
+        } else if (node instanceof ConstructorDeclaration) {
+            ((ConstructorDeclaration) node).getBody();
+        }
+        NodeKind kind = node.getKind();
+        long exact = kind == NodeKind.OTHER ? hash(node.getClass().getName()) : KINDS[kind.ordinal()];
+        long normalized = node instanceof LiteralExpr ? LITERAL : exact;
+        Attributes attributes = new Attributes(exact, normalized);
+        addAttributes(node, attributes);
+        for (Node child : node.getChildrenNodes()) {
+            if (child instanceof Comment) {
+                continue;
+            }
+            compute(child);
+            attributes.exact = combine(attributes.exact, child.structuralHash);
+            attributes.normalized = combine(attributes.normalized, child.normalizedStructuralHash);
+        }
+        node.structuralHash = mix(attributes.exact);
+        node.normalizedStructuralHash = mix(attributes.normalized);
+        node.structuralHashed = true;
+    }
+
+    private static void addAttributes(Node node, Attributes attributes) {
+        if (node instanceof NameExpr) {
+            attributes.name(((NameExpr) node).getName());
+        } else if (node instanceof VariableDeclaratorId) {
+            attributes.name(((VariableDeclaratorId) node).getName());
+        } else if (node instanceof TypeParameter) {
+            attributes.name(((TypeParameter) node).getName());
+        } else if (node instanceof MemberValuePair) {
+            attributes.name(((MemberValuePair) node).getName());
+        } else if (node instanceof EnumConstantDeclaration) {
+            attributes.name(((EnumConstantDeclaration) node).getName());
+        } else if (node instanceof AnnotationMemberDeclaration) {
+            attributes.name(((AnnotationMemberDeclaration) node).getName());
+        } else if (node instanceof MethodReferenceExpr) {
+            attributes.name(((MethodReferenceExpr) node).getIdentifier());
+        } else if (node instanceof SingleStaticImportDeclaration) {
+            attributes.name(((SingleStaticImportDeclaration) node).getStaticMember());
+        } else if (node instanceof LabeledStmt) {
+            attributes.name(((LabeledStmt) node).getLabel());
+        } else if (node instanceof BreakStmt) {
+            ((BreakStmt) node).getId().ifPresent(attributes::name);
+        } else if (node instanceof ContinueStmt) {
+            ((ContinueStmt) node).getId().ifPresent(attributes::name);
+        } else if (node instanceof ClassOrInterfaceType) {
+            attributes.type(((ClassOrInterfaceType) node).getName());
+        } else if (node instanceof PrimitiveType) {
+            attributes.type(((PrimitiveType) node).getType().name());
+        } else if (node instanceof StringLiteralExpr) {
+            attributes.literal(((StringLiteralExpr) node).getValue());
+        } else if (node instanceof BooleanLiteralExpr) {
+            attributes.literal(Boolean.toString(((BooleanLiteralExpr) node).getValue()));
+        } else if (node instanceof BinaryExpr) {
+            attributes.both(hash(((BinaryExpr) node).getOperator().name()));
+        } else if (node instanceof UnaryExpr) {
+            attributes.both(hash(((UnaryExpr) node).getOperator().name()));
+        } else if (node instanceof AssignExpr) {
+            attributes.both(hash(((AssignExpr) node).getOperator().name()));
+        } else if (node instanceof ExplicitConstructorInvocationStmt) {
+            attributes.both(flag(((ExplicitConstructorInvocationStmt) node).isThis()));
+        } else if (node instanceof Parameter) {
+            attributes.both(flag(((Parameter) node).isVarArgs()));
+        } else if (node instanceof InitializerDeclaration) {
+            attributes.both(flag(((InitializerDeclaration) node).isStatic()));
+        } else if (node instanceof ClassOrInterfaceDeclaration) {
+            attributes.both(flag(((ClassOrInterfaceDeclaration) node).isInterface()));
+        } else if (node instanceof MethodDeclaration) {
+            attributes.both(flag(((MethodDeclaration) node).isDefault()));
+        } else if (node instanceof LambdaExpr) {
+            attributes.both(flag(((LambdaExpr) node).isParametersEnclosed()));
+        }
+        if (node instanceof NodeWithModifiers) {
+            long modifiers = 0;
+            for (Modifier modifier : ((NodeWithModifiers<?>) node).getModifiers()) {
+                modifiers |= 1L << modifier.ordinal();
+            }
+            attributes.both(modifiers);
+        }
+    }
+
+    private static long flag(boolean value) {
+        return value ? 1 : 0;
+    }
+
+    /**
+     * FNV-1a over the characters of a string.
+     */
+    private static long hash(String value) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long combine(long hash, long value) {
+        return (hash ^ mix(value)) * FNV_PRIME + 0x9e3779b97f4a7c15L;
+    }
+
+    /**
+     * The finalizer of MurmurHash3, spreads every input bit over the whole hash.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class Attributes {
+        long exact;
+        long normalized;
+
+        Attributes(long exact, long normalized) {
+            this.exact = exact;
+            this.normalized = normalized;
+        }
+
+        void name(String name) {
+            exact = combine(exact, hash(name));
+            normalized = combine(normalized, NAME);
+        }
+
+        void type(String type) {
+            exact = combine(exact, hash(type));
+            normalized = combine(normalized, TYPE);
+        }
+
+        void literal(String value) {
+            exact = combine(exact, hash(value));
+            normalized = combine(normalized, LITERAL);
+        }
+
+        void both(long value) {
+            exact = combine(exact, value);
+            normalized = combine(normalized, value);
+        }
+    }
+}
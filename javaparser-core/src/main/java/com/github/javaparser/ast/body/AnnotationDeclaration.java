@@ -27,6 +27,7 @@ import java.util.EnumSet;
 
 import com.github.javaparser.Range;
 import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.AnnotationExpr;
 import com.github.javaparser.ast.expr.NameExpr;
@@ -80,4 +81,9 @@ public final class AnnotationDeclaration extends TypeDeclaration<AnnotationDecla
     public <A> void accept(VoidVisitor<A> v, A arg) {
         v.visit(this, arg);
     }
+
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.ANNOTATION_DECLARATION;
+    }
 }
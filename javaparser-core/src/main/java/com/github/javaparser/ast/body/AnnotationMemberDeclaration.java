@@ -23,6 +23,8 @@ package com.github.javaparser.ast.body;
 
 import com.github.javaparser.Range;
 import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.comments.JavadocComment;
 import com.github.javaparser.ast.expr.AnnotationExpr;
@@ -106,6 +108,11 @@ public final class AnnotationMemberDeclaration extends BodyDeclaration<Annotatio
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.ANNOTATION_MEMBER_DECLARATION;
+    }
+
     public Optional<Expression> getDefaultValue() {
         return defaultValue;
     }
@@ -166,4 +173,16 @@ public final class AnnotationMemberDeclaration extends BodyDeclaration<Annotatio
         return none();
     }
 
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (type == child) {
+            type = (Type<?>) replacement;
+            return true;
+        }
+        if (defaultValue.isPresent() && defaultValue.get() == child) {
+            defaultValue = Optional.ofNullable((Expression) replacement);
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
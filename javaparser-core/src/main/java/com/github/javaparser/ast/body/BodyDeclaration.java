@@ -66,6 +66,7 @@ public abstract class BodyDeclaration<T> extends Node implements NodeWithAnnotat
     @SuppressWarnings("unchecked")
     @Override
     public final T setAnnotations(NodeList<AnnotationExpr> annotations) {
+        detachReplacedChild(this.annotations, annotations);
         this.annotations = assertNotNull(annotations);
 		setAsParentNodeOf(this.annotations);
         return (T) this;
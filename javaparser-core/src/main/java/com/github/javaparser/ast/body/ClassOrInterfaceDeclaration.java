@@ -23,6 +23,7 @@ package com.github.javaparser.ast.body;
 
 import com.github.javaparser.Range;
 import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.nodeTypes.NodeWithTypeParameters;
@@ -115,6 +116,11 @@ public final class ClassOrInterfaceDeclaration extends TypeDeclaration<ClassOrIn
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.CLASS_OR_INTERFACE_DECLARATION;
+    }
+
     @Override
     public NodeList<ClassOrInterfaceType> getExtends() {
         return extendsList;
@@ -135,6 +141,7 @@ public final class ClassOrInterfaceDeclaration extends TypeDeclaration<ClassOrIn
 
     @Override
     public ClassOrInterfaceDeclaration setExtends(final NodeList<ClassOrInterfaceType> extendsList) {
+        detachReplacedChild(this.extendsList, extendsList);
         this.extendsList = assertNotNull(extendsList);
         setAsParentNodeOf(this.extendsList);
         return this;
@@ -142,6 +149,7 @@ public final class ClassOrInterfaceDeclaration extends TypeDeclaration<ClassOrIn
 
     @Override
     public ClassOrInterfaceDeclaration setImplements(final NodeList<ClassOrInterfaceType> implementsList) {
+        detachReplacedChild(this.implementsList, implementsList);
         this.implementsList = assertNotNull(implementsList);
         setAsParentNodeOf(this.implementsList);
         return this;
@@ -154,6 +162,7 @@ public final class ClassOrInterfaceDeclaration extends TypeDeclaration<ClassOrIn
 
     @Override
     public ClassOrInterfaceDeclaration setTypeParameters(final NodeList<TypeParameter> typeParameters) {
+        detachReplacedChild(this.typeParameters, typeParameters);
         this.typeParameters = assertNotNull(typeParameters);
         setAsParentNodeOf(this.typeParameters);
         return this;
@@ -22,8 +22,11 @@
 package com.github.javaparser.ast.body;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.UnparsedBody;
 import com.github.javaparser.ast.AccessSpecifier;
 import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.type.TypeParameter;
 import com.github.javaparser.ast.comments.JavadocComment;
@@ -69,6 +72,8 @@ public final class ConstructorDeclaration extends BodyDeclaration<ConstructorDec
 
     private BlockStmt body;
 
+    private UnparsedBody unparsedBody;
+
     public ConstructorDeclaration() {
         this(Range.UNKNOWN,
                 EnumSet.noneOf(Modifier.class),
@@ -127,6 +132,11 @@ public final class ConstructorDeclaration extends BodyDeclaration<ConstructorDec
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.CONSTRUCTOR_DECLARATION;
+    }
+
     /**
      * Return the modifiers of this member declaration.
      * 
@@ -181,6 +191,7 @@ public final class ConstructorDeclaration extends BodyDeclaration<ConstructorDec
 
     @Override
     public ConstructorDeclaration setParameters(NodeList<Parameter> parameters) {
+        detachReplacedChild(this.parameters, parameters);
         this.parameters = assertNotNull(parameters);
         setAsParentNodeOf(this.parameters);
         return this;
@@ -188,12 +199,14 @@ public final class ConstructorDeclaration extends BodyDeclaration<ConstructorDec
 
     @Override
     public ConstructorDeclaration setThrows(NodeList<ReferenceType<?>> throws_) {
+        detachReplacedChild(this.throws_, throws_);
         this.throws_ = assertNotNull(throws_);
         setAsParentNodeOf(this.throws_);
         return this;
     }
 
     public ConstructorDeclaration setTypeParameters(NodeList<TypeParameter> typeParameters) {
+        detachReplacedChild(this.typeParameters, typeParameters);
         this.typeParameters = assertNotNull(typeParameters);
         setAsParentNodeOf(this.typeParameters);
         return this;
@@ -224,9 +237,9 @@ public final class ConstructorDeclaration extends BodyDeclaration<ConstructorDec
                 sb.append(", ");
             }
             if (includingParameterName) {
-                sb.append(param.toStringWithoutComments());
+                param.printWithoutComments(sb);
             } else {
-                sb.append(param.getElementType().toStringWithoutComments());
+                param.getElementType().printWithoutComments(sb);
             }
         }
         sb.append(")");
@@ -239,7 +252,7 @@ public final class ConstructorDeclaration extends BodyDeclaration<ConstructorDec
                 } else {
                     sb.append(", ");
                 }
-                sb.append(thr.toStringWithoutComments());
+                thr.printWithoutComments(sb);
             }
         }
         return sb.toString();
@@ -265,15 +278,56 @@ public final class ConstructorDeclaration extends BodyDeclaration<ConstructorDec
         return none();
     }
     
+    /**
+     * @return the body, which is parsed first if it has not been yet.
+     * @throws com.github.javaparser.ParseProblemException if the body has not been parsed yet and does not parse.
+     */
     @Override
     public BlockStmt getBody() {
+        if (unparsedBody != null) {
+            setBody(unparsedBody.parse());
+        }
         return body;
     }
 
+    /**
+     * @return whether the body has been left to be parsed when it is asked for.
+     * @see com.github.javaparser.ParserConfiguration#lazyMethodBodies
+     */
+    public boolean hasUnparsedBody() {
+        return unparsedBody != null;
+    }
+
     @Override
     public ConstructorDeclaration setBody(BlockStmt body) {
         this.body = assertNotNull(body);
+        this.unparsedBody = null;
         setAsParentNodeOf(body);
         return this;
     }
+
+    /**
+     * Replaces the body by one that is parsed when it is asked for.
+     */
+    public ConstructorDeclaration setUnparsedBody(UnparsedBody unparsedBody) {
+        if (body != null) {
+            body.setParentNode(null);
+            body = null;
+        }
+        this.unparsedBody = assertNotNull(unparsedBody);
+        return this;
+    }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (name == child) {
+            name = (NameExpr) replacement;
+            return true;
+        }
+        if (body == child) {
+            body = (BlockStmt) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
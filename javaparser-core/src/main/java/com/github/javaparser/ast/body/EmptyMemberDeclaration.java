@@ -22,6 +22,7 @@
 package com.github.javaparser.ast.body;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.comments.JavadocComment;
 import com.github.javaparser.ast.nodeTypes.NodeWithJavaDoc;
@@ -57,6 +58,11 @@ public final class EmptyMemberDeclaration extends BodyDeclaration<EmptyMemberDec
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.EMPTY_MEMBER_DECLARATION;
+    }
+
     @Override
     public Optional<JavadocComment> getJavaDoc() {
         if(getComment().isPresent()){
@@ -25,6 +25,7 @@ import java.util.EnumSet;
 
 import com.github.javaparser.Range;
 import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.visitor.GenericVisitor;
@@ -54,4 +55,9 @@ public final class EmptyTypeDeclaration extends TypeDeclaration<EmptyTypeDeclara
     public <A> void accept(VoidVisitor<A> v, A arg) {
         v.visit(this, arg);
     }
+
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.EMPTY_TYPE_DECLARATION;
+    }
 }
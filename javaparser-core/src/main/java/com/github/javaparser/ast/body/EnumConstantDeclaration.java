@@ -26,6 +26,7 @@ import static com.github.javaparser.utils.Utils.assertNotNull;
 import static com.github.javaparser.utils.Utils.none;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.comments.JavadocComment;
 import com.github.javaparser.ast.expr.AnnotationExpr;
@@ -91,6 +92,11 @@ public final class EnumConstantDeclaration extends BodyDeclaration<EnumConstantD
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.ENUM_CONSTANT_DECLARATION;
+    }
+
     public NodeList<Expression> getArgs() {
         return args;
     }
@@ -105,12 +111,14 @@ public final class EnumConstantDeclaration extends BodyDeclaration<EnumConstantD
     }
 
     public EnumConstantDeclaration setArgs(NodeList<Expression> args) {
+        detachReplacedChild(this.args, args);
         this.args = assertNotNull(args);
 		setAsParentNodeOf(this.args);
         return this;
     }
 
     public EnumConstantDeclaration setClassBody(NodeList<BodyDeclaration<?>> classBody) {
+        detachReplacedChild(this.classBody, classBody);
         this.classBody = assertNotNull(classBody);
 		setAsParentNodeOf(this.classBody);
         return this;
@@ -28,6 +28,7 @@ import java.util.EnumSet;
 
 import com.github.javaparser.Range;
 import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.AnnotationExpr;
 import com.github.javaparser.ast.expr.NameExpr;
@@ -97,6 +98,11 @@ public final class EnumDeclaration extends TypeDeclaration<EnumDeclaration> impl
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.ENUM_DECLARATION;
+    }
+
     public NodeList<EnumConstantDeclaration> getEntries() {
         return entries;
     }
@@ -107,6 +113,7 @@ public final class EnumDeclaration extends TypeDeclaration<EnumDeclaration> impl
     }
 
     public EnumDeclaration setEntries(NodeList<EnumConstantDeclaration> entries) {
+        detachReplacedChild(this.entries, entries);
         this.entries = assertNotNull(entries);
 		setAsParentNodeOf(this.entries);
         return this;
@@ -114,6 +121,7 @@ public final class EnumDeclaration extends TypeDeclaration<EnumDeclaration> impl
 
     @Override
     public EnumDeclaration setImplements(NodeList<ClassOrInterfaceType> implementsList) {
+        detachReplacedChild(this.implementsList, implementsList);
         this.implementsList = assertNotNull(implementsList);
 		setAsParentNodeOf(this.implementsList);
         return this;
@@ -32,6 +32,8 @@ import java.util.Optional;
 import com.github.javaparser.Range;
 import com.github.javaparser.ast.ArrayBracketPair;
 import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.comments.JavadocComment;
 import com.github.javaparser.ast.expr.AnnotationExpr;
@@ -157,6 +159,11 @@ public final class FieldDeclaration extends BodyDeclaration<FieldDeclaration> im
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.FIELD_DECLARATION;
+    }
+
     /**
      * Return the modifiers of this member declaration.
      * 
@@ -181,6 +188,7 @@ public final class FieldDeclaration extends BodyDeclaration<FieldDeclaration> im
 
     @Override
     public FieldDeclaration setVariables(NodeList<VariableDeclarator> variables) {
+        detachReplacedChild(this.variables, variables);
         this.variables = assertNotNull(variables);
         setAsParentNodeOf(this.variables);
         return this;
@@ -285,8 +293,18 @@ public final class FieldDeclaration extends BodyDeclaration<FieldDeclaration> im
 
     @Override
     public FieldDeclaration setArrayBracketPairsAfterElementType(NodeList<ArrayBracketPair> arrayBracketPairsAfterType) {
+        detachReplacedChild(this.arrayBracketPairsAfterElementType, arrayBracketPairsAfterType);
         this.arrayBracketPairsAfterElementType = assertNotNull(arrayBracketPairsAfterType);
         setAsParentNodeOf(arrayBracketPairsAfterType);
         return this;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (elementType == child) {
+            elementType = (Type) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.body;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.comments.JavadocComment;
 import com.github.javaparser.ast.nodeTypes.NodeWithJavaDoc;
@@ -69,6 +71,11 @@ public final class InitializerDeclaration extends BodyDeclaration<InitializerDec
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.INITIALIZER_DECLARATION;
+    }
+
     public BlockStmt getBlock() {
         return block;
     }
@@ -97,4 +104,13 @@ public final class InitializerDeclaration extends BodyDeclaration<InitializerDec
         }
         return none();
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (block == child) {
+            block = (BlockStmt) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
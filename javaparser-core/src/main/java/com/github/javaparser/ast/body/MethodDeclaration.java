@@ -32,6 +32,7 @@ import java.util.EnumSet;
 import java.util.Optional;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.UnparsedBody;
 import com.github.javaparser.ast.*;
 import com.github.javaparser.ast.nodeTypes.*;
 import com.github.javaparser.ast.stmt.BlockStmt;
@@ -74,6 +75,8 @@ public final class MethodDeclaration extends BodyDeclaration<MethodDeclaration>
 
     private Optional<BlockStmt> body;
 
+    private UnparsedBody unparsedBody;
+
     private boolean isDefault = false;
 
     private NodeList<ArrayBracketPair> arrayBracketPairsAfterType;
@@ -179,10 +182,30 @@ public final class MethodDeclaration extends BodyDeclaration<MethodDeclaration>
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.METHOD_DECLARATION;
+    }
+
+    /**
+     * @return the body, which is parsed first if it has not been yet.
+     * @throws com.github.javaparser.ParseProblemException if the body has not been parsed yet and does not parse.
+     */
     public Optional<BlockStmt> getBody() {
+        if (unparsedBody != null) {
+            setBody(some(unparsedBody.parse()));
+        }
         return body;
     }
 
+    /**
+     * @return whether the body has been left to be parsed when it is asked for.
+     * @see com.github.javaparser.ParserConfiguration#lazyMethodBodies
+     */
+    public boolean hasUnparsedBody() {
+        return unparsedBody != null;
+    }
+
     /**
      * Return the modifiers of this member declaration.
      * 
@@ -232,10 +255,20 @@ public final class MethodDeclaration extends BodyDeclaration<MethodDeclaration>
 
     public MethodDeclaration setBody(final Optional<BlockStmt> body) {
         this.body = assertNotNull(body);
+        this.unparsedBody = null;
         setAsParentNodeOf(this.body);
         return this;
     }
 
+    /**
+     * Replaces the body by one that is parsed when it is asked for.
+     */
+    public MethodDeclaration setUnparsedBody(final UnparsedBody unparsedBody) {
+        setBody(none());
+        this.unparsedBody = assertNotNull(unparsedBody);
+        return this;
+    }
+
     @Override
     public MethodDeclaration setModifiers(final EnumSet<Modifier> modifiers) {
         this.modifiers = assertNotNull(modifiers);
@@ -256,6 +289,7 @@ public final class MethodDeclaration extends BodyDeclaration<MethodDeclaration>
 
     @Override
     public MethodDeclaration setParameters(final NodeList<Parameter> parameters) {
+        detachReplacedChild(this.parameters, parameters);
         this.parameters = assertNotNull(parameters);
         setAsParentNodeOf(this.parameters);
         return this;
@@ -263,6 +297,7 @@ public final class MethodDeclaration extends BodyDeclaration<MethodDeclaration>
 
     @Override
     public MethodDeclaration setThrows(final NodeList<ReferenceType<?>> throws_) {
+        detachReplacedChild(this.throws_, throws_);
         this.throws_ = assertNotNull(throws_);
         setAsParentNodeOf(this.throws_);
         return this;
@@ -286,6 +321,7 @@ public final class MethodDeclaration extends BodyDeclaration<MethodDeclaration>
 
     @Override
     public MethodDeclaration setTypeParameters(final NodeList<TypeParameter> typeParameters) {
+        detachReplacedChild(this.typeParameters, typeParameters);
         this.typeParameters = assertNotNull(typeParameters);
         setAsParentNodeOf(typeParameters);
         return this;
@@ -344,7 +380,7 @@ public final class MethodDeclaration extends BodyDeclaration<MethodDeclaration>
             }
         }
         // TODO verify it does not print comments connected to the type
-        sb.append(getElementType().toStringWithoutComments());
+        getElementType().printWithoutComments(sb);
         sb.append(" ");
         sb.append(getName());
         sb.append("(");
@@ -356,9 +392,9 @@ public final class MethodDeclaration extends BodyDeclaration<MethodDeclaration>
                 sb.append(", ");
             }
             if (includingParameterName) {
-                sb.append(param.toStringWithoutComments());
+                param.printWithoutComments(sb);
             } else {
-                sb.append(param.getElementType().toStringWithoutComments());
+                param.getElementType().printWithoutComments(sb);
                 if (param.isVarArgs()) {
                     sb.append("...");
                 }
@@ -374,7 +410,7 @@ public final class MethodDeclaration extends BodyDeclaration<MethodDeclaration>
                 } else {
                     sb.append(", ");
                 }
-                sb.append(thr.toStringWithoutComments());
+                thr.printWithoutComments(sb);
             }
         }
         return sb.toString();
@@ -399,6 +435,7 @@ public final class MethodDeclaration extends BodyDeclaration<MethodDeclaration>
 
     @Override
     public MethodDeclaration setArrayBracketPairsAfterElementType(NodeList<ArrayBracketPair> arrayBracketPairsAfterType) {
+        detachReplacedChild(this.arrayBracketPairsAfterType, arrayBracketPairsAfterType);
         this.arrayBracketPairsAfterType = assertNotNull(arrayBracketPairsAfterType);
         setAsParentNodeOf(arrayBracketPairsAfterType);
         return this;
@@ -412,6 +449,7 @@ public final class MethodDeclaration extends BodyDeclaration<MethodDeclaration>
     }
 
     public MethodDeclaration setArrayBracketPairsAfterParameterList(NodeList<ArrayBracketPair> arrayBracketPairsAfterParameterList) {
+        detachReplacedChild(this.arrayBracketPairsAfterParameterList, arrayBracketPairsAfterParameterList);
         this.arrayBracketPairsAfterParameterList = assertNotNull(arrayBracketPairsAfterParameterList);
         setAsParentNodeOf(arrayBracketPairsAfterParameterList);
         return this;
@@ -422,4 +460,21 @@ public final class MethodDeclaration extends BodyDeclaration<MethodDeclaration>
         setBody(some(block));
         return block;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (elementType == child) {
+            elementType = (Type) replacement;
+            return true;
+        }
+        if (name == child) {
+            name = (NameExpr) replacement;
+            return true;
+        }
+        if (body.isPresent() && body.get() == child) {
+            body = Optional.ofNullable((BlockStmt) replacement);
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
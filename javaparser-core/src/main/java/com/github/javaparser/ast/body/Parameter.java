@@ -25,6 +25,7 @@ import com.github.javaparser.Range;
 import com.github.javaparser.ast.ArrayBracketPair;
 import com.github.javaparser.ast.Modifier;
 import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.AnnotationExpr;
 import com.github.javaparser.ast.nodeTypes.*;
@@ -137,6 +138,11 @@ public final class Parameter extends Node implements
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.PARAMETER;
+    }
+
     @Override
     public Type<?> getType() {
         return wrapInArrayTypes(elementType,
@@ -207,6 +213,7 @@ public final class Parameter extends Node implements
     @Override
     @SuppressWarnings("unchecked")
     public Parameter setAnnotations(NodeList<AnnotationExpr> annotations) {
+        detachReplacedChild(this.annotations, annotations);
         this.annotations = assertNotNull(annotations);
         setAsParentNodeOf(this.annotations);
         return this;
@@ -242,8 +249,22 @@ public final class Parameter extends Node implements
 
     @Override
     public Parameter setArrayBracketPairsAfterElementType(NodeList<ArrayBracketPair> arrayBracketPairsAfterType) {
+        detachReplacedChild(this.arrayBracketPairsAfterType, arrayBracketPairsAfterType);
         this.arrayBracketPairsAfterType = assertNotNull(arrayBracketPairsAfterType);
         setAsParentNodeOf(arrayBracketPairsAfterType);
         return this;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (elementType == child) {
+            elementType = (Type<?>) replacement;
+            return true;
+        }
+        if (id == child) {
+            id = (VariableDeclaratorId) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
@@ -23,6 +23,7 @@ package com.github.javaparser.ast.body;
 
 import com.github.javaparser.Range;
 import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.comments.JavadocComment;
 import com.github.javaparser.ast.expr.AnnotationExpr;
@@ -123,6 +124,7 @@ public abstract class TypeDeclaration<T> extends BodyDeclaration<T>
     @SuppressWarnings("unchecked")
     @Override
     public T setMembers(NodeList<BodyDeclaration<?>> members) {
+		detachReplacedChild(this.members, members);
 		this.members = assertNotNull(members);
 		setAsParentNodeOf(this.members);
         return (T) this;
@@ -163,4 +165,12 @@ public abstract class TypeDeclaration<T> extends BodyDeclaration<T>
 		return none();
 	}
 
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (name == child) {
+			name = (NameExpr) replacement;
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
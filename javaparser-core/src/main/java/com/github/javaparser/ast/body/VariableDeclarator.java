@@ -24,6 +24,7 @@ package com.github.javaparser.ast.body;
 import com.github.javaparser.Range;
 import com.github.javaparser.ast.ArrayBracketPair;
 import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.NameExpr;
@@ -96,6 +97,11 @@ public final class VariableDeclarator extends Node implements
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.VARIABLE_DECLARATOR;
+    }
+
     public VariableDeclaratorId getId() {
         return id;
     }
@@ -147,4 +153,17 @@ public final class VariableDeclarator extends Node implements
         getId().setArrayBracketPairsAfterId(unwrapped.b);
         return this;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (id == child) {
+            id = (VariableDeclaratorId) replacement;
+            return true;
+        }
+        if (init.isPresent() && init.get() == child) {
+            init = Optional.ofNullable((Expression) replacement);
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
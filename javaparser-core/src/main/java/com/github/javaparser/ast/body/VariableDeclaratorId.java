@@ -24,6 +24,7 @@ package com.github.javaparser.ast.body;
 import com.github.javaparser.Range;
 import com.github.javaparser.ast.ArrayBracketPair;
 import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.nodeTypes.NodeWithName;
 import com.github.javaparser.ast.visitor.GenericVisitor;
@@ -69,6 +70,11 @@ public final class VariableDeclaratorId extends Node implements NodeWithName<Var
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.VARIABLE_DECLARATOR_ID;
+    }
+
     @Override
     public String getName() {
         return name;
@@ -85,6 +91,7 @@ public final class VariableDeclaratorId extends Node implements NodeWithName<Var
     }
 
     public VariableDeclaratorId setArrayBracketPairsAfterId(NodeList<ArrayBracketPair> arrayBracketPairsAfterId) {
+        detachReplacedChild(this.arrayBracketPairsAfterId, arrayBracketPairsAfterId);
         this.arrayBracketPairsAfterId = assertNotNull(arrayBracketPairsAfterId);
         setAsParentNodeOf(arrayBracketPairsAfterId);
         return this;
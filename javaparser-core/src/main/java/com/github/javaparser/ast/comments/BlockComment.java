@@ -22,6 +22,7 @@
 package com.github.javaparser.ast.comments;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -57,4 +58,9 @@ public final class BlockComment extends Comment {
     public <A> void accept(VoidVisitor<A> v, A arg) {
         v.visit(this, arg);
     }
+
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.BLOCK_COMMENT;
+    }
 }
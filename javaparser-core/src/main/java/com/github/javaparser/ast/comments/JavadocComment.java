@@ -22,6 +22,7 @@
 package com.github.javaparser.ast.comments;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -51,4 +52,9 @@ public final class JavadocComment extends Comment {
     public <A> void accept(VoidVisitor<A> v, A arg) {
         v.visit(this, arg);
     }
+
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.JAVADOC_COMMENT;
+    }
 }
@@ -22,6 +22,7 @@
 package com.github.javaparser.ast.comments;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -57,6 +58,11 @@ public final class LineComment extends Comment {
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.LINE_COMMENT;
+    }
+
     @Override
     public boolean isLineComment()
     {
@@ -22,6 +22,7 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
 
 import static com.github.javaparser.utils.Utils.assertNotNull;
 
@@ -46,4 +47,13 @@ public abstract class AnnotationExpr extends Expression {
 		setAsParentNodeOf(name);
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (name == child) {
+			name = (NameExpr) replacement;
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
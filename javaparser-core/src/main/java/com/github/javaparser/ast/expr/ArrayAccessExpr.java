@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -60,6 +62,11 @@ public final class ArrayAccessExpr extends Expression {
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.ARRAY_ACCESS_EXPR;
+    }
+
     public Expression getIndex() {
         return index;
     }
@@ -79,4 +86,17 @@ public final class ArrayAccessExpr extends Expression {
 		setAsParentNodeOf(this.name);
         return this;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (name == child) {
+            name = (Expression) replacement;
+            return true;
+        }
+        if (index == child) {
+            index = (Expression) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
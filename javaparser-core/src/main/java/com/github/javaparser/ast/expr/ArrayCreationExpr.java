@@ -24,6 +24,8 @@ package com.github.javaparser.ast.expr;
 import com.github.javaparser.Range;
 import com.github.javaparser.ast.ArrayCreationLevel;
 import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.type.ArrayType;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
@@ -96,6 +98,11 @@ public final class ArrayCreationExpr extends Expression {
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.ARRAY_CREATION_EXPR;
+    }
+
     public Optional<ArrayInitializerExpr> getInitializer() {
         return initializer;
     }
@@ -121,6 +128,7 @@ public final class ArrayCreationExpr extends Expression {
     }
 
     public ArrayCreationExpr setLevels(NodeList<ArrayCreationLevel> levels) {
+        detachReplacedChild(this.levels, levels);
         this.levels = assertNotNull(levels);
         setAsParentNodeOf(levels);
         return this;
@@ -152,4 +160,17 @@ public final class ArrayCreationExpr extends Expression {
         ClassOrInterfaceType classOrInterfaceType = new ClassOrInterfaceType(type);
         return setElementType(classOrInterfaceType);
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (elementType == child) {
+            elementType = (Type<?>) replacement;
+            return true;
+        }
+        if (initializer.isPresent() && initializer.get() == child) {
+            initializer = Optional.ofNullable((ArrayInitializerExpr) replacement);
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
@@ -22,6 +22,7 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
@@ -58,11 +59,17 @@ public final class ArrayInitializerExpr extends Expression {
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.ARRAY_INITIALIZER_EXPR;
+    }
+
     public NodeList<Expression> getValues() {
         return values;
     }
 
     public ArrayInitializerExpr setValues(NodeList<Expression> values) {
+        detachReplacedChild(this.values, values);
         this.values = assertNotNull(values);
 		setAsParentNodeOf(this.values);
         return this;
@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -76,6 +78,11 @@ public final class AssignExpr extends Expression {
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.ASSIGN_EXPR;
+    }
+
     public Operator getOperator() {
         return op;
     }
@@ -104,4 +111,17 @@ public final class AssignExpr extends Expression {
 		setAsParentNodeOf(this.value);
         return this;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (target == child) {
+            target = (Expression) replacement;
+            return true;
+        }
+        if (value == child) {
+            value = (Expression) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
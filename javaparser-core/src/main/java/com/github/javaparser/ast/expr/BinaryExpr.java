@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -83,6 +85,11 @@ public final class BinaryExpr extends Expression {
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.BINARY_EXPR;
+    }
+
     public Expression getLeft() {
         return left;
     }
@@ -111,4 +118,17 @@ public final class BinaryExpr extends Expression {
 		setAsParentNodeOf(this.right);
         return this;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (left == child) {
+            left = (Expression) replacement;
+            return true;
+        }
+        if (right == child) {
+            right = (Expression) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
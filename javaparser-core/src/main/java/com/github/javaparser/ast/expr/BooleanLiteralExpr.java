@@ -22,6 +22,7 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -55,6 +56,11 @@ public final class BooleanLiteralExpr extends LiteralExpr {
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.BOOLEAN_LITERAL_EXPR;
+    }
+
     public boolean getValue() {
         return value;
     }
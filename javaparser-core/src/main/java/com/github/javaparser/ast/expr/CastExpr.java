@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.nodeTypes.NodeWithType;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.github.javaparser.ast.type.Type;
@@ -63,6 +65,11 @@ public final class CastExpr extends Expression implements NodeWithType<CastExpr,
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.CAST_EXPR;
+    }
+
     public Expression getExpr() {
         return expr;
     }
@@ -84,4 +91,17 @@ public final class CastExpr extends Expression implements NodeWithType<CastExpr,
 		setAsParentNodeOf(this.type);
         return this;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (type == child) {
+            type = (Type<?>) replacement;
+            return true;
+        }
+        if (expr == child) {
+            expr = (Expression) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
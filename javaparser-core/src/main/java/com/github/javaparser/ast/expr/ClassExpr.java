@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.nodeTypes.NodeWithType;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.github.javaparser.ast.type.Type;
@@ -63,6 +65,11 @@ public final class ClassExpr extends Expression implements NodeWithType<ClassExp
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.CLASS_EXPR;
+    }
+
     @Override
     public Type getType() {
         return type;
@@ -74,4 +81,13 @@ public final class ClassExpr extends Expression implements NodeWithType<ClassExp
 		setAsParentNodeOf(this.type);
         return this;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (type == child) {
+            type = (Type) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
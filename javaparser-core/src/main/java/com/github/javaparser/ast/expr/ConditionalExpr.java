@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -63,6 +65,11 @@ public final class ConditionalExpr extends Expression {
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.CONDITIONAL_EXPR;
+    }
+
     public Expression getCondition() {
         return condition;
     }
@@ -92,4 +99,21 @@ public final class ConditionalExpr extends Expression {
 		setAsParentNodeOf(this.thenExpr);
         return this;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (condition == child) {
+            condition = (Expression) replacement;
+            return true;
+        }
+        if (thenExpr == child) {
+            thenExpr = (Expression) replacement;
+            return true;
+        }
+        if (elseExpr == child) {
+            elseExpr = (Expression) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
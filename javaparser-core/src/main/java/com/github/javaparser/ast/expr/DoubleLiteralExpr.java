@@ -22,6 +22,7 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -48,4 +49,8 @@ public final class DoubleLiteralExpr extends StringLiteralExpr {
 	@Override public <A> void accept(final VoidVisitor<A> v, final A arg) {
 		v.visit(this, arg);
 	}
+
+	@Override public NodeKind getKind() {
+		return NodeKind.DOUBLE_LITERAL_EXPR;
+	}
 }
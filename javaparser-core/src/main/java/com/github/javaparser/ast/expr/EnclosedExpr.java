@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -58,6 +60,10 @@ public final class EnclosedExpr extends Expression {
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.ENCLOSED_EXPR;
+	}
+
 	public Optional<Expression> getInner() {
 		return inner;
 	}
@@ -67,4 +73,13 @@ public final class EnclosedExpr extends Expression {
 		setAsParentNodeOf(this.inner);
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (inner.isPresent() && inner.get() == child) {
+			inner = Optional.ofNullable((Expression) replacement);
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.nodeTypes.NodeWithTypeArguments;
 import com.github.javaparser.ast.type.Type;
@@ -68,6 +70,10 @@ public final class FieldAccessExpr extends Expression implements NodeWithTypeArg
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.FIELD_ACCESS_EXPR;
+	}
+
 	public String getField() {
 		return field.getName();
 	}
@@ -104,8 +110,27 @@ public final class FieldAccessExpr extends Expression implements NodeWithTypeArg
 
 	@Override
 	public FieldAccessExpr setTypeArguments(final Optional<NodeList<Type<?>>> types) {
+		detachReplacedChild(this.typeArguments, types);
 		this.typeArguments = assertNotNull(types);
 		setAsParentNodeOf(this.typeArguments);
 		return this;
 	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (scope == child) {
+			scope = (Expression) replacement;
+			return true;
+		}
+		if (typeArguments.isPresent() && typeArguments.get() == child) {
+			typeArguments = Optional.ofNullable((NodeList<Type<?>>) replacement);
+			return true;
+		}
+		if (field == child) {
+			field = (NameExpr) replacement;
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
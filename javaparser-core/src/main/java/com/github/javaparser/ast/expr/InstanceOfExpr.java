@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.nodeTypes.NodeWithType;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.github.javaparser.ast.type.ReferenceType;
@@ -62,6 +64,10 @@ public final class InstanceOfExpr extends Expression implements NodeWithType<Ins
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.INSTANCE_OF_EXPR;
+	}
+
 	public Expression getExpr() {
 		return expr;
 	}
@@ -83,4 +89,17 @@ public final class InstanceOfExpr extends Expression implements NodeWithType<Ins
 		setAsParentNodeOf(this.type);
         return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (expr == child) {
+			expr = (Expression) replacement;
+			return true;
+		}
+		if (type == child) {
+			type = (ReferenceType<?>) replacement;
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
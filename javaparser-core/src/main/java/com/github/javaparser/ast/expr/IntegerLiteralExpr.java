@@ -22,6 +22,7 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -54,6 +55,10 @@ public class IntegerLiteralExpr extends StringLiteralExpr {
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.INTEGER_LITERAL_EXPR;
+	}
+
 	public final boolean isMinValue() {
 		return value != null && //
 				value.length() == 10 && //
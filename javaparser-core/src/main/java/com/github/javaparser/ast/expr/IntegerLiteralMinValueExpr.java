@@ -22,6 +22,7 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -46,4 +47,8 @@ public final class IntegerLiteralMinValueExpr extends IntegerLiteralExpr {
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.INTEGER_LITERAL_MIN_VALUE_EXPR;
+	}
+
 }
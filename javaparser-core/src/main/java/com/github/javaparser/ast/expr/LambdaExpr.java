@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.Parameter;
 import com.github.javaparser.ast.nodeTypes.NodeWithParameters;
@@ -71,6 +73,7 @@ public class LambdaExpr extends Expression implements
 
     @Override
 	public LambdaExpr setParameters(NodeList<Parameter> parameters) {
+		detachReplacedChild(this.parameters, parameters);
 		this.parameters = assertNotNull(parameters);
 		setAsParentNodeOf(this.parameters);
 		return this;
@@ -96,6 +99,11 @@ public class LambdaExpr extends Expression implements
 		v.visit(this, arg);
 	}
 
+	@Override
+	public NodeKind getKind() {
+		return NodeKind.LAMBDA_EXPR;
+	}
+
 	public boolean isParametersEnclosed() {
 		return parametersEnclosed;
 	}
@@ -105,4 +113,12 @@ public class LambdaExpr extends Expression implements
 		return this;
 	}
 
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (body == child) {
+			body = (Statement) replacement;
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
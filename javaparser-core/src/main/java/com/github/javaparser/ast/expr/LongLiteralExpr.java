@@ -22,6 +22,7 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -53,6 +54,10 @@ public class LongLiteralExpr extends StringLiteralExpr {
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.LONG_LITERAL_EXPR;
+	}
+
 	public final boolean isMinValue() {
 		return value != null && //
 				value.length() == 20 && //
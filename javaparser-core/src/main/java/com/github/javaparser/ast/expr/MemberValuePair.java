@@ -23,6 +23,7 @@ package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
 import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.nodeTypes.NodeWithName;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
@@ -60,6 +61,10 @@ public final class MemberValuePair extends Node implements NodeWithName<MemberVa
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.MEMBER_VALUE_PAIR;
+	}
+
 	@Override
 	public String getName() {
 		return name;
@@ -80,4 +85,13 @@ public final class MemberValuePair extends Node implements NodeWithName<MemberVa
 		setAsParentNodeOf(this.value);
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (value == child) {
+			value = (Expression) replacement;
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.nodeTypes.NodeWithArguments;
 import com.github.javaparser.ast.nodeTypes.NodeWithTypeArguments;
@@ -92,6 +94,11 @@ public final class MethodCallExpr extends Expression implements
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.METHOD_CALL_EXPR;
+    }
+
     @Override
     public NodeList<Expression> getArgs() {
         return args;
@@ -111,6 +118,7 @@ public final class MethodCallExpr extends Expression implements
 
     @Override
 	public MethodCallExpr setArgs(final NodeList<Expression> args) {
+		detachReplacedChild(this.args, args);
 		this.args = assertNotNull(args);
 		setAsParentNodeOf(this.args);
         return this;
@@ -140,8 +148,27 @@ public final class MethodCallExpr extends Expression implements
 
     @Override
     public MethodCallExpr setTypeArguments(final Optional<NodeList<Type<?>>> types) {
+        detachReplacedChild(this.typeArguments, types);
         this.typeArguments = assertNotNull(types);
         setAsParentNodeOf(this.typeArguments);
         return this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (scope.isPresent() && scope.get() == child) {
+            scope = Optional.ofNullable((Expression) replacement);
+            return true;
+        }
+        if (typeArguments.isPresent() && typeArguments.get() == child) {
+            typeArguments = Optional.ofNullable((NodeList<Type<?>>) replacement);
+            return true;
+        }
+        if (name == child) {
+            name = (NameExpr) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.nodeTypes.NodeWithTypeArguments;
 import com.github.javaparser.ast.type.Type;
@@ -77,6 +79,11 @@ public class MethodReferenceExpr extends Expression implements NodeWithTypeArgum
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.METHOD_REFERENCE_EXPR;
+    }
+
     public Expression getScope() {
         return scope;
     }
@@ -94,6 +101,7 @@ public class MethodReferenceExpr extends Expression implements NodeWithTypeArgum
 
     @Override
     public MethodReferenceExpr setTypeArguments(final Optional<NodeList<Type<?>>> types) {
+        detachReplacedChild(this.typeArguments, types);
         this.typeArguments = assertNotNull(types);
         setAsParentNodeOf(this.typeArguments);
         return this;
@@ -108,4 +116,17 @@ public class MethodReferenceExpr extends Expression implements NodeWithTypeArgum
         return this;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (scope == child) {
+            scope = (Expression) replacement;
+            return true;
+        }
+        if (typeArguments.isPresent() && typeArguments.get() == child) {
+            typeArguments = Optional.ofNullable((NodeList<Type<?>>) replacement);
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
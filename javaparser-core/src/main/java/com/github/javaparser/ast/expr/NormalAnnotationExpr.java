@@ -25,6 +25,7 @@ import static com.github.javaparser.ast.expr.NameExpr.*;
 import static com.github.javaparser.utils.Utils.assertNotNull;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
@@ -59,11 +60,17 @@ public final class NormalAnnotationExpr extends AnnotationExpr {
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.NORMAL_ANNOTATION_EXPR;
+    }
+
     public NodeList<MemberValuePair> getPairs() {
         return pairs;
     }
 
     public NormalAnnotationExpr setPairs(final NodeList<MemberValuePair> pairs) {
+        detachReplacedChild(this.pairs, pairs);
         this.pairs = assertNotNull(pairs);
         setAsParentNodeOf(this.pairs);
         return this;
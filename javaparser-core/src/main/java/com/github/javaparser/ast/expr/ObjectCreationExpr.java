@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.BodyDeclaration;
 import com.github.javaparser.ast.nodeTypes.NodeWithArguments;
@@ -108,6 +110,11 @@ public final class ObjectCreationExpr extends Expression implements
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.OBJECT_CREATION_EXPR;
+    }
+
     /**
      * This can be null, to indicate there is no body
      */
@@ -136,6 +143,7 @@ public final class ObjectCreationExpr extends Expression implements
     }
 
     public ObjectCreationExpr setAnonymousClassBody(final Optional<NodeList<BodyDeclaration<?>>> anonymousClassBody) {
+        detachReplacedChild(this.anonymousClassBody, anonymousClassBody);
         this.anonymousClassBody = assertNotNull(anonymousClassBody);
         setAsParentNodeOf(this.anonymousClassBody);
         return this;
@@ -143,6 +151,7 @@ public final class ObjectCreationExpr extends Expression implements
 
     @Override
     public ObjectCreationExpr setArgs(final NodeList<Expression> args) {
+        detachReplacedChild(this.args, args);
         this.args = assertNotNull(args);
         setAsParentNodeOf(this.args);
         return this;
@@ -169,8 +178,31 @@ public final class ObjectCreationExpr extends Expression implements
 
     @Override
     public ObjectCreationExpr setTypeArguments(final Optional<NodeList<Type<?>>> typeArguments) {
+        detachReplacedChild(this.typeArguments, typeArguments);
         this.typeArguments = assertNotNull(typeArguments);
         setAsParentNodeOf(this.typeArguments);
         return this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (scope.isPresent() && scope.get() == child) {
+            scope = Optional.ofNullable((Expression) replacement);
+            return true;
+        }
+        if (type == child) {
+            type = (ClassOrInterfaceType) replacement;
+            return true;
+        }
+        if (typeArguments.isPresent() && typeArguments.get() == child) {
+            typeArguments = Optional.ofNullable((NodeList<Type<?>>) replacement);
+            return true;
+        }
+        if (anonymousClassBody.isPresent() && anonymousClassBody.get() == child) {
+            anonymousClassBody = Optional.ofNullable((NodeList<BodyDeclaration<?>>) replacement);
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -53,6 +55,10 @@ public final class QualifiedNameExpr extends NameExpr {
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.QUALIFIED_NAME_EXPR;
+	}
+
 	public NameExpr getQualifier() {
 		return qualifier;
 	}
@@ -66,4 +72,13 @@ public final class QualifiedNameExpr extends NameExpr {
     public String getQualifiedName() {
         return qualifier.getQualifiedName() + "." + getName();
     }
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (qualifier == child) {
+			qualifier = (NameExpr) replacement;
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -53,6 +55,10 @@ public final class SingleMemberAnnotationExpr extends AnnotationExpr {
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.SINGLE_MEMBER_ANNOTATION_EXPR;
+	}
+
 	public Expression getMemberValue() {
 		return memberValue;
 	}
@@ -62,4 +68,13 @@ public final class SingleMemberAnnotationExpr extends AnnotationExpr {
 		setAsParentNodeOf(this.memberValue);
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (memberValue == child) {
+			memberValue = (Expression) replacement;
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -57,6 +59,10 @@ public final class SuperExpr extends Expression {
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.SUPER_EXPR;
+	}
+
 	public Optional<Expression> getClassExpr() {
 		return classExpr;
 	}
@@ -66,4 +72,13 @@ public final class SuperExpr extends Expression {
 		setAsParentNodeOf(this.classExpr);
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (classExpr.isPresent() && classExpr.get() == child) {
+			classExpr = Optional.ofNullable((Expression) replacement);
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.nodeTypes.NodeWithType;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.github.javaparser.ast.type.Type;
@@ -58,6 +60,11 @@ public class TypeExpr extends Expression implements NodeWithType<TypeExpr, Type<
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.TYPE_EXPR;
+    }
+
     @Override
     public Type<?> getType() {
         return type;
@@ -70,6 +77,12 @@ public class TypeExpr extends Expression implements NodeWithType<TypeExpr, Type<
         return this;
     }
 
-
-
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (type == child) {
+            type = (Type<?>) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.expr;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -67,6 +69,10 @@ public final class UnaryExpr extends Expression {
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.UNARY_EXPR;
+	}
+
 	public Expression getExpr() {
 		return expr;
 	}
@@ -85,4 +91,13 @@ public final class UnaryExpr extends Expression {
 		this.op = op;
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (expr == child) {
+			expr = (Expression) replacement;
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
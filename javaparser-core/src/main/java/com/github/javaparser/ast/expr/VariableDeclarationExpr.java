@@ -31,6 +31,8 @@ import java.util.stream.Collectors;
 import com.github.javaparser.Range;
 import com.github.javaparser.ast.ArrayBracketPair;
 import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.VariableDeclarator;
 import com.github.javaparser.ast.nodeTypes.NodeWithAnnotations;
@@ -158,6 +160,11 @@ public final class VariableDeclarationExpr extends Expression implements
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.VARIABLE_DECLARATION_EXPR;
+    }
+
     @Override
     public NodeList<AnnotationExpr> getAnnotations() {
         return annotations;
@@ -186,6 +193,7 @@ public final class VariableDeclarationExpr extends Expression implements
 
     @Override
     public VariableDeclarationExpr setAnnotations(final NodeList<AnnotationExpr> annotations) {
+        detachReplacedChild(this.annotations, annotations);
         this.annotations = assertNotNull(annotations);
         setAsParentNodeOf(this.annotations);
         return this;
@@ -206,6 +214,7 @@ public final class VariableDeclarationExpr extends Expression implements
 
     @Override
     public VariableDeclarationExpr setVariables(final NodeList<VariableDeclarator> variables) {
+        detachReplacedChild(this.variables, variables);
         this.variables = variables;
         setAsParentNodeOf(this.variables);
         return this;
@@ -217,8 +226,18 @@ public final class VariableDeclarationExpr extends Expression implements
 
     @Override
     public VariableDeclarationExpr setArrayBracketPairsAfterElementType(NodeList<ArrayBracketPair> arrayBracketPairsAfterType) {
+        detachReplacedChild(this.arrayBracketPairsAfterType, arrayBracketPairsAfterType);
         this.arrayBracketPairsAfterType = assertNotNull(arrayBracketPairsAfterType);
         setAsParentNodeOf(arrayBracketPairsAfterType);
         return this;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (elementType == child) {
+            elementType = (Type) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
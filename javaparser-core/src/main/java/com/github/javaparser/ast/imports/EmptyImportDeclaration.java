@@ -1,6 +1,7 @@
 package com.github.javaparser.ast.imports;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -19,6 +20,11 @@ public class EmptyImportDeclaration extends ImportDeclaration {
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.EMPTY_IMPORT_DECLARATION;
+    }
+
     public EmptyImportDeclaration() {
         this(Range.UNKNOWN);
     }
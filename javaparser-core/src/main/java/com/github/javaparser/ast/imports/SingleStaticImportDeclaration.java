@@ -1,6 +1,8 @@
 package com.github.javaparser.ast.imports;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
@@ -37,6 +39,11 @@ public class SingleStaticImportDeclaration extends ImportDeclaration {
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.SINGLE_STATIC_IMPORT_DECLARATION;
+    }
+
     public ClassOrInterfaceType getType() {
         return type;
     }
@@ -55,4 +62,13 @@ public class SingleStaticImportDeclaration extends ImportDeclaration {
         this.staticMember = assertNotNull(staticMember);
         return this;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (type == child) {
+            type = (ClassOrInterfaceType) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
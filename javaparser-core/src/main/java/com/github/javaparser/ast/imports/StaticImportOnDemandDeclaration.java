@@ -1,6 +1,8 @@
 package com.github.javaparser.ast.imports;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
@@ -33,6 +35,11 @@ public class StaticImportOnDemandDeclaration extends ImportDeclaration {
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.STATIC_IMPORT_ON_DEMAND_DECLARATION;
+    }
+
     public ClassOrInterfaceType getType() {
         return type;
     }
@@ -42,4 +49,13 @@ public class StaticImportOnDemandDeclaration extends ImportDeclaration {
         setAsParentNodeOf(type);
         return this;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (type == child) {
+            type = (ClassOrInterfaceType) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
@@ -1,6 +1,8 @@
 package com.github.javaparser.ast.imports;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
@@ -39,6 +41,11 @@ public class TypeImportOnDemandDeclaration extends ImportDeclaration {
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.TYPE_IMPORT_ON_DEMAND_DECLARATION;
+    }
+
     /**
      * Retrieves the name of the import.
      *
@@ -60,4 +67,13 @@ public class TypeImportOnDemandDeclaration extends ImportDeclaration {
         setAsParentNodeOf(this.name);
         return this;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (name == child) {
+            name = (NameExpr) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
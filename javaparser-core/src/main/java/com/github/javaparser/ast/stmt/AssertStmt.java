@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.stmt;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.expr.BooleanLiteralExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.visitor.GenericVisitor;
@@ -68,6 +70,10 @@ public final class AssertStmt extends Statement {
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.ASSERT_STMT;
+	}
+
 	public Expression getCheck() {
 		return check;
 	}
@@ -87,4 +93,17 @@ public final class AssertStmt extends Statement {
 		setAsParentNodeOf(this.msg);
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (check == child) {
+			check = (Expression) replacement;
+			return true;
+		}
+		if (msg.isPresent() && msg.get() == child) {
+			msg = Optional.ofNullable((Expression) replacement);
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
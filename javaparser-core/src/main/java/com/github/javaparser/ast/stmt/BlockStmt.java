@@ -24,6 +24,7 @@ package com.github.javaparser.ast.stmt;
 import static com.github.javaparser.utils.Utils.assertNotNull;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.nodeTypes.NodeWithStatements;
 import com.github.javaparser.ast.visitor.GenericVisitor;
@@ -60,6 +61,11 @@ public final class BlockStmt extends Statement implements NodeWithStatements<Blo
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.BLOCK_STMT;
+    }
+
     @Override
     public NodeList<Statement> getStmts() {
         return stmts;
@@ -67,6 +73,7 @@ public final class BlockStmt extends Statement implements NodeWithStatements<Blo
 
     @Override
     public BlockStmt setStmts(final NodeList<Statement> stmts) {
+        detachReplacedChild(this.stmts, stmts);
         this.stmts = assertNotNull(stmts);
         setAsParentNodeOf(this.stmts);
         return this;
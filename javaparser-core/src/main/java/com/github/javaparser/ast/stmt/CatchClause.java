@@ -24,6 +24,7 @@ package com.github.javaparser.ast.stmt;
 import com.github.javaparser.Range;
 import com.github.javaparser.ast.Modifier;
 import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.Parameter;
 import com.github.javaparser.ast.body.VariableDeclaratorId;
@@ -85,6 +86,10 @@ public final class CatchClause extends Node implements NodeWithBlockStmt<CatchCl
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.CATCH_CLAUSE;
+	}
+
     /**
      * Use {@link #getBody()} instead
      */
@@ -128,4 +133,17 @@ public final class CatchClause extends Node implements NodeWithBlockStmt<CatchCl
         setAsParentNodeOf(this.catchBlock);
         return this;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (param == child) {
+            param = (Parameter) replacement;
+            return true;
+        }
+        if (catchBlock == child) {
+            catchBlock = (BlockStmt) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.stmt;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.nodeTypes.NodeWithTypeArguments;
@@ -76,6 +78,11 @@ public final class ExplicitConstructorInvocationStmt extends Statement implement
 		v.visit(this, arg);
 	}
 
+	@Override
+	public NodeKind getKind() {
+		return NodeKind.EXPLICIT_CONSTRUCTOR_INVOCATION_STMT;
+	}
+
 	public NodeList<Expression> getArgs() {
         return args;
 	}
@@ -89,6 +96,7 @@ public final class ExplicitConstructorInvocationStmt extends Statement implement
 	}
 
 	public ExplicitConstructorInvocationStmt setArgs(final NodeList<Expression> args) {
+		detachReplacedChild(this.args, args);
 		this.args = assertNotNull(args);
 		setAsParentNodeOf(this.args);
 		return this;
@@ -112,8 +120,23 @@ public final class ExplicitConstructorInvocationStmt extends Statement implement
 
     @Override
     public ExplicitConstructorInvocationStmt setTypeArguments(final Optional<NodeList<Type<?>>> types) {
+        detachReplacedChild(this.typeArguments, types);
         this.typeArguments = assertNotNull(types);
         setAsParentNodeOf(this.typeArguments);
         return this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (typeArguments.isPresent() && typeArguments.get() == child) {
+            typeArguments = Optional.ofNullable((NodeList<Type<?>>) replacement);
+            return true;
+        }
+        if (expr.isPresent() && expr.get() == child) {
+            expr = Optional.ofNullable((Expression) replacement);
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
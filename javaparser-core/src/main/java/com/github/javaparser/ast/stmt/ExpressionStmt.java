@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.stmt;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.expr.BooleanLiteralExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.visitor.GenericVisitor;
@@ -57,6 +59,10 @@ public final class ExpressionStmt extends Statement {
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.EXPRESSION_STMT;
+	}
+
 	public Expression getExpression() {
 		return expr;
 	}
@@ -66,4 +72,13 @@ public final class ExpressionStmt extends Statement {
 		setAsParentNodeOf(this.expr);
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (expr == child) {
+			expr = (Expression) replacement;
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
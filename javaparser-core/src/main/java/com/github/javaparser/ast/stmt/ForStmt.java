@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.stmt;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.nodeTypes.NodeWithBody;
@@ -79,6 +81,11 @@ public final class ForStmt extends Statement implements NodeWithBody<ForStmt> {
 		v.visit(this, arg);
 	}
 
+	@Override
+	public NodeKind getKind() {
+		return NodeKind.FOR_STMT;
+	}
+
 	@Override
     public Statement getBody() {
 		return body;
@@ -110,14 +117,29 @@ public final class ForStmt extends Statement implements NodeWithBody<ForStmt> {
 	}
 
 	public ForStmt setInit(final NodeList<Expression> init) {
+		detachReplacedChild(this.init, init);
 		this.init = assertNotNull(init);
 		setAsParentNodeOf(this.init);
 		return this;
 	}
 
 	public ForStmt setUpdate(final NodeList<Expression> update) {
+		detachReplacedChild(this.update, update);
 		this.update = assertNotNull(update);
 		setAsParentNodeOf(this.update);
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (compare.isPresent() && compare.get() == child) {
+			compare = Optional.ofNullable((Expression) replacement);
+			return true;
+		}
+		if (body == child) {
+			body = (Statement) replacement;
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
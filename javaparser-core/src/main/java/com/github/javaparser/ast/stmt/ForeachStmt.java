@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.stmt;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.VariableDeclarationExpr;
@@ -80,6 +82,11 @@ public final class ForeachStmt extends Statement implements NodeWithBody<Foreach
 		v.visit(this, arg);
 	}
 
+	@Override
+	public NodeKind getKind() {
+		return NodeKind.FOREACH_STMT;
+	}
+
 	@Override
     public Statement getBody() {
 		return body;
@@ -111,4 +118,21 @@ public final class ForeachStmt extends Statement implements NodeWithBody<Foreach
 		setAsParentNodeOf(this.var);
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (var == child) {
+			var = (VariableDeclarationExpr) replacement;
+			return true;
+		}
+		if (iterable == child) {
+			iterable = (Expression) replacement;
+			return true;
+		}
+		if (body == child) {
+			body = (Statement) replacement;
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.stmt;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.expr.BooleanLiteralExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.visitor.GenericVisitor;
@@ -70,6 +72,10 @@ public final class IfStmt extends Statement {
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.IF_STMT;
+	}
+
 	public Expression getCondition() {
 		return condition;
 	}
@@ -99,4 +105,21 @@ public final class IfStmt extends Statement {
 		setAsParentNodeOf(this.thenStmt);
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (condition == child) {
+			condition = (Expression) replacement;
+			return true;
+		}
+		if (thenStmt == child) {
+			thenStmt = (Statement) replacement;
+			return true;
+		}
+		if (elseStmt.isPresent() && elseStmt.get() == child) {
+			elseStmt = Optional.ofNullable((Statement) replacement);
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
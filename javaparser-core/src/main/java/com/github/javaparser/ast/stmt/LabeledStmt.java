@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.stmt;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
 
@@ -58,6 +60,10 @@ public final class LabeledStmt extends Statement {
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.LABELED_STMT;
+	}
+
 	public String getLabel() {
 		return label;
 	}
@@ -76,4 +82,13 @@ public final class LabeledStmt extends Statement {
 		setAsParentNodeOf(this.stmt);
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (stmt == child) {
+			stmt = (Statement) replacement;
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
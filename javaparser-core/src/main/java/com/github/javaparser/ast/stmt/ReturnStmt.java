@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.stmt;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.expr.BooleanLiteralExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.visitor.GenericVisitor;
@@ -70,6 +72,10 @@ public final class ReturnStmt extends Statement {
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.RETURN_STMT;
+	}
+
 	public Optional<Expression> getExpr() {
 		return expr;
 	}
@@ -79,4 +85,13 @@ public final class ReturnStmt extends Statement {
 		setAsParentNodeOf(this.expr);
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (expr.isPresent() && expr.get() == child) {
+			expr = Optional.ofNullable((Expression) replacement);
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
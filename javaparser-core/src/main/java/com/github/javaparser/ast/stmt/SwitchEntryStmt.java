@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.stmt;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.nodeTypes.NodeWithStatements;
@@ -67,6 +69,11 @@ public final class SwitchEntryStmt extends Statement implements NodeWithStatemen
 		v.visit(this, arg);
 	}
 
+	@Override
+	public NodeKind getKind() {
+		return NodeKind.SWITCH_ENTRY_STMT;
+	}
+
 	public Optional<Expression> getLabel() {
 		return label;
 	}
@@ -84,8 +91,18 @@ public final class SwitchEntryStmt extends Statement implements NodeWithStatemen
 
 	@Override
     public SwitchEntryStmt setStmts(final NodeList<Statement> stmts) {
+		detachReplacedChild(this.stmts, stmts);
 		this.stmts = assertNotNull(stmts);
 		setAsParentNodeOf(this.stmts);
         return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (label.isPresent() && label.get() == child) {
+			label = Optional.ofNullable((Expression) replacement);
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.stmt;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.NameExpr;
@@ -66,6 +68,11 @@ public final class SwitchStmt extends Statement {
 		v.visit(this, arg);
 	}
 
+	@Override
+	public NodeKind getKind() {
+		return NodeKind.SWITCH_STMT;
+	}
+
 	public NodeList<SwitchEntryStmt> getEntries() {
         return entries;
 	}
@@ -75,6 +82,7 @@ public final class SwitchStmt extends Statement {
 	}
 
 	public SwitchStmt setEntries(final NodeList<SwitchEntryStmt> entries) {
+		detachReplacedChild(this.entries, entries);
 		this.entries = assertNotNull(entries);
 		setAsParentNodeOf(this.entries);
 		return this;
@@ -85,4 +93,13 @@ public final class SwitchStmt extends Statement {
 		setAsParentNodeOf(this.selector);
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (selector == child) {
+			selector = (Expression) replacement;
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
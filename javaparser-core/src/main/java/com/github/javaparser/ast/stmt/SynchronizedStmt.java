@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.stmt;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.nodeTypes.NodeWithBlockStmt;
@@ -64,6 +66,11 @@ public final class SynchronizedStmt extends Statement implements NodeWithBlockSt
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.SYNCHRONIZED_STMT;
+    }
+
     /**
      * @deprecated use {@link #getBody()}
      */
@@ -101,4 +108,17 @@ public final class SynchronizedStmt extends Statement implements NodeWithBlockSt
         setAsParentNodeOf(this.block);
         return this;
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (expr == child) {
+            expr = (Expression) replacement;
+            return true;
+        }
+        if (block == child) {
+            block = (BlockStmt) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
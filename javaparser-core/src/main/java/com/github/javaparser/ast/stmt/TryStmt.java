@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.stmt;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.visitor.GenericVisitor;
 import com.github.javaparser.ast.visitor.VoidVisitor;
@@ -80,6 +82,11 @@ public final class TryStmt extends Statement {
 		v.visit(this, arg);
 	}
 
+	@Override
+	public NodeKind getKind() {
+		return NodeKind.TRY_STMT;
+	}
+
 	public NodeList<CatchClause> getCatchs() {
         return catchs;
 	}
@@ -97,6 +104,7 @@ public final class TryStmt extends Statement {
 	}
 
 	public TryStmt setCatchs(final NodeList<CatchClause> catchs) {
+		detachReplacedChild(this.catchs, catchs);
 		this.catchs = assertNotNull(catchs);
 		setAsParentNodeOf(this.catchs);
 		return this;
@@ -115,8 +123,22 @@ public final class TryStmt extends Statement {
 	}
 	
 	public TryStmt setResources(NodeList<VariableDeclarationExpr> resources) {
+		detachReplacedChild(this.resources, resources);
 		this.resources = assertNotNull(resources);
 		setAsParentNodeOf(this.resources);
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (tryBlock == child) {
+			tryBlock = (BlockStmt) replacement;
+			return true;
+		}
+		if (finallyBlock.isPresent() && finallyBlock.get() == child) {
+			finallyBlock = Optional.ofNullable((BlockStmt) replacement);
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
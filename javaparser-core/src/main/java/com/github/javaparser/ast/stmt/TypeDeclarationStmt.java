@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.stmt;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.body.EmptyTypeDeclaration;
 import com.github.javaparser.ast.body.TypeDeclaration;
 import com.github.javaparser.ast.visitor.GenericVisitor;
@@ -57,6 +59,10 @@ public final class TypeDeclarationStmt extends Statement {
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.TYPE_DECLARATION_STMT;
+	}
+
 	public TypeDeclaration getTypeDeclaration() {
 		return typeDecl;
 	}
@@ -66,4 +72,13 @@ public final class TypeDeclarationStmt extends Statement {
 		setAsParentNodeOf(this.typeDecl);
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (typeDecl == child) {
+			typeDecl = (TypeDeclaration) replacement;
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
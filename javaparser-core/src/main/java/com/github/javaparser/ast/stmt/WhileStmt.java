@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.stmt;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.expr.BooleanLiteralExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.nodeTypes.NodeWithBody;
@@ -59,6 +61,10 @@ public final class WhileStmt extends Statement implements NodeWithBody<WhileStmt
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.WHILE_STMT;
+	}
+
 	@Override
     public Statement getBody() {
 		return body;
@@ -80,4 +86,17 @@ public final class WhileStmt extends Statement implements NodeWithBody<WhileStmt
 		setAsParentNodeOf(this.condition);
 		return this;
 	}
+
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (condition == child) {
+			condition = (Expression) replacement;
+			return true;
+		}
+		if (body == child) {
+			body = (Statement) replacement;
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
@@ -2,6 +2,8 @@ package com.github.javaparser.ast.type;
 
 import com.github.javaparser.Range;
 import com.github.javaparser.ast.ArrayBracketPair;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.AnnotationExpr;
 import com.github.javaparser.ast.nodeTypes.NodeWithAnnotations;
@@ -37,6 +39,10 @@ public class ArrayType extends ReferenceType<ArrayType> implements NodeWithAnnot
         v.visit(this, arg);
     }
 
+    @Override public NodeKind getKind() {
+        return NodeKind.ARRAY_TYPE;
+    }
+
     public Type getComponentType() {
         return componentType;
     }
@@ -82,4 +88,13 @@ public class ArrayType extends ReferenceType<ArrayType> implements NodeWithAnnot
     public static ArrayType arrayOf(Type type, AnnotationExpr... annotations) {
         return new ArrayType(type, nodeList(annotations));
     }
+
+    @Override
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (componentType == child) {
+            componentType = (Type) replacement;
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
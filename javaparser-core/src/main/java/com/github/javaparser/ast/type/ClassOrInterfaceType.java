@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.type;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.nodeTypes.NodeWithAnnotations;
 import com.github.javaparser.ast.nodeTypes.NodeWithName;
@@ -85,6 +87,10 @@ public final class ClassOrInterfaceType extends ReferenceType<ClassOrInterfaceTy
         v.visit(this, arg);
     }
 
+    @Override public NodeKind getKind() {
+        return NodeKind.CLASS_OR_INTERFACE_TYPE;
+    }
+
     @Override
     public String getName() {
         return name;
@@ -124,8 +130,23 @@ public final class ClassOrInterfaceType extends ReferenceType<ClassOrInterfaceTy
 
     @Override
     public ClassOrInterfaceType setTypeArguments(final Optional<NodeList<Type<?>>> types) {
+        detachReplacedChild(this.typeArguments, types);
         this.typeArguments = assertNotNull(types);
         setAsParentNodeOf(this.typeArguments);
         return this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected boolean replaceChild(Node child, Node replacement) {
+        if (scope.isPresent() && scope.get() == child) {
+            scope = Optional.ofNullable((ClassOrInterfaceType) replacement);
+            return true;
+        }
+        if (typeArguments.isPresent() && typeArguments.get() == child) {
+            typeArguments = Optional.ofNullable((NodeList<Type<?>>) replacement);
+            return true;
+        }
+        return super.replaceChild(child, replacement);
+    }
 }
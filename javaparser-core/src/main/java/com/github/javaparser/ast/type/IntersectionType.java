@@ -1,6 +1,7 @@
 package com.github.javaparser.ast.type;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.nodeTypes.NodeWithAnnotations;
 import com.github.javaparser.ast.visitor.GenericVisitor;
@@ -45,11 +46,17 @@ public class IntersectionType extends Type<IntersectionType> implements NodeWith
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.INTERSECTION_TYPE;
+    }
+
     public NodeList<ReferenceType<?>> getElements() {
         return elements;
     }
 
     public IntersectionType setElements(NodeList<ReferenceType<?>> elements) {
+        detachReplacedChild(this.elements, elements);
         this.elements = assertNotNull(elements);
         setAsParentNodeOf(this.elements);
         return this;
@@ -22,6 +22,7 @@
 package com.github.javaparser.ast.type;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.nodeTypes.NodeWithAnnotations;
 import com.github.javaparser.ast.visitor.GenericVisitor;
@@ -101,6 +102,10 @@ public final class PrimitiveType extends Type<PrimitiveType> implements NodeWith
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.PRIMITIVE_TYPE;
+	}
+
 	public Primitive getType() {
 		return type;
 	}
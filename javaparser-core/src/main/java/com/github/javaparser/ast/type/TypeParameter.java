@@ -22,6 +22,7 @@
 package com.github.javaparser.ast.type;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.AnnotationExpr;
 import com.github.javaparser.ast.nodeTypes.NodeWithName;
@@ -86,6 +87,10 @@ public final class TypeParameter extends ReferenceType<TypeParameter> implements
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.TYPE_PARAMETER;
+	}
+
 	/**
 	 * Return the name of the paramenter.
 	 * 
@@ -113,6 +118,7 @@ public final class TypeParameter extends ReferenceType<TypeParameter> implements
 	}
 
 	public TypeParameter setTypeBound(final NodeList<ClassOrInterfaceType> typeBound) {
+		detachReplacedChild(this.typeBound, typeBound);
 		this.typeBound = assertNotNull(typeBound);
 		setAsParentNodeOf(typeBound);
 		return this;
@@ -125,6 +131,7 @@ public final class TypeParameter extends ReferenceType<TypeParameter> implements
 
 	@Override
     public TypeParameter setAnnotations(NodeList<AnnotationExpr> annotations) {
+		detachReplacedChild(this.annotations, annotations);
 		this.annotations = assertNotNull(annotations);
 	    setAsParentNodeOf(this.annotations);
 		return this;
@@ -1,6 +1,7 @@
 package com.github.javaparser.ast.type;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.nodeTypes.NodeWithAnnotations;
 import com.github.javaparser.ast.visitor.GenericVisitor;
@@ -32,6 +33,7 @@ public class UnionType extends Type<UnionType> implements NodeWithAnnotations<Un
     }
 
     public UnionType setElements(NodeList<ReferenceType<?>> elements) {
+        detachReplacedChild(this.elements, elements);
         this.elements = assertNotNull(elements);
         setAsParentNodeOf(this.elements);
         return this;
@@ -46,4 +48,9 @@ public class UnionType extends Type<UnionType> implements NodeWithAnnotations<Un
     public <A> void accept(VoidVisitor<A> v, A arg) {
         v.visit(this, arg);
     }
+
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.UNION_TYPE;
+    }
 }
@@ -22,6 +22,7 @@
 package com.github.javaparser.ast.type;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.AnnotationExpr;
 import com.github.javaparser.ast.visitor.GenericVisitor;
@@ -50,6 +51,11 @@ public final class UnknownType extends Type<UnknownType> {
         v.visit(this, arg);
     }
 
+    @Override
+    public NodeKind getKind() {
+        return NodeKind.UNKNOWN_TYPE;
+    }
+
     @Override
     public UnknownType setAnnotations(NodeList<AnnotationExpr> annotations) {
         if (annotations.size() > 0) {
@@ -22,6 +22,8 @@
 package com.github.javaparser.ast.type;
 
 import com.github.javaparser.Range;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.nodeTypes.NodeWithAnnotations;
 import com.github.javaparser.ast.visitor.GenericVisitor;
@@ -69,6 +71,10 @@ public final class WildcardType extends Type<WildcardType> implements NodeWithAn
 		v.visit(this, arg);
 	}
 
+	@Override public NodeKind getKind() {
+		return NodeKind.WILDCARD_TYPE;
+	}
+
 	public Optional<ReferenceType<?>> getExtends() {
 		return ext;
 	}
@@ -89,4 +95,16 @@ public final class WildcardType extends Type<WildcardType> implements NodeWithAn
 		return this;
 	}
 
+	@Override
+	protected boolean replaceChild(Node child, Node replacement) {
+		if (ext.isPresent() && ext.get() == child) {
+			ext = Optional.ofNullable((ReferenceType<?>) replacement);
+			return true;
+		}
+		if (sup.isPresent() && sup.get() == child) {
+			sup = Optional.ofNullable((ReferenceType<?>) replacement);
+			return true;
+		}
+		return super.replaceChild(child, replacement);
+	}
 }
@@ -33,11 +33,14 @@ import com.github.javaparser.ast.nodeTypes.NodeWithTypeArguments;
 import com.github.javaparser.ast.stmt.*;
 import com.github.javaparser.ast.type.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.github.javaparser.utils.PositionUtils.sortByBeginPosition;
 import static com.github.javaparser.utils.Utils.EOL;
+import static com.github.javaparser.utils.Utils.assertNotNull;
 
 /**
  * Dumps the AST to formatted Java source code.
@@ -61,14 +64,44 @@ public class DumpVisitor implements VoidVisitor<Object> {
 		private final String indentation;
 
 		public SourcePrinter(final String indentation) {
+			this(indentation, new StringBuilder());
+		}
+
+		/**
+		 * Prints straight into the output instead of collecting the source in a buffer. Errors of the output are
+		 * thrown as {@link UncheckedIOException}.
+		 */
+		public SourcePrinter(final String indentation, final Appendable out) {
 			this.indentation = indentation;
+			this.out = assertNotNull(out);
 		}
 
 		private int level = 0;
 
 		private boolean indented = false;
 
-		private final StringBuilder buf = new StringBuilder();
+		private Appendable out;
+
+		/**
+		 * Goes on printing into another output, at the start of a line without indentation.
+		 *
+		 * @return the output that was printed into before.
+		 */
+		public Appendable reset(final Appendable out) {
+			final Appendable previous = this.out;
+			this.out = assertNotNull(out);
+			level = 0;
+			indented = false;
+			return previous;
+		}
+
+		private void append(final String text) {
+			try {
+				out.append(text);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
 
 		public void indent() {
 			level++;
@@ -80,7 +113,7 @@ public class DumpVisitor implements VoidVisitor<Object> {
 
 		private void makeIndent() {
 			for (int i = 0; i < level; i++) {
-				buf.append(indentation);
+				append(indentation);
 			}
 		}
 
@@ -89,7 +122,7 @@ public class DumpVisitor implements VoidVisitor<Object> {
 				makeIndent();
 				indented = true;
 			}
-			buf.append(arg);
+			append(arg);
 		}
 
 		public void printLn(final String arg) {
@@ -98,12 +131,15 @@ public class DumpVisitor implements VoidVisitor<Object> {
 		}
 
 		public void printLn() {
-			buf.append(EOL);
+			append(EOL);
 			indented = false;
 		}
 
+		/**
+		 * @return what was printed, if the output is a buffer like the default one.
+		 */
 		public String getSource() {
-			return buf.toString();
+			return out.toString();
 		}
 
 		@Override
@@ -122,6 +158,20 @@ public class DumpVisitor implements VoidVisitor<Object> {
 		return printer.getSource();
 	}
 
+	/**
+	 * Prints the node straight into the output, without building the source in a buffer. The visitor can be used
+	 * again for other nodes and outputs, and {@link #getSource()} keeps returning what was visited before.
+	 * Errors of the output are thrown as {@link UncheckedIOException}.
+	 */
+	public void print(final Node node, final Appendable out) {
+		final Appendable buffer = printer.reset(out);
+		try {
+			node.accept(this, null);
+		} finally {
+			printer.reset(buffer);
+		}
+	}
+
 	private void printModifiers(final EnumSet<Modifier> modifiers) {
 		if (modifiers.size() > 0)
 			printer.print(modifiers.stream().map(Modifier::getLib).collect(Collectors.joining(" ")) + " ");
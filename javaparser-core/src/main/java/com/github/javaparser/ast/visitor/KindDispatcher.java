@@ -0,0 +1,65 @@
+package com.github.javaparser.ast.visitor;
+
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Calls an action for nodes by their {@link NodeKind kind}, looked up in a table indexed by the ordinal of the kind.
+ * <p>
+ * There is no double dispatch through accept and no chain of instanceof: every node costs one array lookup, and the
+ * call sites in a walk stay the same whatever the kind of node. Nodes of kinds without an action are only walked
+ * through.
+ *
+ * @param <A> the type of the argument that is passed on to the actions.
+ */
+public final class KindDispatcher<A> {
+    private final BiConsumer<Node, A>[] actions;
+
+    @SuppressWarnings("unchecked")
+    public KindDispatcher() {
+        actions = new BiConsumer[NodeKind.count()];
+    }
+
+    /**
+     * Calls the action for all nodes of the type, including its subclasses, instead of an action set before.
+     * Nodes of kind {@link NodeKind#OTHER} only get the action for {@link Node}.
+     */
+    @SuppressWarnings("unchecked")
+    public <N extends Node> KindDispatcher<A> on(Class<N> type, BiConsumer<? super N, ? super A> action) {
+        for (NodeKind kind : NodeKind.kindsOf(type)) {
+            actions[kind.ordinal()] = (BiConsumer<Node, A>) action;
+        }
+        return this;
+    }
+
+    /**
+     * Calls the action for the kind of the node, if there is one.
+     */
+    public void dispatch(Node node, A arg) {
+        BiConsumer<Node, A> action = actions[node.getKind().ordinal()];
+        if (action != null) {
+            action.accept(node, arg);
+        }
+    }
+
+    /**
+     * Dispatches all nodes in the subtree: the root first, a parent before its children, and children in order.
+     */
+    public void walk(Node root, A arg) {
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            dispatch(node, arg);
+            List<Node> children = node.getChildrenNodes();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.push(children.get(i));
+            }
+        }
+    }
+}
@@ -19,6 +19,8 @@ import static com.github.javaparser.utils.Utils.assertNotNull;
 public class MethodDescribeVisitor  implements VoidVisitor<Object> {
 
     private MethodRepresentation methodRepresentation;
+    private final DumpVisitor printer = new DumpVisitor(false);
+    private final StringBuilder source = new StringBuilder();
     private String filePath;
     private CompilationUnitWrapper compilationUnitWrapper;
 
@@ -185,7 +187,9 @@ public class MethodDescribeVisitor  implements VoidVisitor<Object> {
                 new MethodRepresentation(filePath, compilationUnitWrapper.getClassOrInterfaceName());
         methodRepresentation.setParameters(n.getParameters());
         methodRepresentation.setThrows(n.getThrows());
-        methodRepresentation.setStringifiedWithoutComments(n.toStringWithoutComments());
+        source.setLength(0);
+        printer.print(n, source);
+        methodRepresentation.setStringifiedWithoutComments(source.toString());
         methodRepresentation.setMethodName(n.getName());
         setMethodRepresentation(methodRepresentation);
      }
@@ -4,57 +4,120 @@ package com.github.javaparser.extend;
  * Created by jorgej2 on 5/19/2018.
  */
 import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.Problem;
+import com.github.javaparser.Token;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.MethodRepresentation;
 import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
 import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.UserDataKey;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.body.TypeDeclaration;
 import com.github.javaparser.ast.stmt.*;
 import com.github.javaparser.ast.visitor.MethodDescribeVisitor;
+import com.github.javaparser.extend.clone.NormalizedTokenStream;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
+import static com.github.javaparser.ParseStart.COMPILATION_UNIT;
+import static com.github.javaparser.Providers.provider;
+
 public class CompilationUnitWrapper {
     public static int METHOD_AT_BEGINNING = 1;
     public static int METHOD_AT_END = 2;
     public static int ALL_METHODS = 3;
 
+    /**
+     * The declaration a method representation was described from, so that more can be computed from it when needed.
+     */
+    public static final UserDataKey<MethodDeclaration> METHOD_DECLARATION = new UserDataKey<MethodDeclaration>() {
+    };
+
+    /**
+     * Method representations only need the AST and the tokens, so comments are not collected.
+     * A syntax error only costs the member or statement it is in.
+     * The nodes are indexed by type, as the methods are looked up more than once.
+     */
+    private static final ThreadLocal<JavaParser> PARSERS = ThreadLocal.withInitial(() -> {
+        ParserConfiguration configuration = new ParserConfiguration();
+        configuration.collectComments = false;
+        configuration.recoverFromErrors = true;
+        configuration.indexNodesByType = true;
+        return new JavaParser(configuration);
+    });
+
     private CompilationUnit compilationUnit;
     private String filePath;
     private List<MethodRepresentation> methodRepresentations = new ArrayList<>();
+    private List<Problem> problems;
     private String className;
     private Object fullFileName;
 
     public CompilationUnitWrapper(String filePath) {
+        this(filePath, parse(filePath));
+    }
+
+    /**
+     * Wraps a file from its content, for callers that already read it.
+     *
+     * @throws ParseProblemException if the file could not be parsed at all.
+     */
+    public CompilationUnitWrapper(String filePath, byte[] content) {
+        this(filePath, PARSERS.get().parse(COMPILATION_UNIT, provider(new ByteArrayInputStream(content))));
+    }
+
+    /**
+     * Wraps a file that was already parsed, for instance by a {@link com.github.javaparser.ParallelParser}.
+     * A file that was parsed with {@link ParserConfiguration#recoverFromErrors} is wrapped with the methods that could
+     * be parsed, and its errors are kept in {@link #getProblems()}.
+     *
+     * @throws ParseProblemException if the file could not be parsed at all.
+     */
+    public CompilationUnitWrapper(String filePath, ParseResult<CompilationUnit> result) {
         validate(filePath);
         this.filePath = filePath;
-        createCompilationUnit(filePath);
-        List<MethodDeclaration> methodDeclarations = compilationUnit.getNodesByType(MethodDeclaration.class);
+        if (!result.getResult().isPresent()) {
+            throw new ParseProblemException(result.getProblems());
+        }
+        compilationUnit = result.getResult().get();
+        problems = result.getProblems();
+        List<Token> tokens = result.getTokens().orElseThrow(() ->
+                new IllegalArgumentException("The tokens of " + filePath + " were not stored when parsing it."));
+        List<MethodDeclaration> methodDeclarations = compilationUnit.getNodeIndex().getNodesByType(MethodDeclaration.class);
         MethodDescribeVisitor methodDescribeVisitor = new MethodDescribeVisitor(filePath, this);
         for (MethodDeclaration methodDeclaration : methodDeclarations) {
             methodDescribeVisitor.visit(methodDeclaration, null);
-            methodRepresentations.add(methodDescribeVisitor.getMethodRepresentation());
+            MethodRepresentation methodRepresentation = methodDescribeVisitor.getMethodRepresentation();
+            methodRepresentation.setUserData(NormalizedTokenStream.METHOD_BODY, methodDeclaration.getBody()
+                    .map(body -> NormalizedTokenStream.of(tokens, body.getRange())).orElse(null));
+            methodRepresentation.setUserData(METHOD_DECLARATION, methodDeclaration);
+            methodRepresentation.setRange(methodDeclaration.getRange());
+            methodRepresentations.add(methodRepresentation);
         }
     }
 
-    private void validate(String filePath) {
+    private static void validate(String filePath) {
         if (filePath == null || filePath.trim().length() == 0) {
             throw new IllegalArgumentException("Missing value for path: '" + filePath + "'");
         }
     }
 
-    private void createCompilationUnit(String filePath) {
-        try {
-            FileInputStream in = new FileInputStream(filePath);
-            compilationUnit = JavaParser.parse(in);
-            in.close();
+    private static ParseResult<CompilationUnit> parse(String filePath) {
+        validate(filePath);
+        try (FileInputStream in = new FileInputStream(filePath)) {
+            return PARSERS.get().parse(COMPILATION_UNIT, provider(in));
         } catch (IOException e) {
             throw new RuntimeException("An error occurred when creating compilation unit for File Path: " + filePath, e);
         }
@@ -93,13 +156,20 @@ public class CompilationUnitWrapper {
         return methodRepresentation;
     }
 
+    /**
+     * @return the problems found while parsing the file. The members and statements they were in are missing.
+     */
+    public List<Problem> getProblems() {
+        return Collections.unmodifiableList(problems);
+    }
+
     public List<MethodRepresentation> getMethodRepresentations() {
         return methodRepresentations;
     }
 
     public MethodRepresentation getMethodRepresentation(String methodName) {
         MethodRepresentation methodRepresentation = null;
-        List<MethodDeclaration> methodDeclarations = compilationUnit.getNodesByType(MethodDeclaration.class);
+        List<MethodDeclaration> methodDeclarations = compilationUnit.getNodeIndex().getNodesByType(MethodDeclaration.class);
         methodRepresentation = getMethodRepresentation(methodName, methodDeclarations, compilationUnit);
         return methodRepresentation;
     }
@@ -123,13 +193,7 @@ public class CompilationUnitWrapper {
 
     public List<Statement> getNamesOfMethodsCalledFromMethod(String methodName, int calledMethodType) {
         List<Statement> calledMethods = new ArrayList<>();
-        CompilationUnit compilationUnit = null;
-        try {
-            compilationUnit = getCompilationUnit(this.filePath);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        List<MethodDeclaration> methodDeclarations = compilationUnit.getNodesByType(MethodDeclaration.class);
+        List<MethodDeclaration> methodDeclarations = compilationUnit.getNodeIndex().getNodesByType(MethodDeclaration.class);
         for (MethodDeclaration methodDeclaration : methodDeclarations) {
             if (methodDeclaration.getDeclarationAsString().contains(methodName)) {
                 List<Node> childrenNodes1 = methodDeclaration.getChildrenNodes();
@@ -171,44 +235,33 @@ public class CompilationUnitWrapper {
             NodeList<Statement> statements = ((BlockStmt) node).getStmts();
             for (Statement statement : statements) {
                 ++statementCount;
-                if (statement instanceof ExpressionStmt) {
-//                    System.out.println("*** Expression statement ***   : "  + statement);
-//                    System.out.println(statement);
-                    extractCalledMethodFromStatement(statement, calledMethods);
-                } else if (statement instanceof TypeDeclarationStmt) {
-//                    System.out.println(statement);
-                } else if (statement instanceof BreakStmt) {
-//                    System.out.println(statement);
-                } else if (statement instanceof ThrowStmt) {
-//                    System.out.println(statement);
-                } else if (statement instanceof ContinueStmt) {
-//                    System.out.println(statement);
-                } else if (statement instanceof ReturnStmt) {
-//                    System.out.println(statement);
-                } else if (statement instanceof TryStmt) {
-//                    System.out.println(statement);       PRINTS OUT EVERYTHING
-//                    System.out.println("TryStmt");
-                    extractCalledMethods(((TryStmt) statement).getTryBlock(), calledMethods, calledMethodType, statementCount);
-                } else if (statement instanceof BlockStmt) {
-//                    System.out.println("Recursive call");
-                    extractCalledMethods(statement, calledMethods, calledMethodType, statementCount);
-                } else if (statement instanceof WhileStmt) {
-//                    System.out.println("WhileStmt");
-                    extractCalledMethods(((BlockStmt) ((WhileStmt) statement).getBody()), calledMethods, calledMethodType, statementCount);
-                } else if (statement instanceof IfStmt) {
-                    if (((IfStmt) statement).getThenStmt() instanceof ReturnStmt) {
-                        // Do Nothing
-                    }
-                    else if (((IfStmt) statement).getThenStmt() instanceof ExpressionStmt) {
+                switch (statement.getKind()) {
+                    case EXPRESSION_STMT:
                         extractCalledMethodFromStatement(statement, calledMethods);
-                    } else {
-                        extractCalledMethods((BlockStmt) ((IfStmt) statement).getThenStmt(), calledMethods, calledMethodType, statementCount);
-                    }
+                        break;
+                    case TRY_STMT:
+                        extractCalledMethods(((TryStmt) statement).getTryBlock(), calledMethods, calledMethodType, statementCount);
+                        break;
+                    case BLOCK_STMT:
+                        extractCalledMethods(statement, calledMethods, calledMethodType, statementCount);
+                        break;
+                    case WHILE_STMT:
+                        extractCalledMethods(((BlockStmt) ((WhileStmt) statement).getBody()), calledMethods, calledMethodType, statementCount);
+                        break;
+                    case IF_STMT:
+                        Statement thenStmt = ((IfStmt) statement).getThenStmt();
+                        if (thenStmt.getKind() == NodeKind.RETURN_STMT) {
+                            // Do Nothing
+                        } else if (thenStmt.getKind() == NodeKind.EXPRESSION_STMT) {
+                            extractCalledMethodFromStatement(statement, calledMethods);
+                        } else {
+                            extractCalledMethods((BlockStmt) thenStmt, calledMethods, calledMethodType, statementCount);
+                        }
+                        break;
+                    default:
+                        // type declarations, break, throw, continue, return and the others are not followed
+                        break;
                 }
-//                } else if (statement instanceof IfStmt) {
-//                    System.out.println("IfStmt");
-//                    extractCalledMethods((BlockStmt) ((IfStmt) statement).getThenStmt(), calledMethods, calledMethodType, statementCount);
-//                }
                 if (statementCount == 1 && calledMethodType == METHOD_AT_BEGINNING) {
                     return;
                 }
@@ -230,26 +283,26 @@ public class CompilationUnitWrapper {
         return getMethodNameAsStringFor(calledMethods.get(calledMethods.size() - 1));
     }
 
+    /**
+     * The statement is printed without its comments, so the name is the same whether the wrapped tree has comments
+     * or not, and a call with a comment in front of it is still found.
+     */
     private static String getMethodNameAsStringFor(Statement statement) {
-        String statementAsString = statement.toString().replaceAll(" ","");
-        if (statementAsString.startsWith("//")) {
+        String statementAsString = statement.toStringWithoutComments().replaceAll(" ","");
+        int periodPos = statementAsString.lastIndexOf(".");
+//        int periodPos = statementAsString.indexOf(".");
+        if (!(periodPos > 0)) {
             return new String();
         } else {
-            int periodPos = statementAsString.lastIndexOf(".");
-//            int periodPos = statementAsString.indexOf(".");
-            if (!(periodPos > 0)) {
-                return new String();
+            if (periodPos == statementAsString.length()) {
+                new String();
             } else {
-                if (periodPos == statementAsString.length()) {
+                String methodString = statementAsString.substring(periodPos + 1, statementAsString.length() - 1);
+                if (!methodString.contains("(")) {
                     new String();
                 } else {
-                    String methodString = statementAsString.substring(periodPos + 1, statementAsString.length() - 1);
-                    if (!methodString.contains("(")) {
-                        new String();
-                    } else {
-                        int parenthesesPos = methodString.indexOf("(");
-                        return methodString.substring(0, parenthesesPos);
-                    }
+                    int parenthesesPos = methodString.indexOf("(");
+                    return methodString.substring(0, parenthesesPos);
                 }
             }
         }
@@ -0,0 +1,227 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ast.FlatTree;
+import com.github.javaparser.ast.MethodRepresentation;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
+import com.github.javaparser.ast.UserDataKey;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.*;
+import com.github.javaparser.ast.stmt.*;
+import com.github.javaparser.ast.visitor.KindDispatcher;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The characteristic vector of a subtree, as used by Deckard: the number of times each relevant node kind occurs in it.
+ * <p>
+ * Subtrees with similar vectors are likely near-miss (type 3) clones: the statements and expressions they consist of
+ * are mostly the same, while some may have been added, removed or changed.
+ * Names of types and declarations, modifiers, annotations and comments are not counted.
+ */
+public final class CharacteristicVector {
+    /**
+     * The node kinds that are counted, one dimension each.
+     * Subclasses are counted as their closest superclass in this list.
+     */
+    public static final List<Class<? extends Node>> KINDS = Collections.unmodifiableList(Arrays.asList(
+            AssertStmt.class,
+            BlockStmt.class,
+            BreakStmt.class,
+            CatchClause.class,
+            ContinueStmt.class,
+            DoStmt.class,
+            EmptyStmt.class,
+            ExplicitConstructorInvocationStmt.class,
+            ExpressionStmt.class,
+            ForeachStmt.class,
+            ForStmt.class,
+            IfStmt.class,
+            LabeledStmt.class,
+            ReturnStmt.class,
+            SwitchEntryStmt.class,
+            SwitchStmt.class,
+            SynchronizedStmt.class,
+            ThrowStmt.class,
+            TryStmt.class,
+            TypeDeclarationStmt.class,
+            WhileStmt.class,
+            ArrayAccessExpr.class,
+            ArrayCreationExpr.class,
+            ArrayInitializerExpr.class,
+            AssignExpr.class,
+            BinaryExpr.class,
+            CastExpr.class,
+            ClassExpr.class,
+            ConditionalExpr.class,
+            EnclosedExpr.class,
+            FieldAccessExpr.class,
+            InstanceOfExpr.class,
+            LambdaExpr.class,
+            MethodCallExpr.class,
+            MethodReferenceExpr.class,
+            NameExpr.class,
+            ObjectCreationExpr.class,
+            SuperExpr.class,
+            ThisExpr.class,
+            UnaryExpr.class,
+            VariableDeclarationExpr.class,
+            BooleanLiteralExpr.class,
+            CharLiteralExpr.class,
+            DoubleLiteralExpr.class,
+            IntegerLiteralExpr.class,
+            LongLiteralExpr.class,
+            NullLiteralExpr.class,
+            StringLiteralExpr.class,
+            Parameter.class,
+            VariableDeclarator.class));
+
+    /**
+     * The dimension of every node kind, by the ordinal of the kind, or -1 for kinds that are not counted.
+     */
+    /**
+     * The vector of the declaration of a {@link MethodRepresentation},
+     * computed by the {@link NearMissCloneFinder} the first time it is needed.
+     */
+    public static final UserDataKey<CharacteristicVector> METHOD = new UserDataKey<CharacteristicVector>() {
+    };
+    private static final int[] DIMENSIONS = new int[NodeKind.count()];
+
+    static {
+        for (NodeKind kind : NodeKind.values()) {
+            DIMENSIONS[kind.ordinal()] = -1;
+            for (Class<?> type = kind.getNodeClass(); type != null; type = type.getSuperclass()) {
+                int dimension = KINDS.indexOf(type);
+                if (dimension != -1) {
+                    DIMENSIONS[kind.ordinal()] = dimension;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts every node by looking up its dimension. Bodies that were not parsed yet are parsed when their declaration
+     * is reached, so that they are among its children when the walk goes on.
+     */
+    private static final KindDispatcher<int[]> COUNTER = new KindDispatcher<int[]>()
+            .on(Node.class, (node, counts) -> {
+                int dimension = DIMENSIONS[node.getKind().ordinal()];
+                if (dimension != -1) {
+                    counts[dimension]++;
+                }
+            })
+            .on(MethodDeclaration.class, (method, counts) -> method.getBody())
+            .on(ConstructorDeclaration.class, (constructor, counts) -> constructor.getBody());
+
+    private final int[] counts;
+    private final int size;
+
+    CharacteristicVector(int[] counts) {
+        this.counts = counts;
+        int size = 0;
+        for (int count : counts) {
+            size += count;
+        }
+        this.size = size;
+    }
+
+    /**
+     * Counts the relevant nodes in the subtrees.
+     */
+    public static CharacteristicVector of(Iterable<? extends Node> nodes) {
+        int[] counts = new int[KINDS.size()];
+        for (Node node : nodes) {
+            COUNTER.walk(node, counts);
+        }
+        return new CharacteristicVector(counts);
+    }
+
+    public static CharacteristicVector of(Node node) {
+        return of(Collections.singletonList(node));
+    }
+
+    /**
+     * Counts the relevant nodes in the subtree of a node of a flat tree, which are the nodes up to the end of the
+     * subtree, without walking any objects.
+     */
+    public static CharacteristicVector of(FlatTree tree, int node) {
+        int[] counts = new int[KINDS.size()];
+        int end = tree.getSubtreeEnd(node);
+        for (int i = node; i < end; i++) {
+            int dimension = DIMENSIONS[tree.getKind(i).ordinal()];
+            if (dimension != -1) {
+                counts[dimension]++;
+            }
+        }
+        return new CharacteristicVector(counts);
+    }
+
+    /**
+     * @return how often the kind at this index of {@link #KINDS} occurs.
+     */
+    public int countAt(int dimension) {
+        return counts[dimension];
+    }
+
+    /**
+     * @return the total number of relevant nodes.
+     */
+    public int size() {
+        return size;
+    }
+
+    public double distance(CharacteristicVector other) {
+        long sum = 0;
+        for (int i = 0; i < counts.length; i++) {
+            long difference = counts[i] - other.counts[i];
+            sum += difference * difference;
+        }
+        return Math.sqrt(sum);
+    }
+
+    /**
+     * The share of relevant nodes two vectors have in common:
+     * 1 for equal vectors, 0 for vectors without any node kind in common.
+     */
+    public double similarity(CharacteristicVector other) {
+        if (size + other.size == 0) {
+            return 1;
+        }
+        long difference = 0;
+        for (int i = 0; i < counts.length; i++) {
+            difference += Math.abs(counts[i] - other.counts[i]);
+        }
+        return 1 - (double) difference / (size + other.size);
+    }
+
+    double dot(double[] direction) {
+        double dot = 0;
+        for (int i = 0; i < counts.length; i++) {
+            dot += counts[i] * direction[i];
+        }
+        return dot;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(counts, ((CharacteristicVector) o).counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(counts);
+    }
+}
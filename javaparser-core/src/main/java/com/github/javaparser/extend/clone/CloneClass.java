@@ -0,0 +1,79 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ast.MethodRepresentation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * A group of methods that are all clones of each other.
+ * <p>
+ * The methods of a {@link CloneType#TYPE_2} class are grouped into variants: the methods of one variant are identical,
+ * different variants only differ in identifiers and literals.
+ */
+public class CloneClass {
+    private final CloneType type;
+    private final List<List<MethodRepresentation>> variants;
+
+    CloneClass(CloneType type, List<List<MethodRepresentation>> variants) {
+        this.type = assertNotNull(type);
+        this.variants = assertNotNull(variants);
+    }
+
+    public CloneType getType() {
+        return type;
+    }
+
+    /**
+     * @return all methods in this clone class.
+     */
+    public List<MethodRepresentation> getMethods() {
+        List<MethodRepresentation> methods = new ArrayList<>();
+        for (List<MethodRepresentation> variant : variants) {
+            methods.addAll(variant);
+        }
+        return methods;
+    }
+
+    /**
+     * @return the methods grouped by their exact token sequence.
+     */
+    public List<List<MethodRepresentation>> getVariants() {
+        return Collections.unmodifiableList(variants);
+    }
+
+    public int size() {
+        int size = 0;
+        for (List<MethodRepresentation> variant : variants) {
+            size += variant.size();
+        }
+        return size;
+    }
+
+    /**
+     * Adds the pairs this class stands for. Methods within one variant form pairs of type 1,
+     * methods from different variants form pairs of this class' type.
+     */
+    void addPairsTo(List<ClonePair> pairs) {
+        for (int v = 0; v < variants.size(); v++) {
+            List<MethodRepresentation> variant = variants.get(v);
+            if (type == CloneType.TYPE_1) {
+                for (int i = 0; i < variant.size(); i++) {
+                    for (int j = i + 1; j < variant.size(); j++) {
+                        pairs.add(new ClonePair(variant.get(i), variant.get(j), CloneType.TYPE_1));
+                    }
+                }
+            }
+            for (int w = v + 1; w < variants.size(); w++) {
+                for (MethodRepresentation first : variant) {
+                    for (MethodRepresentation second : variants.get(w)) {
+                        pairs.add(new ClonePair(first, second, type));
+                    }
+                }
+            }
+        }
+    }
+}
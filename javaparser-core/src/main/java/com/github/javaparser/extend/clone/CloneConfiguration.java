@@ -0,0 +1,78 @@
+package com.github.javaparser.extend.clone;
+
+/**
+ * Settings for the {@link CloneDetector}.
+ */
+public class CloneConfiguration {
+    /**
+     * Methods with fewer tokens than this are not indexed. Keeps getters, setters and other trivial methods out of
+     * the report.
+     */
+    public int minimumTokens = 30;
+    /**
+     * Only files ending with this suffix are picked up when scanning source roots.
+     */
+    public String sourceFileSuffix = ".java";
+    /**
+     * The number of threads that parse source files when scanning source roots.
+     */
+    public int parallelism = Runtime.getRuntime().availableProcessors();
+    /**
+     * Also report near-miss ({@link CloneType#TYPE_3}) clones, found with the {@link #nearMissAlgorithm}.
+     */
+    public boolean detectNearMissClones = false;
+    /**
+     * Near-miss clones must have at least this {@link CharacteristicVector#similarity(CharacteristicVector) similarity}.
+     */
+    public double minimumSimilarity = 0.9;
+    /**
+     * Subtrees with fewer relevant nodes than this are not compared when looking for near-miss subtree clones.
+     *
+     * @see CharacteristicVector#size()
+     */
+    public int minimumSubtreeSize = 20;
+    /**
+     * The number of locality-sensitive hash tables. More tables miss fewer near-miss clones, but take more time and
+     * memory.
+     */
+    public int hashTables = 8;
+    /**
+     * The number of random projections that make up the key of a hash table. More projections give fewer, but
+     * better candidate pairs.
+     */
+    public int projectionsPerTable = 4;
+    /**
+     * How near-miss method clones are found.
+     */
+    public NearMissAlgorithm nearMissAlgorithm = NearMissAlgorithm.CHARACTERISTIC_VECTORS;
+    /**
+     * The number of consecutive tokens in a shingle, and in a k-gram of {@link WinnowedFingerprints}.
+     */
+    public int shingleSize = 5;
+    /**
+     * The number of consecutive k-grams out of which {@link WinnowedFingerprints} keeps one.
+     */
+    public int winnowingWindow = 8;
+    /**
+     * The number of hash functions in a {@link MinHashSignature}, each takes 4 bytes per method.
+     */
+    public int minHashFunctions = 64;
+    /**
+     * The number of LSH bands the MinHash signatures are cut into.
+     * Pairs with a Jaccard similarity around (1 / bands) ^ (bands / minHashFunctions) have a 50% chance to become
+     * candidates, so this should be below {@link #minimumJaccard}.
+     */
+    public int minHashBands = 16;
+    /**
+     * MinHash near-miss clones must have at least this estimated Jaccard similarity between their shingle sets.
+     */
+    public double minimumJaccard = 0.6;
+    /**
+     * Token bag near-miss clones must share at least this share of the tokens of the larger bag.
+     */
+    public double minimumOverlap = 0.8;
+    /**
+     * Seed for the random projections and hash functions, so runs are repeatable.
+     */
+    public long randomSeed = 42;
+}
@@ -0,0 +1,119 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ParallelParser;
+import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.Problem;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.MethodRepresentation;
+import com.github.javaparser.extend.CompilationUnitWrapper;
+import com.github.javaparser.utils.Pair;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.github.javaparser.utils.Utils.EOL;
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * Finds type 1 and type 2 method clones in a set of source roots,
+ * and optionally near-miss (type 3) clones through a {@link NearMissCloneFinder}.
+ * <p>
+ * Source files are parsed in parallel, see {@link CloneConfiguration#parallelism}.
+ * Every method is tokenized once and put in a hash bucket keyed on its token sequence.
+ * Methods that end up in the same bucket are clones,
+ * so the whole corpus is processed in roughly linear time instead of comparing every pair of methods.
+ */
+public class CloneDetector {
+    private final CloneConfiguration configuration;
+
+    public CloneDetector() {
+        this(new CloneConfiguration());
+    }
+
+    public CloneDetector(CloneConfiguration configuration) {
+        this.configuration = assertNotNull(configuration);
+    }
+
+    /**
+     * Parses every source file below the source roots and reports the clones between all their methods.
+     * Files that can not be parsed are skipped and listed in {@link CloneReport#getSkippedFiles()}. Files with syntax
+     * errors in some members or statements are indexed without them and listed in
+     * {@link CloneReport#getPartiallyParsedFiles()}.
+     *
+     * @param sourceRoots directories (or single files) to scan.
+     * @throws IOException when a source root can not be read.
+     */
+    public CloneReport detect(Collection<Path> sourceRoots) throws IOException {
+        CloneIndex index = new CloneIndex(configuration);
+        List<MethodRepresentation> methods = new ArrayList<>();
+        Map<String, String> skippedFiles = new LinkedHashMap<>();
+        Map<String, String> partiallyParsedFiles = new LinkedHashMap<>();
+        ParserConfiguration parserConfiguration = new ParserConfiguration();
+        parserConfiguration.collectComments = false;
+        parserConfiguration.recoverFromErrors = true;
+        ParallelParser parser = new ParallelParser(parserConfiguration, configuration.parallelism);
+        try (Stream<Pair<Path, ParseResult<CompilationUnit>>> files = parser.parse(findSourceFiles(sourceRoots))) {
+            files.forEachOrdered(parsed -> {
+                String filePath = parsed.a.toString();
+                try {
+                    CompilationUnitWrapper compilationUnitWrapper = new CompilationUnitWrapper(filePath, parsed.b);
+                    if (!compilationUnitWrapper.getProblems().isEmpty()) {
+                        partiallyParsedFiles.put(filePath, describe(compilationUnitWrapper.getProblems()));
+                    }
+                    for (MethodRepresentation methodRepresentation : compilationUnitWrapper.getMethodRepresentations()) {
+                        index.add(methodRepresentation);
+                        methods.add(methodRepresentation);
+                    }
+                } catch (ParseProblemException e) {
+                    skippedFiles.put(filePath, e.getMessage());
+                }
+            });
+        } finally {
+            parser.shutdown();
+        }
+        return new CloneReport(index.getCloneClasses(), findNearMissClones(methods), index.getMethodCount(), skippedFiles, partiallyParsedFiles);
+    }
+
+    /**
+     * Reports the clones between methods that were already extracted.
+     */
+    public CloneReport detect(Iterable<MethodRepresentation> methodRepresentations) {
+        CloneIndex index = new CloneIndex(configuration);
+        for (MethodRepresentation methodRepresentation : methodRepresentations) {
+            index.add(methodRepresentation);
+        }
+        return new CloneReport(index.getCloneClasses(), findNearMissClones(methodRepresentations), index.getMethodCount(), new LinkedHashMap<>(),
+                new LinkedHashMap<>());
+    }
+
+    private List<ClonePair> findNearMissClones(Iterable<MethodRepresentation> methodRepresentations) {
+        if (!configuration.detectNearMissClones) {
+            return new ArrayList<>();
+        }
+        return new NearMissCloneFinder(configuration).findMethodClones(methodRepresentations);
+    }
+
+    /**
+     * @return the problems of a file, one per line, like in the message of a {@link ParseProblemException}.
+     */
+    static String describe(List<Problem> problems) {
+        return problems.stream().map(Problem::toString).collect(Collectors.joining(EOL));
+    }
+
+    private List<Path> findSourceFiles(Collection<Path> sourceRoots) throws IOException {
+        List<Path> sourceFiles = new ArrayList<>();
+        for (Path sourceRoot : sourceRoots) {
+            sourceFiles.addAll(ParallelParser.findSourceFiles(sourceRoot, configuration.sourceFileSuffix));
+        }
+        return sourceFiles;
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ast.MethodRepresentation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Buckets methods on their token sequence.
+ * Every method is tokenized and hashed once, so building the index and reading the clone classes from it is linear in
+ * the number of tokens, instead of quadratic in the number of methods.
+ */
+class CloneIndex {
+    private final CloneConfiguration configuration;
+    /**
+     * Normalized token sequence -> exact token images -> methods.
+     */
+    private final Map<TokenSequence, Map<List<String>, List<MethodRepresentation>>> buckets = new LinkedHashMap<>();
+    private int methodCount = 0;
+
+    CloneIndex(CloneConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Adds a method to the index.
+     *
+     * @return false if the method is too small to be indexed.
+     */
+    boolean add(MethodRepresentation method) {
+        NormalizedTokenStream tokens = tokensOf(method);
+        if (tokens.size() < configuration.minimumTokens) {
+            return false;
+        }
+        TokenSequence normalized = new TokenSequence(tokens.codes());
+        List<String> exact = Arrays.asList(tokens.images());
+        buckets.computeIfAbsent(normalized, k -> new LinkedHashMap<>())
+                .computeIfAbsent(exact, k -> new ArrayList<>())
+                .add(method);
+        methodCount++;
+        return true;
+    }
+
+    /**
+     * Removes a method that was added before.
+     *
+     * @return false if the method was not in the index.
+     */
+    boolean remove(MethodRepresentation method) {
+        NormalizedTokenStream tokens = tokensOf(method);
+        TokenSequence normalized = new TokenSequence(tokens.codes());
+        Map<List<String>, List<MethodRepresentation>> bucket = buckets.get(normalized);
+        if (bucket == null) {
+            return false;
+        }
+        List<String> exact = Arrays.asList(tokens.images());
+        List<MethodRepresentation> identical = bucket.get(exact);
+        if (identical == null || !identical.remove(method)) {
+            return false;
+        }
+        if (identical.isEmpty()) {
+            bucket.remove(exact);
+            if (bucket.isEmpty()) {
+                buckets.remove(normalized);
+            }
+        }
+        methodCount--;
+        return true;
+    }
+
+    static NormalizedTokenStream tokensOf(MethodRepresentation method) {
+        NormalizedTokenStream tokens = method.getUserData(NormalizedTokenStream.METHOD_BODY);
+        return tokens != null ? tokens : MethodTokenizer.tokenize(method.getMethodTokens());
+    }
+
+    int getMethodCount() {
+        return methodCount;
+    }
+
+    List<CloneClass> getCloneClasses() {
+        List<CloneClass> cloneClasses = new ArrayList<>();
+        for (Map<List<String>, List<MethodRepresentation>> bucket : buckets.values()) {
+            for (List<MethodRepresentation> identical : bucket.values()) {
+                if (identical.size() > 1) {
+                    List<List<MethodRepresentation>> variants = new ArrayList<>();
+                    variants.add(identical);
+                    cloneClasses.add(new CloneClass(CloneType.TYPE_1, variants));
+                }
+            }
+            if (bucket.size() > 1) {
+                cloneClasses.add(new CloneClass(CloneType.TYPE_2, new ArrayList<>(bucket.values())));
+            }
+        }
+        return cloneClasses;
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ast.MethodRepresentation;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * Two methods that are clones of each other.
+ */
+public class ClonePair {
+    private final MethodRepresentation first;
+    private final MethodRepresentation second;
+    private final CloneType type;
+    private final double similarity;
+
+    public ClonePair(MethodRepresentation first, MethodRepresentation second, CloneType type) {
+        this(first, second, type, 1);
+    }
+
+    public ClonePair(MethodRepresentation first, MethodRepresentation second, CloneType type, double similarity) {
+        this.first = assertNotNull(first);
+        this.second = assertNotNull(second);
+        this.type = assertNotNull(type);
+        this.similarity = similarity;
+    }
+
+    public MethodRepresentation getFirst() {
+        return first;
+    }
+
+    public MethodRepresentation getSecond() {
+        return second;
+    }
+
+    public CloneType getType() {
+        return type;
+    }
+
+    /**
+     * @return 1 for type 1 and type 2 clones; for type 3 clones the similarity of the characteristic vectors,
+     * or the estimated Jaccard similarity of the token shingles.
+     */
+    public double getSimilarity() {
+        return similarity;
+    }
+
+    @Override
+    public String toString() {
+        return type + ": " + describe(first) + " <-> " + describe(second);
+    }
+
+    private static String describe(MethodRepresentation method) {
+        return method.getFilePath() + "#" + method.getFullMethodName();
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.javaparser.extend.clone;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of a clone detection run.
+ */
+public class CloneReport {
+    private final List<CloneClass> cloneClasses;
+    private final List<ClonePair> nearMissPairs;
+    private final int indexedMethodCount;
+    private final Map<String, String> skippedFiles;
+    private final Map<String, String> partiallyParsedFiles;
+
+    CloneReport(List<CloneClass> cloneClasses, List<ClonePair> nearMissPairs, int indexedMethodCount, Map<String, String> skippedFiles,
+                Map<String, String> partiallyParsedFiles) {
+        this.cloneClasses = cloneClasses;
+        this.nearMissPairs = nearMissPairs;
+        this.indexedMethodCount = indexedMethodCount;
+        this.skippedFiles = skippedFiles;
+        this.partiallyParsedFiles = partiallyParsedFiles;
+    }
+
+    /**
+     * @return all type 1 and type 2 clone classes found. Near-miss clones are only reported as pairs.
+     */
+    public List<CloneClass> getCloneClasses() {
+        return Collections.unmodifiableList(cloneClasses);
+    }
+
+    public List<CloneClass> getCloneClasses(CloneType type) {
+        List<CloneClass> result = new ArrayList<>();
+        for (CloneClass cloneClass : cloneClasses) {
+            if (cloneClass.getType() == type) {
+                result.add(cloneClass);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Expands the clone classes into pairs.
+     * Note that a class of n methods stands for n*(n-1)/2 pairs,
+     * so prefer {@link #getCloneClasses()} for big corpora.
+     */
+    public List<ClonePair> getClonePairs() {
+        List<ClonePair> pairs = new ArrayList<>();
+        for (CloneClass cloneClass : cloneClasses) {
+            cloneClass.addPairsTo(pairs);
+        }
+        pairs.addAll(nearMissPairs);
+        return pairs;
+    }
+
+    public List<ClonePair> getClonePairs(CloneType type) {
+        if (type == CloneType.TYPE_3) {
+            return new ArrayList<>(nearMissPairs);
+        }
+        List<ClonePair> pairs = new ArrayList<>();
+        for (CloneClass cloneClass : getCloneClasses(type)) {
+            cloneClass.addPairsTo(pairs);
+        }
+        return pairs;
+    }
+
+    /**
+     * @return the number of methods that were big enough to be indexed.
+     */
+    public int getIndexedMethodCount() {
+        return indexedMethodCount;
+    }
+
+    /**
+     * @return the files that could not be parsed, with the reason.
+     */
+    public Map<String, String> getSkippedFiles() {
+        return Collections.unmodifiableMap(skippedFiles);
+    }
+
+    /**
+     * @return the files that had syntax errors, with the errors. Their other methods were indexed.
+     */
+    public Map<String, String> getPartiallyParsedFiles() {
+        return Collections.unmodifiableMap(partiallyParsedFiles);
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.javaparser.extend.clone;
+
+/**
+ * The kinds of clones the clone detection engine can report.
+ * Methods are compared by their bodies, so two methods with identical bodies are type 1 clones even if their names or
+ * parameters differ.
+ */
+public enum CloneType {
+    /**
+     * Identical code, apart from whitespace, layout and comments.
+     */
+    TYPE_1,
+    /**
+     * Syntactically identical code in which identifiers, literals and types may differ.
+     */
+    TYPE_2,
+    /**
+     * Near-miss clones: similar code in which statements may also have been added, removed or changed.
+     */
+    TYPE_3
+}
@@ -0,0 +1,118 @@
+package com.github.javaparser.extend.clone;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * An inverted index from fingerprint to the documents (files or methods) it occurs in.
+ * <p>
+ * Every distinct fingerprint of a document takes one long in the index: the hash in the upper half, the document id in
+ * the lower half, and one int in the list of fingerprints of the document. The entries are kept sorted, so the documents that share a fingerprint are found by binary search, and
+ * looking up a document costs time in the number of its fingerprints and their matches, not in the size of the
+ * database. Entries added since the last lookup are sorted in on the next one.
+ */
+public class FingerprintDatabase {
+    private final List<String> names = new ArrayList<>();
+    private final List<int[]> documentHashes = new ArrayList<>();
+    private long[] entries = new long[1024];
+    private int entryCount = 0;
+    private boolean sorted = true;
+
+    /**
+     * @param name anything that identifies the document, like a path or a path and a method name.
+     * @return the id of the document, ids are handed out in order starting at 0.
+     */
+    public int add(String name, WinnowedFingerprints fingerprints) {
+        int id = names.size();
+        names.add(assertNotNull(name));
+        int[] hashes = distinct(fingerprints.hashes());
+        documentHashes.add(hashes);
+        if (entryCount + hashes.length > entries.length) {
+            entries = Arrays.copyOf(entries, Math.max(entries.length * 2, entryCount + hashes.length));
+        }
+        for (int hash : hashes) {
+            entries[entryCount++] = entry(hash, id);
+        }
+        sorted = false;
+        return id;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public String getName(int id) {
+        return names.get(id);
+    }
+
+    /**
+     * @return the documents that share at least one fingerprint with the given ones, most shared fingerprints first.
+     */
+    public List<FingerprintMatch> findSimilar(WinnowedFingerprints fingerprints) {
+        return findSimilar(distinct(fingerprints.hashes()), -1);
+    }
+
+    /**
+     * @return the other documents that share at least one fingerprint with this document, most shared fingerprints
+     * first.
+     */
+    public List<FingerprintMatch> findSimilar(int id) {
+        return findSimilar(documentHashes.get(id), id);
+    }
+
+    private List<FingerprintMatch> findSimilar(int[] hashes, int excludedId) {
+        sort();
+        Map<Integer, Integer> shared = new LinkedHashMap<>();
+        for (int hash : hashes) {
+            for (int i = lowerBound(entry(hash, 0)); i < entryCount && (int) (entries[i] >> 32) == hash; i++) {
+                int id = (int) entries[i];
+                if (id != excludedId) {
+                    shared.merge(id, 1, Integer::sum);
+                }
+            }
+        }
+        List<FingerprintMatch> matches = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> match : shared.entrySet()) {
+            int id = match.getKey();
+            matches.add(new FingerprintMatch(id, names.get(id), match.getValue(), hashes.length, documentHashes.get(id).length));
+        }
+        matches.sort((a, b) -> a.getSharedFingerprints() != b.getSharedFingerprints()
+                ? b.getSharedFingerprints() - a.getSharedFingerprints()
+                : a.getId() - b.getId());
+        return matches;
+    }
+
+    private void sort() {
+        if (!sorted) {
+            Arrays.sort(entries, 0, entryCount);
+            sorted = true;
+        }
+    }
+
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = entryCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (entries[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static long entry(int hash, int id) {
+        return ((long) hash << 32) | id;
+    }
+
+    private static int[] distinct(int[] hashes) {
+        return Arrays.stream(hashes).distinct().toArray();
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.javaparser.extend.clone;
+
+/**
+ * A document in a {@link FingerprintDatabase} that shares fingerprints with the one looked up.
+ */
+public class FingerprintMatch {
+    private final int id;
+    private final String name;
+    private final int sharedFingerprints;
+    private final int queryFingerprints;
+    private final int documentFingerprints;
+
+    FingerprintMatch(int id, String name, int sharedFingerprints, int queryFingerprints, int documentFingerprints) {
+        this.id = id;
+        this.name = name;
+        this.sharedFingerprints = sharedFingerprints;
+        this.queryFingerprints = queryFingerprints;
+        this.documentFingerprints = documentFingerprints;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSharedFingerprints() {
+        return sharedFingerprints;
+    }
+
+    /**
+     * @return the share of the fingerprints of the looked up document that were found in this one.
+     */
+    public double getQueryCoverage() {
+        return queryFingerprints == 0 ? 0 : (double) sharedFingerprints / queryFingerprints;
+    }
+
+    /**
+     * @return the share of the fingerprints of this document that were found in the looked up one.
+     */
+    public double getDocumentCoverage() {
+        return documentFingerprints == 0 ? 0 : (double) sharedFingerprints / documentFingerprints;
+    }
+
+    @Override
+    public String toString() {
+        return name + ": " + sharedFingerprints + " shared fingerprints";
+    }
+}
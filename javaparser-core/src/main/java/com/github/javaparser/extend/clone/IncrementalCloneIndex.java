@@ -0,0 +1,174 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ParallelParser;
+import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.ast.MethodRepresentation;
+import com.github.javaparser.extend.CompilationUnitWrapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * A clone index that is kept up to date with the source files, for repeated runs over a corpus that changes a little
+ * at a time.
+ * <p>
+ * For every file the index remembers its size, modification time and a hash of its content, and the methods it
+ * contributed. An update only reads files whose size or modification time changed, and only parses them again when
+ * their content hash changed too. The methods of a changed file are taken out of the index and replaced by the new
+ * ones; nothing else in the index is touched.
+ * <p>
+ * Only type 1 and type 2 clones are kept up to date.
+ */
+public class IncrementalCloneIndex {
+    private final CloneConfiguration configuration;
+    private final CloneIndex index;
+    private final Map<String, FileState> files = new LinkedHashMap<>();
+    private final Map<String, String> skippedFiles = new LinkedHashMap<>();
+    private final Map<String, String> partiallyParsedFiles = new LinkedHashMap<>();
+
+    public IncrementalCloneIndex() {
+        this(new CloneConfiguration());
+    }
+
+    public IncrementalCloneIndex(CloneConfiguration configuration) {
+        this.configuration = assertNotNull(configuration);
+        this.index = new CloneIndex(configuration);
+    }
+
+    /**
+     * Brings the index up to date with all source files below the source roots.
+     * Files that are no longer there are removed from the index.
+     *
+     * @return the paths of the files that were added, changed or removed.
+     * @throws IOException when a source root or file can not be read.
+     */
+    public Set<String> update(Collection<Path> sourceRoots) throws IOException {
+        Set<String> seen = new HashSet<>();
+        Set<String> changed = new HashSet<>();
+        for (Path sourceRoot : sourceRoots) {
+            for (Path file : ParallelParser.findSourceFiles(sourceRoot, configuration.sourceFileSuffix)) {
+                seen.add(file.toString());
+                if (update(file)) {
+                    changed.add(file.toString());
+                }
+            }
+        }
+        for (String path : new ArrayList<>(files.keySet())) {
+            if (!seen.contains(path)) {
+                remove(path);
+                changed.add(path);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Brings the index up to date with one file, for callers that know which files changed.
+     *
+     * @return whether the methods of the file changed.
+     * @throws IOException when the file can not be read.
+     */
+    public boolean update(Path file) throws IOException {
+        String path = file.toString();
+        long size = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        FileState state = files.get(path);
+        if (state != null && state.size == size && state.lastModified == lastModified) {
+            return false;
+        }
+        byte[] content = Files.readAllBytes(file);
+        byte[] contentHash = hash(content);
+        if (state != null && Arrays.equals(state.contentHash, contentHash)) {
+            // touched, but not changed
+            state.size = size;
+            state.lastModified = lastModified;
+            return false;
+        }
+        remove(path);
+        FileState newState = new FileState(size, lastModified, contentHash);
+        try {
+            CompilationUnitWrapper compilationUnitWrapper = new CompilationUnitWrapper(path, content);
+            newState.methods = compilationUnitWrapper.getMethodRepresentations();
+            if (!compilationUnitWrapper.getProblems().isEmpty()) {
+                partiallyParsedFiles.put(path, CloneDetector.describe(compilationUnitWrapper.getProblems()));
+            }
+            for (MethodRepresentation method : newState.methods) {
+                index.add(method);
+            }
+        } catch (ParseProblemException e) {
+            skippedFiles.put(path, e.getMessage());
+        }
+        files.put(path, newState);
+        return true;
+    }
+
+    /**
+     * Takes the methods of a file out of the index.
+     *
+     * @return false if the file was not in the index.
+     */
+    public boolean remove(String path) {
+        FileState state = files.remove(path);
+        skippedFiles.remove(path);
+        partiallyParsedFiles.remove(path);
+        if (state == null) {
+            return false;
+        }
+        for (MethodRepresentation method : state.methods) {
+            index.remove(method);
+        }
+        return true;
+    }
+
+    /**
+     * @return the methods the file contributed to the index, or an empty list if it is not indexed.
+     */
+    public List<MethodRepresentation> getMethods(String path) {
+        FileState state = files.get(path);
+        return state == null ? Collections.emptyList() : Collections.unmodifiableList(state.methods);
+    }
+
+    /**
+     * @return the clones in the index as it is now.
+     */
+    public CloneReport getReport() {
+        return new CloneReport(index.getCloneClasses(), new ArrayList<>(), index.getMethodCount(), new LinkedHashMap<>(skippedFiles),
+                new LinkedHashMap<>(partiallyParsedFiles));
+    }
+
+    private static byte[] hash(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform has SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class FileState {
+        long size;
+        long lastModified;
+        final byte[] contentHash;
+        List<MethodRepresentation> methods = Collections.emptyList();
+
+        FileState(long size, long lastModified, byte[] contentHash) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.contentHash = contentHash;
+        }
+    }
+}
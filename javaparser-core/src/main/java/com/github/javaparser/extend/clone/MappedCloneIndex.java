@@ -0,0 +1,414 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.Range;
+import com.github.javaparser.ast.MethodRepresentation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * A clone index stored in a single file and read through a memory mapping, so a new process can answer clone queries
+ * without parsing or loading anything: opening the index maps the file, and every query only touches the pages it
+ * needs, which the operating system keeps in its page cache between runs.
+ * <p>
+ * The file holds, after a fixed header:
+ * <ul>
+ * <li>a string table with the file paths, class names and method names,</li>
+ * <li>a method table with one fixed size record per method: its names, range, token count, the 64 bit hashes of its
+ * exact and normalized tokens, and where its fingerprints are,</li>
+ * <li>the normalized hashes with their method ids, sorted, for type 1 and type 2 lookups,</li>
+ * <li>the winnowed fingerprints of every method,</li>
+ * <li>the posting lists: every distinct fingerprint of every method as hash and method id, sorted, for lookups of
+ * methods that share fingerprints.</li>
+ * </ul>
+ * All lookups are binary searches over the mapped file. Type 1 and type 2 clones are found by their 64 bit hashes,
+ * which makes a false match possible but very unlikely.
+ * <p>
+ * A single mapping is limited to 2GB, which is the limit on the size of an index.
+ */
+public class MappedCloneIndex {
+    private static final int MAGIC = 0x434c4e58;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 14 * 4;
+    private static final int METHOD_SIZE = 9 * 4 + 2 * 8;
+    private static final int CLONE_ENTRY_SIZE = 8 + 4;
+
+    // method record fields
+    private static final int FILE_PATH = 0;
+    private static final int CLASS_NAME = 4;
+    private static final int METHOD_NAME = 8;
+    private static final int RANGE = 12;
+    private static final int TOKEN_COUNT = 28;
+    private static final int FINGERPRINT_START = 32;
+    private static final int EXACT_HASH = 36;
+    private static final int NORMALIZED_HASH = 44;
+
+    private final ByteBuffer buffer;
+    private final int methodCount;
+    private final int stringCount;
+    private final int shingleSize;
+    private final int winnowingWindow;
+    private final int stringOffsets;
+    private final int stringData;
+    private final int methods;
+    private final int cloneEntries;
+    private final int cloneEntryCount;
+    private final int fingerprints;
+    private final int postings;
+    private final int postingCount;
+
+    private MappedCloneIndex(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a clone index.");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported clone index version " + buffer.getInt(4) + ".");
+        }
+        methodCount = buffer.getInt(8);
+        stringCount = buffer.getInt(12);
+        shingleSize = buffer.getInt(16);
+        winnowingWindow = buffer.getInt(20);
+        stringOffsets = buffer.getInt(24);
+        stringData = buffer.getInt(28);
+        methods = buffer.getInt(32);
+        cloneEntries = buffer.getInt(36);
+        cloneEntryCount = buffer.getInt(40);
+        fingerprints = buffer.getInt(44);
+        postings = buffer.getInt(48);
+        postingCount = buffer.getInt(52);
+    }
+
+    /**
+     * Maps an index written by {@link #write(Path, Iterable, CloneConfiguration)}.
+     * The mapping stays valid until the index is garbage collected.
+     *
+     * @throws IOException when the file can not be read or is not a clone index.
+     */
+    public static MappedCloneIndex open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Clone index is too large to map: " + file);
+            }
+            return new MappedCloneIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Writes an index of the methods to a file, replacing it if it exists.
+     * Methods with fewer than {@link CloneConfiguration#minimumTokens} tokens are left out.
+     *
+     * @return the number of methods in the index.
+     * @throws IOException when the file can not be written.
+     */
+    public static int write(Path file, Iterable<MethodRepresentation> methods, CloneConfiguration configuration) throws IOException {
+        assertNotNull(configuration);
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        List<int[]> records = new ArrayList<>();
+        List<long[]> hashes = new ArrayList<>();
+        List<int[]> methodFingerprints = new ArrayList<>();
+        int fingerprintCount = 0;
+        int postingCount = 0;
+        for (MethodRepresentation method : methods) {
+            NormalizedTokenStream tokens = CloneIndex.tokensOf(method);
+            if (tokens.size() < configuration.minimumTokens) {
+                continue;
+            }
+            Range range = method.getRange().orElse(Range.UNKNOWN);
+            records.add(new int[]{
+                    strings.computeIfAbsent(method.getFilePath(), s -> strings.size()),
+                    strings.computeIfAbsent(method.getClassName(), s -> strings.size()),
+                    strings.computeIfAbsent(method.getMethodName(), s -> strings.size()),
+                    range.begin.line, range.begin.column, range.end.line, range.end.column,
+                    tokens.size(), fingerprintCount});
+            hashes.add(new long[]{exactHash(tokens), normalizedHash(tokens)});
+            int[] fingerprints = WinnowedFingerprints.hashesOf(tokens, configuration);
+            methodFingerprints.add(fingerprints);
+            fingerprintCount += fingerprints.length;
+            postingCount += Arrays.stream(fingerprints).distinct().count();
+        }
+
+        byte[][] encodedStrings = new byte[strings.size()][];
+        int stringBytes = 0;
+        for (Map.Entry<String, Integer> string : strings.entrySet()) {
+            encodedStrings[string.getValue()] = string.getKey().getBytes(StandardCharsets.UTF_8);
+            stringBytes += encodedStrings[string.getValue()].length;
+        }
+        long stringOffsets = HEADER_SIZE;
+        long stringData = stringOffsets + 4L * (strings.size() + 1);
+        long methodTable = stringData + stringBytes;
+        long cloneEntries = methodTable + (long) METHOD_SIZE * records.size();
+        long fingerprintTable = cloneEntries + (long) CLONE_ENTRY_SIZE * records.size();
+        long postingTable = fingerprintTable + 4L * fingerprintCount;
+        long size = postingTable + 8L * postingCount;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Clone index would be too large to map: " + size + " bytes.");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            out.putInt(MAGIC).putInt(VERSION).putInt(records.size()).putInt(strings.size())
+                    .putInt(configuration.shingleSize).putInt(configuration.winnowingWindow)
+                    .putInt((int) stringOffsets).putInt((int) stringData).putInt((int) methodTable)
+                    .putInt((int) cloneEntries).putInt(records.size())
+                    .putInt((int) fingerprintTable).putInt((int) postingTable).putInt(postingCount);
+
+            int offset = 0;
+            for (byte[] string : encodedStrings) {
+                out.putInt(offset);
+                offset += string.length;
+            }
+            out.putInt(offset);
+            for (byte[] string : encodedStrings) {
+                out.put(string);
+            }
+
+            for (int id = 0; id < records.size(); id++) {
+                for (int field : records.get(id)) {
+                    out.putInt(field);
+                }
+                out.putLong(hashes.get(id)[0]).putLong(hashes.get(id)[1]);
+            }
+
+            Integer[] byNormalizedHash = new Integer[records.size()];
+            for (int id = 0; id < byNormalizedHash.length; id++) {
+                byNormalizedHash[id] = id;
+            }
+            Arrays.sort(byNormalizedHash, (a, b) -> {
+                int compared = Long.compare(hashes.get(a)[1], hashes.get(b)[1]);
+                return compared != 0 ? compared : a - b;
+            });
+            for (int id : byNormalizedHash) {
+                out.putLong(hashes.get(id)[1]).putInt(id);
+            }
+
+            long[] entries = new long[postingCount];
+            int entryCount = 0;
+            for (int id = 0; id < methodFingerprints.size(); id++) {
+                for (int hash : methodFingerprints.get(id)) {
+                    out.putInt(hash);
+                }
+                for (int hash : Arrays.stream(methodFingerprints.get(id)).distinct().toArray()) {
+                    entries[entryCount++] = ((long) hash << 32) | id;
+                }
+            }
+            Arrays.sort(entries);
+            for (long entry : entries) {
+                out.putLong(entry);
+            }
+            out.force();
+        }
+        return records.size();
+    }
+
+    public int size() {
+        return methodCount;
+    }
+
+    public String getFilePath(int id) {
+        return string(buffer.getInt(method(id) + FILE_PATH));
+    }
+
+    public String getClassName(int id) {
+        return string(buffer.getInt(method(id) + CLASS_NAME));
+    }
+
+    public String getMethodName(int id) {
+        return string(buffer.getInt(method(id) + METHOD_NAME));
+    }
+
+    public Range getRange(int id) {
+        int record = method(id) + RANGE;
+        return Range.range(buffer.getInt(record), buffer.getInt(record + 4), buffer.getInt(record + 8), buffer.getInt(record + 12));
+    }
+
+    public int getTokenCount(int id) {
+        return buffer.getInt(method(id) + TOKEN_COUNT);
+    }
+
+    /**
+     * @return the ids of the other methods in the index that are clones of this type of the method, in order.
+     * @throws IllegalArgumentException for clone types that the index can not find.
+     */
+    public int[] findClones(int id, CloneType type) {
+        int record = method(id);
+        return findClones(buffer.getLong(record + EXACT_HASH), buffer.getLong(record + NORMALIZED_HASH), type, id);
+    }
+
+    /**
+     * @return the ids of the methods in the index that are clones of this type of the tokens, in order.
+     * @throws IllegalArgumentException for clone types that the index can not find.
+     */
+    public int[] findClones(NormalizedTokenStream tokens, CloneType type) {
+        return findClones(exactHash(tokens), normalizedHash(tokens), type, -1);
+    }
+
+    private int[] findClones(long exactHash, long normalizedHash, CloneType type, int excludedId) {
+        if (type != CloneType.TYPE_1 && type != CloneType.TYPE_2) {
+            throw new IllegalArgumentException("A mapped clone index only finds type 1 and type 2 clones, not " + type);
+        }
+        int[] clones = new int[0];
+        int count = 0;
+        for (int i = firstCloneEntry(normalizedHash); i < cloneEntryCount && cloneHashAt(i) == normalizedHash; i++) {
+            int id = buffer.getInt(cloneEntries + i * CLONE_ENTRY_SIZE + 8);
+            boolean exact = buffer.getLong(method(id) + EXACT_HASH) == exactHash;
+            if (id != excludedId && exact == (type == CloneType.TYPE_1)) {
+                if (count == clones.length) {
+                    clones = Arrays.copyOf(clones, Math.max(4, count * 2));
+                }
+                clones[count++] = id;
+            }
+        }
+        return Arrays.copyOf(clones, count);
+    }
+
+    /**
+     * @return the other methods that share at least one fingerprint with this method, most shared fingerprints first.
+     * The names of the matches are the file path and the full method name.
+     */
+    public List<FingerprintMatch> findSimilar(int id) {
+        return findSimilar(fingerprintsOf(id), id);
+    }
+
+    /**
+     * @return the methods that share at least one fingerprint with the tokens, most shared fingerprints first.
+     * The tokens are fingerprinted with the k-gram size and window the index was written with.
+     */
+    public List<FingerprintMatch> findSimilar(NormalizedTokenStream tokens) {
+        CloneConfiguration configuration = new CloneConfiguration();
+        configuration.shingleSize = shingleSize;
+        configuration.winnowingWindow = winnowingWindow;
+        return findSimilar(WinnowedFingerprints.hashesOf(tokens, configuration), -1);
+    }
+
+    private List<FingerprintMatch> findSimilar(int[] hashes, int excludedId) {
+        hashes = Arrays.stream(hashes).distinct().toArray();
+        Map<Integer, Integer> shared = new LinkedHashMap<>();
+        for (int hash : hashes) {
+            for (int i = firstPosting(hash); i < postingCount && (int) (postingAt(i) >> 32) == hash; i++) {
+                int id = (int) postingAt(i);
+                if (id != excludedId) {
+                    shared.merge(id, 1, Integer::sum);
+                }
+            }
+        }
+        List<FingerprintMatch> matches = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> match : shared.entrySet()) {
+            int id = match.getKey();
+            String name = getFilePath(id) + ":" + getClassName(id) + "." + getMethodName(id);
+            matches.add(new FingerprintMatch(id, name, match.getValue(), hashes.length,
+                    (int) Arrays.stream(fingerprintsOf(id)).distinct().count()));
+        }
+        matches.sort((a, b) -> a.getSharedFingerprints() != b.getSharedFingerprints()
+                ? b.getSharedFingerprints() - a.getSharedFingerprints()
+                : a.getId() - b.getId());
+        return matches;
+    }
+
+    private int[] fingerprintsOf(int id) {
+        int start = buffer.getInt(method(id) + FINGERPRINT_START);
+        int end = id + 1 < methodCount ? buffer.getInt(method(id + 1) + FINGERPRINT_START) : (postings - fingerprints) / 4;
+        int[] hashes = new int[end - start];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = buffer.getInt(fingerprints + (start + i) * 4);
+        }
+        return hashes;
+    }
+
+    private int method(int id) {
+        if (id < 0 || id >= methodCount) {
+            throw new IndexOutOfBoundsException("No method " + id + " in an index of " + methodCount);
+        }
+        return methods + id * METHOD_SIZE;
+    }
+
+    private String string(int id) {
+        int start = buffer.getInt(stringOffsets + id * 4);
+        int end = buffer.getInt(stringOffsets + id * 4 + 4);
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(stringData + start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private long cloneHashAt(int index) {
+        return buffer.getLong(cloneEntries + index * CLONE_ENTRY_SIZE);
+    }
+
+    private int firstCloneEntry(long hash) {
+        int low = 0;
+        int high = cloneEntryCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cloneHashAt(middle) < hash) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long postingAt(int index) {
+        return buffer.getLong(postings + index * 8);
+    }
+
+    private int firstPosting(int hash) {
+        long key = (long) hash << 32;
+        int low = 0;
+        int high = postingCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (postingAt(middle) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    static long normalizedHash(NormalizedTokenStream tokens) {
+        long hash = 0xcbf29ce484222325L;
+        for (int code : tokens.codes()) {
+            hash = (hash ^ code) * 0x100000001b3L;
+        }
+        return finish(hash, tokens.size());
+    }
+
+    static long exactHash(NormalizedTokenStream tokens) {
+        long hash = 0xcbf29ce484222325L;
+        for (String image : tokens.images()) {
+            for (int i = 0; i < image.length(); i++) {
+                hash = (hash ^ image.charAt(i)) * 0x100000001b3L;
+            }
+            // a separator, so "a b" and "ab" differ
+            hash = (hash ^ 0x10000) * 0x100000001b3L;
+        }
+        return finish(hash, tokens.size());
+    }
+
+    private static long finish(long hash, int length) {
+        hash ^= length;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ASTParserConstants;
+import com.github.javaparser.ast.MethodRepresentation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits the body lines of a {@link MethodRepresentation} into Java tokens.
+ * This is the fallback for method representations that were created without the parser's tokens.
+ * The lines are printed without comments, so only identifiers, keywords, literals, operators and separators
+ * have to be recognised.
+ */
+final class MethodTokenizer {
+    /**
+     * The image of every keyword, operator and separator, mapped to its token kind.
+     */
+    private static final Map<String, Integer> KINDS = new HashMap<>();
+
+    static {
+        for (int kind = 0; kind < ASTParserConstants.tokenImage.length; kind++) {
+            String image = ASTParserConstants.tokenImage[kind];
+            if (image.length() > 2 && image.startsWith("\"") && image.endsWith("\"")) {
+                KINDS.put(image.substring(1, image.length() - 1), kind);
+            }
+        }
+    }
+
+    /**
+     * Longest operators first, so greedy matching picks ">>>=" over ">>".
+     */
+    private static final String[] OPERATORS = {
+            ">>>=", "<<=", ">>=", ">>>", "...", "->", "::", "++", "--", "&&", "||", "==", "!=", "<=", ">=",
+            "+=", "-=", "*=", "/=", "&=", "|=", "^=", "%=", "<<", ">>"};
+
+    private MethodTokenizer() {
+    }
+
+    /**
+     * @return the tokens of all lines, in order.
+     */
+    static NormalizedTokenStream tokenize(List<String> lines) {
+        List<Integer> kinds = new ArrayList<>();
+        List<String> images = new ArrayList<>();
+        for (String line : lines) {
+            tokenize(line, kinds, images);
+        }
+        int[] codes = new int[kinds.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = NormalizedTokenStream.normalize(kinds.get(i));
+        }
+        return new NormalizedTokenStream(codes, images.toArray(new String[images.size()]));
+    }
+
+    private static void tokenize(String line, List<Integer> kinds, List<String> images) {
+        int i = 0;
+        int length = line.length();
+        while (i < length) {
+            char c = line.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            int end;
+            int kind;
+            if (Character.isJavaIdentifierStart(c)) {
+                end = i + 1;
+                while (end < length && Character.isJavaIdentifierPart(line.charAt(end))) {
+                    end++;
+                }
+                kind = KINDS.getOrDefault(line.substring(i, end), ASTParserConstants.IDENTIFIER);
+            } else if (Character.isDigit(c) || (c == '.' && i + 1 < length && Character.isDigit(line.charAt(i + 1)))) {
+                end = i + 1;
+                while (end < length && isNumberPart(line, end)) {
+                    end++;
+                }
+                kind = ASTParserConstants.INTEGER_LITERAL;
+            } else if (c == '"' || c == '\'') {
+                end = i + 1;
+                while (end < length && line.charAt(end) != c) {
+                    end += line.charAt(end) == '\\' ? 2 : 1;
+                }
+                end = Math.min(end + 1, length);
+                kind = c == '"' ? ASTParserConstants.STRING_LITERAL : ASTParserConstants.CHARACTER_LITERAL;
+            } else {
+                String operator = matchOperator(line, i);
+                end = i + operator.length();
+                if (operator.equals(">>") || operator.equals(">>>")) {
+                    // the lexer splits shifts into ">" tokens, because they might close type arguments.
+                    for (int gt = 0; gt < operator.length(); gt++) {
+                        kinds.add(ASTParserConstants.GT);
+                        images.add(">");
+                    }
+                    i = end;
+                    continue;
+                }
+                Integer operatorKind = KINDS.get(operator);
+                if (operatorKind == null) {
+                    i = end;
+                    continue;
+                }
+                kind = operatorKind;
+            }
+            kinds.add(kind);
+            images.add(line.substring(i, end));
+            i = end;
+        }
+    }
+
+    private static boolean isNumberPart(String line, int i) {
+        char c = line.charAt(i);
+        if (Character.isLetterOrDigit(c) || c == '_' || c == '.') {
+            return true;
+        }
+        // exponents like 1e+10
+        char previous = line.charAt(i - 1);
+        return (c == '+' || c == '-') && (previous == 'e' || previous == 'E' || previous == 'p' || previous == 'P');
+    }
+
+    private static String matchOperator(String line, int i) {
+        for (String operator : OPERATORS) {
+            if (line.startsWith(operator, i)) {
+                return operator;
+            }
+        }
+        return line.substring(i, i + 1);
+    }
+}
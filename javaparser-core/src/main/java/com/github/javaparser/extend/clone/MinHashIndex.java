@@ -0,0 +1,121 @@
+package com.github.javaparser.extend.clone;
+
+import java.util.Arrays;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * A banded LSH table over {@link MinHashSignature}s.
+ * <p>
+ * The signatures are cut into bands of rows; two signatures that agree on all rows of at least one band are
+ * candidates, and candidates whose estimated Jaccard similarity reaches {@link CloneConfiguration#minimumJaccard}
+ * are reported.
+ * The signatures are stored back to back in one int array and are referred to by the id {@link #add} returns,
+ * so an entry costs 4 bytes per hash function and nothing more.
+ * The bands are only hashed and sorted while looking for pairs.
+ */
+public class MinHashIndex {
+    public interface PairConsumer {
+        void accept(int first, int second, double estimatedJaccard);
+    }
+
+    private final CloneConfiguration configuration;
+    private final int functions;
+    private int[] signatures;
+    private int size = 0;
+
+    public MinHashIndex(CloneConfiguration configuration) {
+        this.configuration = assertNotNull(configuration);
+        this.functions = configuration.minHashFunctions;
+        this.signatures = new int[functions * 16];
+    }
+
+    /**
+     * @return the id of the signature, ids are handed out in order starting at 0.
+     */
+    public int add(MinHashSignature signature) {
+        if (signature.size() != functions) {
+            throw new IllegalArgumentException("Expected a signature of " + functions + " values, got " + signature.size());
+        }
+        if ((size + 1) * functions > signatures.length) {
+            signatures = Arrays.copyOf(signatures, signatures.length * 2);
+        }
+        System.arraycopy(signature.values(), 0, signatures, size * functions, functions);
+        return size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double estimateJaccard(int first, int second) {
+        return estimateJaccard(signatures, first * functions, signatures, second * functions, functions);
+    }
+
+    static double estimateJaccard(int[] first, int firstOffset, int[] second, int secondOffset, int length) {
+        int equal = 0;
+        for (int i = 0; i < length; i++) {
+            if (first[firstOffset + i] == second[secondOffset + i]) {
+                equal++;
+            }
+        }
+        return (double) equal / length;
+    }
+
+    /**
+     * Passes every candidate pair with an estimated Jaccard similarity of at least
+     * {@link CloneConfiguration#minimumJaccard} to the consumer, once, lowest id first.
+     */
+    public void forEachSimilarPair(PairConsumer consumer) {
+        int bands = Math.min(configuration.minHashBands, functions);
+        int rows = functions / bands;
+        // band hash in the upper half, id in the lower half, so sorting groups equal bands
+        long[] keys = new long[size];
+        for (int band = 0; band < bands; band++) {
+            for (int id = 0; id < size; id++) {
+                long hash = band;
+                for (int row = band * rows; row < (band + 1) * rows; row++) {
+                    hash = MinHashSignature.mix(hash * 31 + signatures[id * functions + row]);
+                }
+                keys[id] = (hash & 0xffffffff00000000L) | id;
+            }
+            Arrays.sort(keys);
+            for (int start = 0; start < size; ) {
+                int end = start + 1;
+                while (end < size && (keys[end] >>> 32) == (keys[start] >>> 32)) {
+                    end++;
+                }
+                for (int a = start; a < end; a++) {
+                    for (int b = a + 1; b < end; b++) {
+                        int first = (int) keys[a];
+                        int second = (int) keys[b];
+                        // a pair that shares several bands is only considered in the first one
+                        if (firstSharedBand(first, second, bands, rows) == band) {
+                            double estimatedJaccard = estimateJaccard(first, second);
+                            if (estimatedJaccard >= configuration.minimumJaccard) {
+                                consumer.accept(first, second, estimatedJaccard);
+                            }
+                        }
+                    }
+                }
+                start = end;
+            }
+        }
+    }
+
+    /**
+     * @return the first band in which both signatures agree on all rows, or -1 if there is none.
+     */
+    private int firstSharedBand(int first, int second, int bands, int rows) {
+        for (int band = 0; band < bands; band++) {
+            int row = band * rows;
+            while (row < (band + 1) * rows && signatures[first * functions + row] == signatures[second * functions + row]) {
+                row++;
+            }
+            if (row == (band + 1) * rows) {
+                return band;
+            }
+        }
+        return -1;
+    }
+}
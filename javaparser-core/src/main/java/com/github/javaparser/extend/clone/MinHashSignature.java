@@ -0,0 +1,176 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ast.MethodRepresentation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A MinHash sketch of the k-shingles of a piece of code.
+ * <p>
+ * The share of positions in which two signatures agree is an estimate of the Jaccard similarity of their shingle sets,
+ * so gapped clones can be found without keeping the code around.
+ * A signature takes 4 bytes per hash function.
+ */
+public final class MinHashSignature {
+    private final int[] values;
+
+    MinHashSignature(int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Sketches the shingles of a normalized token stream: every run of shingleSize consecutive token codes.
+     * The hash functions are drawn for this call only; use {@link HashFunctions} to sketch more than one stream.
+     */
+    public static MinHashSignature of(NormalizedTokenStream tokens, CloneConfiguration configuration) {
+        return new HashFunctions(configuration).of(tokens);
+    }
+
+    /**
+     * Sketches a method, from its normalized tokens if it has them, or else from the shingles of its body lines.
+     * The hash functions are drawn for this call only; use {@link HashFunctions} to sketch more than one method.
+     */
+    public static MinHashSignature of(MethodRepresentation method, CloneConfiguration configuration) {
+        return new HashFunctions(configuration).of(method);
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public int valueAt(int index) {
+        return values[index];
+    }
+
+    /**
+     * @return the estimated Jaccard similarity of the shingle sets of both signatures.
+     */
+    public double estimateJaccard(MinHashSignature other) {
+        return MinHashIndex.estimateJaccard(values, 0, other.values, 0, values.length);
+    }
+
+    int[] values() {
+        return values;
+    }
+
+    /**
+     * The finalizer of MurmurHash3.
+     */
+    static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(values, ((MinHashSignature) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+    /**
+     * The hash functions of a configuration: multiply-shift hashes of the mixed shingle, with coefficients drawn from
+     * the seed. They are drawn once, and shared by all the signatures that are sketched with them.
+     */
+    public static final class HashFunctions {
+        private final int shingleSize;
+        private final long[] multipliers;
+        private final long[] increments;
+
+        public HashFunctions(CloneConfiguration configuration) {
+            int functions = configuration.minHashFunctions;
+            Random random = new Random(configuration.randomSeed);
+            shingleSize = configuration.shingleSize;
+            multipliers = new long[functions];
+            increments = new long[functions];
+            for (int i = 0; i < functions; i++) {
+                multipliers[i] = random.nextLong() | 1;
+                increments[i] = random.nextLong();
+            }
+        }
+
+        /**
+         * @see MinHashSignature#of(NormalizedTokenStream, CloneConfiguration)
+         */
+        public MinHashSignature of(NormalizedTokenStream tokens) {
+            int[] codes = tokens.codes();
+            Sketch sketch = new Sketch(this);
+            int size = Math.max(1, Math.min(shingleSize, codes.length));
+            for (int start = 0; start + size <= codes.length; start++) {
+                long shingle = 0;
+                for (int i = start; i < start + size; i++) {
+                    shingle = mix(shingle * 31 + codes[i]);
+                }
+                sketch.add(shingle);
+            }
+            return sketch.toSignature();
+        }
+
+        /**
+         * @see MinHashSignature#of(MethodRepresentation, CloneConfiguration)
+         */
+        public MinHashSignature of(MethodRepresentation method) {
+            NormalizedTokenStream tokens = method.getUserData(NormalizedTokenStream.METHOD_BODY);
+            if (tokens != null) {
+                return of(tokens);
+            }
+            List<String> lines = method.getMethodTokens();
+            Sketch sketch = new Sketch(this);
+            int size = Math.max(1, Math.min(shingleSize, lines.size()));
+            for (int start = 0; start + size <= lines.size(); start++) {
+                long shingle = 0;
+                for (int i = start; i < start + size; i++) {
+                    shingle = mix(shingle * 31 + lines.get(i).hashCode());
+                }
+                sketch.add(shingle);
+            }
+            return sketch.toSignature();
+        }
+    }
+
+    /**
+     * Keeps the minimum of every hash function over the shingles added so far.
+     */
+    private static final class Sketch {
+        private final HashFunctions functions;
+        private final int[] minimums;
+
+        Sketch(HashFunctions functions) {
+            this.functions = functions;
+            minimums = new int[functions.multipliers.length];
+            Arrays.fill(minimums, Integer.MAX_VALUE);
+        }
+
+        void add(long shingle) {
+            long[] multipliers = functions.multipliers;
+            long[] increments = functions.increments;
+            for (int i = 0; i < minimums.length; i++) {
+                // the top 31 bits, so signed comparison works
+                int hash = (int) ((multipliers[i] * shingle + increments[i]) >>> 33);
+                if (hash < minimums[i]) {
+                    minimums[i] = hash;
+                }
+            }
+        }
+
+        MinHashSignature toSignature() {
+            return new MinHashSignature(minimums);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.javaparser.extend.clone;
+
+/**
+ * The ways {@link NearMissCloneFinder} can find near-miss method clones.
+ */
+public enum NearMissAlgorithm {
+    /**
+     * Compare {@link CharacteristicVector}s of node kind counts through an LSH index, like Deckard.
+     */
+    CHARACTERISTIC_VECTORS,
+    /**
+     * Compare {@link MinHashSignature}s of token shingles through a banded LSH index.
+     * Scales to more methods, and also finds clones in which statements were only reordered or split.
+     */
+    MIN_HASH,
+    /**
+     * Compare bags of tokens through a {@link TokenBagIndex}, like SourcererCC.
+     * Exact, and scales to the largest corpora, but ignores the order of the tokens.
+     */
+    TOKEN_BAGS
+}
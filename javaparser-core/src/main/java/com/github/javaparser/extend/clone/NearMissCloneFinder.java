@@ -0,0 +1,196 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.MethodRepresentation;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.stmt.Statement;
+import com.github.javaparser.extend.CompilationUnitWrapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * Finds near-miss (type 3) clones by comparing {@link CharacteristicVector}s, like Deckard does,
+ * or, for methods, with one of the other {@link NearMissAlgorithm}s.
+ * <p>
+ * The vectors or signatures go into a locality-sensitive hash index, so only the ones that are likely to be close are
+ * compared. Some near-miss clones may be missed; more hash tables or bands make that less likely.
+ * The token bag index is exact.
+ */
+public class NearMissCloneFinder {
+    private final CloneConfiguration configuration;
+
+    public NearMissCloneFinder() {
+        this(new CloneConfiguration());
+    }
+
+    public NearMissCloneFinder(CloneConfiguration configuration) {
+        this.configuration = assertNotNull(configuration);
+    }
+
+    /**
+     * Finds the near-miss clones between methods with at least {@link CloneConfiguration#minimumTokens} tokens.
+     * Methods that are type 1 or type 2 clones of each other are not reported again.
+     *
+     * @see CloneConfiguration#nearMissAlgorithm
+     */
+    public List<ClonePair> findMethodClones(Iterable<MethodRepresentation> methods) {
+        switch (configuration.nearMissAlgorithm) {
+            case MIN_HASH:
+                return findMethodClonesByMinHash(methods);
+            case TOKEN_BAGS:
+                return findMethodClonesByTokenBags(methods);
+            default:
+                return findMethodClonesByVectors(methods);
+        }
+    }
+
+    private List<ClonePair> findMethodClonesByVectors(Iterable<MethodRepresentation> methods) {
+        VectorIndex<MethodRepresentation> index = new VectorIndex<>(configuration);
+        for (MethodRepresentation method : methods) {
+            if (CloneIndex.tokensOf(method).size() >= configuration.minimumTokens) {
+                index.add(method, vectorOf(method));
+            }
+        }
+        List<ClonePair> pairs = new ArrayList<>();
+        index.forEachSimilarPair((first, second, similarity) -> {
+            if (!Arrays.equals(CloneIndex.tokensOf(first).codes(), CloneIndex.tokensOf(second).codes())) {
+                pairs.add(new ClonePair(first, second, CloneType.TYPE_3, similarity));
+            }
+        });
+        return pairs;
+    }
+
+    private List<ClonePair> findMethodClonesByMinHash(Iterable<MethodRepresentation> methods) {
+        MinHashIndex index = new MinHashIndex(configuration);
+        MinHashSignature.HashFunctions functions = new MinHashSignature.HashFunctions(configuration);
+        List<MethodRepresentation> indexed = new ArrayList<>();
+        for (MethodRepresentation method : methods) {
+            if (CloneIndex.tokensOf(method).size() >= configuration.minimumTokens) {
+                index.add(functions.of(method));
+                indexed.add(method);
+            }
+        }
+        List<ClonePair> pairs = new ArrayList<>();
+        index.forEachSimilarPair((first, second, estimatedJaccard) -> {
+            MethodRepresentation firstMethod = indexed.get(first);
+            MethodRepresentation secondMethod = indexed.get(second);
+            if (!Arrays.equals(CloneIndex.tokensOf(firstMethod).codes(), CloneIndex.tokensOf(secondMethod).codes())) {
+                pairs.add(new ClonePair(firstMethod, secondMethod, CloneType.TYPE_3, estimatedJaccard));
+            }
+        });
+        return pairs;
+    }
+
+    private List<ClonePair> findMethodClonesByTokenBags(Iterable<MethodRepresentation> methods) {
+        TokenBagIndex index = new TokenBagIndex(configuration);
+        for (MethodRepresentation method : methods) {
+            index.add(method);
+        }
+        List<ClonePair> pairs = new ArrayList<>();
+        index.forEachSimilarPair((first, second, overlap) -> {
+            if (!Arrays.equals(CloneIndex.tokensOf(first).codes(), CloneIndex.tokensOf(second).codes())) {
+                pairs.add(new ClonePair(first, second, CloneType.TYPE_3, overlap));
+            }
+        });
+        return pairs;
+    }
+
+    /**
+     * Finds the near-miss clones between statements with at least {@link CloneConfiguration#minimumSubtreeSize}
+     * relevant nodes.
+     * A statement is not paired with a statement it contains,
+     * and a pair is not reported when it is part of a larger pair.
+     */
+    public List<SubtreeClonePair> findSubtreeClones(Collection<? extends Node> roots) {
+        VectorIndex<Node> index = new VectorIndex<>(configuration);
+        Map<Node, Integer> ids = new IdentityHashMap<>();
+        for (Node root : roots) {
+            for (Statement statement : root.getNodesByType(Statement.class)) {
+                CharacteristicVector vector = CharacteristicVector.of(statement);
+                if (vector.size() >= configuration.minimumSubtreeSize) {
+                    ids.put(statement, ids.size());
+                    index.add(statement, vector);
+                }
+            }
+        }
+        List<SubtreeClonePair> pairs = new ArrayList<>();
+        Set<Long> found = new HashSet<>();
+        index.forEachSimilarPair((first, second, similarity) -> {
+            if (!contains(first, second) && !contains(second, first)) {
+                pairs.add(new SubtreeClonePair(first, second, similarity));
+                found.add(pairKey(ids.get(first), ids.get(second)));
+            }
+        });
+        pairs.removeIf(pair -> isPartOfLargerPair(pair, ids, found));
+        return pairs;
+    }
+
+    /**
+     * @return whether the statements around one or both statements of the pair form a pair too.
+     */
+    private static boolean isPartOfLargerPair(SubtreeClonePair pair, Map<Node, Integer> ids, Set<Long> found) {
+        List<Integer> firstAndAround = statementsAround(pair.getFirst(), ids);
+        List<Integer> secondAndAround = statementsAround(pair.getSecond(), ids);
+        for (int i = 0; i < firstAndAround.size(); i++) {
+            for (int j = i == 0 ? 1 : 0; j < secondAndAround.size(); j++) {
+                if (found.contains(pairKey(firstAndAround.get(i), secondAndAround.get(j)))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the id of the statement, followed by the ids of the indexed statements it is in, innermost first.
+     */
+    private static List<Integer> statementsAround(Node statement, Map<Node, Integer> ids) {
+        List<Integer> statements = new ArrayList<>();
+        for (Node node = statement; node != null; node = node.getParentNode()) {
+            Integer id = ids.get(node);
+            if (id != null) {
+                statements.add(id);
+            }
+        }
+        return statements;
+    }
+
+    private static boolean contains(Node ancestor, Node node) {
+        for (Node parent = node.getParentNode(); parent != null; parent = parent.getParentNode()) {
+            if (parent == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long pairKey(int first, int second) {
+        return ((long) Math.min(first, second) << 32) | Math.max(first, second);
+    }
+
+    /**
+     * Only the vector algorithm needs the vectors of methods, so they are computed here, from the declaration if the
+     * method has one, and kept for the next search.
+     */
+    private static CharacteristicVector vectorOf(MethodRepresentation method) {
+        CharacteristicVector vector = method.getUserData(CharacteristicVector.METHOD);
+        if (vector == null) {
+            Node declaration = method.getUserData(CompilationUnitWrapper.METHOD_DECLARATION);
+            if (declaration == null) {
+                declaration = JavaParser.parseClassBodyDeclaration(method.getStringifiedWithoutComments());
+            }
+            vector = CharacteristicVector.of(declaration);
+            method.setUserData(CharacteristicVector.METHOD, vector);
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,164 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ASTParserConstants;
+import com.github.javaparser.Position;
+import com.github.javaparser.Range;
+import com.github.javaparser.Token;
+import com.github.javaparser.ast.MethodRepresentation;
+import com.github.javaparser.ast.UserDataKey;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * The tokens of a piece of source code, int-encoded for clone detection.
+ * <p>
+ * Every token is stored as a code: keywords, operators and separators keep their {@link ASTParserConstants token kind},
+ * while identifiers, literals and primitive types are abstracted into the {@link #IDENTIFIER}, {@link #LITERAL} and
+ * {@link #TYPE} categories. Two streams with equal codes are type 2 clones.
+ * The original token images are kept alongside, so type 1 clones can be told apart without printing the AST.
+ */
+public final class NormalizedTokenStream {
+    /**
+     * Code for any identifier, including the names of classes and interfaces.
+     */
+    public static final int IDENTIFIER = ASTParserConstants.IDENTIFIER;
+    /**
+     * Code for any literal: numbers, characters, strings, booleans and null.
+     */
+    public static final int LITERAL = ASTParserConstants.tokenImage.length;
+    /**
+     * Code for any primitive type.
+     */
+    public static final int TYPE = LITERAL + 1;
+    /**
+     * All codes are smaller than this, so they can be used to index an array.
+     */
+    public static final int CODE_COUNT = TYPE + 1;
+    /**
+     * The tokens of the body of a {@link MethodRepresentation}, taken from the parser's token list.
+     * The header is left out, like in {@link MethodRepresentation#getMethodTokens()}, so that methods are compared by
+     * their bodies. Representations that were created without access to the tokens, and methods without a body,
+     * have none.
+     */
+    public static final UserDataKey<NormalizedTokenStream> METHOD_BODY = new UserDataKey<NormalizedTokenStream>() {
+    };
+
+    private final int[] codes;
+    private final String[] images;
+
+    NormalizedTokenStream(int[] codes, String[] images) {
+        this.codes = assertNotNull(codes);
+        this.images = assertNotNull(images);
+    }
+
+    /**
+     * Takes the tokens that lie within a range out of all tokens of a file,
+     * like the ones found in {@link com.github.javaparser.ParseResult#getTokens()}.
+     *
+     * @param tokens all tokens of a file, in order.
+     * @param range the part of the file to take, usually the range of a node.
+     */
+    public static NormalizedTokenStream of(List<Token> tokens, Range range) {
+        int from = firstTokenAtOrAfter(tokens, range.begin);
+        int to = from;
+        while (to < tokens.size() && tokens.get(to).kind != ASTParserConstants.EOF && !isAfter(tokens.get(to), range.end)) {
+            to++;
+        }
+        int[] codes = new int[to - from];
+        String[] images = new String[to - from];
+        for (int i = from; i < to; i++) {
+            Token token = tokens.get(i);
+            codes[i - from] = normalize(token.kind);
+            images[i - from] = token.image;
+        }
+        return new NormalizedTokenStream(codes, images);
+    }
+
+    /**
+     * Maps a token kind to its code in a normalized token stream.
+     */
+    public static int normalize(int kind) {
+        switch (kind) {
+            case ASTParserConstants.INTEGER_LITERAL:
+            case ASTParserConstants.LONG_LITERAL:
+            case ASTParserConstants.FLOATING_POINT_LITERAL:
+            case ASTParserConstants.CHARACTER_LITERAL:
+            case ASTParserConstants.STRING_LITERAL:
+            case ASTParserConstants.TRUE:
+            case ASTParserConstants.FALSE:
+            case ASTParserConstants.NULL:
+                return LITERAL;
+            case ASTParserConstants.BOOLEAN:
+            case ASTParserConstants.BYTE:
+            case ASTParserConstants.CHAR:
+            case ASTParserConstants.DOUBLE:
+            case ASTParserConstants.FLOAT:
+            case ASTParserConstants.INT:
+            case ASTParserConstants.LONG:
+            case ASTParserConstants.SHORT:
+                return TYPE;
+            default:
+                return kind;
+        }
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    /**
+     * @return the normalized code of the token at this index.
+     */
+    public int codeAt(int index) {
+        return codes[index];
+    }
+
+    /**
+     * @return the source text of the token at this index.
+     */
+    public String imageAt(int index) {
+        return images[index];
+    }
+
+    /**
+     * @return a copy of all normalized codes.
+     */
+    public int[] getCodes() {
+        return Arrays.copyOf(codes, codes.length);
+    }
+
+    int[] codes() {
+        return codes;
+    }
+
+    String[] images() {
+        return images;
+    }
+
+    static int firstTokenAtOrAfter(List<Token> tokens, Position position) {
+        int low = 0;
+        int high = tokens.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            Token token = tokens.get(middle);
+            if (token.beginLine < position.line || (token.beginLine == position.line && token.beginColumn < position.column)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    static boolean isAfter(Token token, Position position) {
+        return token.beginLine > position.line || (token.beginLine == position.line && token.beginColumn > position.column);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" ", images);
+    }
+}
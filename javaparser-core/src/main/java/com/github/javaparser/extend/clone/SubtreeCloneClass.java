@@ -0,0 +1,59 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ast.Node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * A group of AST subtrees (statements, expressions, declarations...) that are all clones of each other.
+ * <p>
+ * Like in a {@link CloneClass}, the subtrees are grouped into variants of identical subtrees.
+ */
+public class SubtreeCloneClass {
+    private final CloneType type;
+    private final List<List<Node>> variants;
+
+    SubtreeCloneClass(CloneType type, List<List<Node>> variants) {
+        this.type = assertNotNull(type);
+        this.variants = assertNotNull(variants);
+    }
+
+    public CloneType getType() {
+        return type;
+    }
+
+    /**
+     * @return all subtrees in this clone class.
+     */
+    public List<Node> getNodes() {
+        List<Node> nodes = new ArrayList<>();
+        for (List<Node> variant : variants) {
+            nodes.addAll(variant);
+        }
+        return nodes;
+    }
+
+    /**
+     * @return the subtrees grouped by their exact structural hash.
+     */
+    public List<List<Node>> getVariants() {
+        return Collections.unmodifiableList(variants);
+    }
+
+    public int size() {
+        int size = 0;
+        for (List<Node> variant : variants) {
+            size += variant.size();
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return type + ": " + getNodes();
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.StructuralHash;
+import com.github.javaparser.ast.comments.Comment;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds type 1 and type 2 clones between arbitrary subtrees of one or more ASTs, in the style of CloneDR.
+ * <p>
+ * Every subtree that is large enough is put in a hash bucket keyed on its
+ * {@link Node#getNormalizedStructuralHash() normalized structural hash}, and split up by its exact
+ * {@link Node#getStructuralHash() structural hash} within that bucket.
+ * A clone class is only reported when it is not part of a larger clone,
+ * so a cloned method is not also reported as a bunch of cloned statements.
+ * <p>
+ * Clones are recognised by their 64 bit hashes only, so a hash collision may very rarely show up as a false clone.
+ */
+public class SubtreeCloneFinder {
+    private final int minimumNodes;
+
+    /**
+     * @param minimumNodes subtrees with fewer nodes than this are ignored.
+     */
+    public SubtreeCloneFinder(int minimumNodes) {
+        this.minimumNodes = minimumNodes;
+    }
+
+    /**
+     * @param roots the ASTs to search, usually compilation units. Their structural hashes are (re)computed.
+     * @return all clone classes, type 1 classes first.
+     */
+    public List<SubtreeCloneClass> find(Collection<? extends Node> roots) {
+        Map<Long, List<Node>> buckets = new LinkedHashMap<>();
+        for (Node root : roots) {
+            StructuralHash.compute(root);
+            addSubtrees(root, buckets);
+        }
+
+        List<List<Node>> exactGroups = new ArrayList<>();
+        List<List<List<Node>>> renamedGroups = new ArrayList<>();
+        Set<Node> exactClones = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Node> renamedClones = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<Node> bucket : buckets.values()) {
+            if (bucket.size() < 2) {
+                continue;
+            }
+            renamedClones.addAll(bucket);
+            Map<Long, List<Node>> variants = new LinkedHashMap<>();
+            for (Node node : bucket) {
+                variants.computeIfAbsent(node.getStructuralHash(), hash -> new ArrayList<>()).add(node);
+            }
+            for (List<Node> variant : variants.values()) {
+                if (variant.size() > 1) {
+                    exactGroups.add(variant);
+                    exactClones.addAll(variant);
+                }
+            }
+            if (variants.size() > 1) {
+                renamedGroups.add(new ArrayList<>(variants.values()));
+            }
+        }
+
+        List<SubtreeCloneClass> cloneClasses = new ArrayList<>();
+        for (List<Node> group : exactGroups) {
+            if (!isPartOfLargerClone(group, exactClones)) {
+                cloneClasses.add(new SubtreeCloneClass(CloneType.TYPE_1, Collections.singletonList(group)));
+            }
+        }
+        for (List<List<Node>> variants : renamedGroups) {
+            List<Node> nodes = new ArrayList<>();
+            variants.forEach(nodes::addAll);
+            if (!isPartOfLargerClone(nodes, renamedClones)) {
+                cloneClasses.add(new SubtreeCloneClass(CloneType.TYPE_2, variants));
+            }
+        }
+        return cloneClasses;
+    }
+
+    /**
+     * Puts all large enough subtrees below (and including) node in their bucket.
+     *
+     * @return the number of nodes in the subtree.
+     */
+    private int addSubtrees(Node node, Map<Long, List<Node>> buckets) {
+        int size = 1;
+        for (Node child : node.getChildrenNodes()) {
+            if (!(child instanceof Comment)) {
+                size += addSubtrees(child, buckets);
+            }
+        }
+        if (size >= minimumNodes) {
+            buckets.computeIfAbsent(node.getNormalizedStructuralHash(), hash -> new ArrayList<>()).add(node);
+        }
+        return size;
+    }
+
+    private static boolean isPartOfLargerClone(List<Node> nodes, Set<Node> clones) {
+        for (Node node : nodes) {
+            if (node.getParentNode() == null || !clones.contains(node.getParentNode())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ast.Node;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * Two AST subtrees that are near-miss clones of each other.
+ */
+public class SubtreeClonePair {
+    private final Node first;
+    private final Node second;
+    private final double similarity;
+
+    SubtreeClonePair(Node first, Node second, double similarity) {
+        this.first = assertNotNull(first);
+        this.second = assertNotNull(second);
+        this.similarity = similarity;
+    }
+
+    public Node getFirst() {
+        return first;
+    }
+
+    public Node getSecond() {
+        return second;
+    }
+
+    /**
+     * @return the similarity of the characteristic vectors of both subtrees.
+     */
+    public double getSimilarity() {
+        return similarity;
+    }
+
+    @Override
+    public String toString() {
+        return CloneType.TYPE_3 + ": " + first.getRange() + " <-> " + second.getRange();
+    }
+}
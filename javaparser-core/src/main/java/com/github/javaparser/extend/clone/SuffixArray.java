@@ -0,0 +1,118 @@
+package com.github.javaparser.extend.clone;
+
+import java.util.Arrays;
+
+/**
+ * Suffix array and LCP array construction over int sequences.
+ */
+final class SuffixArray {
+    private SuffixArray() {
+    }
+
+    /**
+     * Sorts the suffixes of the text by prefix doubling, with a radix sort per round: O(n log n).
+     *
+     * @param text every value must be in [0, alphabetSize).
+     * @return the start positions of the suffixes of text, in lexicographic order.
+     */
+    static int[] build(int[] text, int alphabetSize) {
+        int n = text.length;
+        int[] suffixes = new int[n];
+        if (n == 0) {
+            return suffixes;
+        }
+        int[] rank = new int[n];
+        int[] other = new int[n];
+        int[] counts = new int[Math.max(alphabetSize, n) + 1];
+
+        for (int value : text) {
+            counts[value]++;
+        }
+        for (int i = 1; i < alphabetSize; i++) {
+            counts[i] += counts[i - 1];
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            suffixes[--counts[text[i]]] = i;
+        }
+        int classes = 1;
+        rank[suffixes[0]] = 0;
+        for (int i = 1; i < n; i++) {
+            if (text[suffixes[i]] != text[suffixes[i - 1]]) {
+                classes++;
+            }
+            rank[suffixes[i]] = classes - 1;
+        }
+
+        for (int k = 1; classes < n; k <<= 1) {
+            // order by the rank of the second half: suffixes without one come first
+            int p = 0;
+            for (int i = n - k; i < n; i++) {
+                other[p++] = i;
+            }
+            for (int suffix : suffixes) {
+                if (suffix >= k) {
+                    other[p++] = suffix - k;
+                }
+            }
+            // stable counting sort by the rank of the first half
+            Arrays.fill(counts, 0, classes, 0);
+            for (int i = 0; i < n; i++) {
+                counts[rank[i]]++;
+            }
+            for (int i = 1; i < classes; i++) {
+                counts[i] += counts[i - 1];
+            }
+            for (int i = n - 1; i >= 0; i--) {
+                suffixes[--counts[rank[other[i]]]] = other[i];
+            }
+
+            other[suffixes[0]] = 0;
+            classes = 1;
+            for (int i = 1; i < n; i++) {
+                int current = suffixes[i];
+                int previous = suffixes[i - 1];
+                boolean same = rank[current] == rank[previous]
+                        && (current + k < n ? rank[current + k] : -1) == (previous + k < n ? rank[previous + k] : -1);
+                if (!same) {
+                    classes++;
+                }
+                other[current] = classes - 1;
+            }
+            int[] swap = rank;
+            rank = other;
+            other = swap;
+        }
+        return suffixes;
+    }
+
+    /**
+     * Kasai's algorithm: O(n).
+     *
+     * @return for every index i > 0, the length of the common prefix of the suffixes at suffixes[i - 1] and
+     * suffixes[i]. Index 0 is 0.
+     */
+    static int[] longestCommonPrefixes(int[] text, int[] suffixes) {
+        int n = text.length;
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            rank[suffixes[i]] = i;
+        }
+        int[] lcp = new int[n];
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            if (rank[i] > 0) {
+                int previous = suffixes[rank[i] - 1];
+                while (i + length < n && previous + length < n && text[i + length] == text[previous + length]) {
+                    length++;
+                }
+                lcp[rank[i]] = length;
+                if (length > 0) {
+                    length--;
+                }
+            } else {
+                length = 0;
+            }
+        }
+        return lcp;
+    }
+}
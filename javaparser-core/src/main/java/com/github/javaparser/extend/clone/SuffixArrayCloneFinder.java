@@ -0,0 +1,235 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ASTParserConstants;
+import com.github.javaparser.Range;
+import com.github.javaparser.Token;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * Finds maximal runs of tokens that occur more than once, in the style of CCFinder.
+ * <p>
+ * The normalized tokens of all files are concatenated, with a unique separator after every file, and a suffix array
+ * with its LCP array is built over them. Suffixes that share a prefix of at least
+ * {@link CloneConfiguration#minimumTokens} tokens end up next to each other, so the clone pairs can be read off the
+ * arrays. Since runs are not limited to methods, this also finds cloned statement blocks within larger methods and
+ * cloned field initializers.
+ * <p>
+ * A pair is only reported when it can not be extended to the left or to the right,
+ * and a run that overlaps its own copy is cut short where the copy starts.
+ */
+public class SuffixArrayCloneFinder {
+    private final CloneConfiguration configuration;
+    private final List<String> paths = new ArrayList<>();
+    /**
+     * Index in the text of the first token of every file.
+     */
+    private int[] fileStarts = new int[16];
+    private int[] text = new int[1024];
+    /**
+     * Begin line, begin column, end line and end column of every token.
+     */
+    private int[] positions = new int[4096];
+    private int length = 0;
+
+    public SuffixArrayCloneFinder(CloneConfiguration configuration) {
+        this.configuration = assertNotNull(configuration);
+    }
+
+    /**
+     * Adds the tokens of a file, like the ones in {@link com.github.javaparser.ParseResult#getTokens()}.
+     */
+    public void add(String path, List<Token> tokens) {
+        if (paths.size() == fileStarts.length) {
+            fileStarts = Arrays.copyOf(fileStarts, fileStarts.length * 2);
+        }
+        fileStarts[paths.size()] = length;
+        paths.add(path);
+        for (Token token : tokens) {
+            if (token.kind != ASTParserConstants.EOF) {
+                append(NormalizedTokenStream.normalize(token.kind), token);
+            }
+        }
+        // the separator is only used as a value, its position is never reported
+        append(NormalizedTokenStream.CODE_COUNT + paths.size() - 1, null);
+    }
+
+    private void append(int code, Token token) {
+        if (length == text.length) {
+            text = Arrays.copyOf(text, length * 2);
+            positions = Arrays.copyOf(positions, length * 8);
+        }
+        text[length] = code;
+        if (token != null) {
+            positions[length * 4] = token.beginLine;
+            positions[length * 4 + 1] = token.beginColumn;
+            positions[length * 4 + 2] = token.endLine;
+            positions[length * 4 + 3] = token.endColumn;
+        }
+        length++;
+    }
+
+    /**
+     * @return all maximal clone pairs of at least {@link CloneConfiguration#minimumTokens} tokens.
+     */
+    public List<TokenClonePair> findClonePairs() {
+        int minimum = Math.max(1, configuration.minimumTokens);
+        int[] tokens = Arrays.copyOf(text, length);
+        int[] suffixes = SuffixArray.build(tokens, NormalizedTokenStream.CODE_COUNT + paths.size());
+        int[] lcp = SuffixArray.longestCommonPrefixes(tokens, suffixes);
+
+        // Walks the tree of LCP intervals bottom up. Two suffixes have the LCP of the smallest interval they are both
+        // in, and meet there for the first time when the child intervals are merged.
+        // Only suffixes with different preceding tokens are paired, so a pair that can be extended to the left is not
+        // even looked at: the work is linear in the number of pairs, not quadratic in the size of the intervals.
+        List<TokenClonePair> pairs = new ArrayList<>();
+        Deque<Interval> stack = new ArrayDeque<>();
+        stack.push(new Interval(0, null));
+        Occurrences pending = null;
+        for (int i = 0; i <= length; i++) {
+            int common = 0 < i && i < length ? lcp[i] : 0;
+            if (pending != null) {
+                while (stack.peek().lcp > common) {
+                    Interval closed = stack.pop();
+                    pending = merge(closed.occurrences, pending, closed.lcp, tokens, pairs);
+                }
+                Interval top = stack.peek();
+                if (top.lcp < common) {
+                    stack.push(new Interval(common, common >= minimum ? pending : null));
+                } else if (top.lcp >= minimum) {
+                    top.occurrences = merge(top.occurrences, pending, top.lcp, tokens, pairs);
+                }
+            }
+            pending = i < length ? new Occurrences(suffixes[i], precedingToken(tokens, suffixes[i])) : null;
+        }
+        return pairs;
+    }
+
+    private static int precedingToken(int[] tokens, int position) {
+        return position > 0 ? tokens[position - 1] : -1;
+    }
+
+    /**
+     * Pairs the occurrences of one child interval with the ones of the children before it,
+     * and merges the smaller set into the larger one.
+     */
+    private Occurrences merge(Occurrences into, Occurrences from, int common, int[] tokens, List<TokenClonePair> pairs) {
+        if (into == null) {
+            return from;
+        }
+        if (into.size < from.size) {
+            Occurrences swap = into;
+            into = from;
+            from = swap;
+        }
+        int minimum = Math.max(1, configuration.minimumTokens);
+        for (Map.Entry<Integer, Positions> entry : from.byPrecedingToken.entrySet()) {
+            Positions positions = entry.getValue();
+            for (Map.Entry<Integer, Positions> other : into.byPrecedingToken.entrySet()) {
+                if (other.getKey().equals(entry.getKey())) {
+                    continue;
+                }
+                Positions otherPositions = other.getValue();
+                for (int p = 0; p < positions.size; p++) {
+                    for (int q = 0; q < otherPositions.size; q++) {
+                        add(positions.values[p], otherPositions.values[q], common, minimum, pairs);
+                    }
+                }
+            }
+        }
+        for (Map.Entry<Integer, Positions> entry : from.byPrecedingToken.entrySet()) {
+            into.byPrecedingToken.computeIfAbsent(entry.getKey(), k -> new Positions()).addAll(entry.getValue());
+        }
+        into.size += from.size;
+        return into;
+    }
+
+    /**
+     * Adds a pair that can not be extended to the left, as the tokens before it differ,
+     * nor to the right, as common is the length of the common prefix.
+     */
+    private void add(int first, int second, int common, int minimum, List<TokenClonePair> pairs) {
+        if (first > second) {
+            int swap = first;
+            first = second;
+            second = swap;
+        }
+        int firstFile = fileOf(first);
+        int secondFile = fileOf(second);
+        if (firstFile == secondFile && first + common > second) {
+            common = second - first;
+        }
+        if (common < minimum) {
+            return;
+        }
+        pairs.add(new TokenClonePair(paths.get(firstFile), rangeOf(first, common), paths.get(secondFile),
+                rangeOf(second, common), common));
+    }
+
+    private int fileOf(int position) {
+        // every file has at least its separator, so the starts are distinct
+        int index = Arrays.binarySearch(fileStarts, 0, paths.size(), position);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private Range rangeOf(int start, int tokens) {
+        int end = start + tokens - 1;
+        return Range.range(positions[start * 4], positions[start * 4 + 1], positions[end * 4 + 2], positions[end * 4 + 3]);
+    }
+
+    /**
+     * An LCP interval on the stack, with the occurrences of the children that were closed so far,
+     * or null if the interval is too short to hold clones.
+     */
+    private static final class Interval {
+        final int lcp;
+        Occurrences occurrences;
+
+        Interval(int lcp, Occurrences occurrences) {
+            this.lcp = lcp;
+            this.occurrences = occurrences;
+        }
+    }
+
+    /**
+     * The start positions of the suffixes in an LCP interval, by the token that precedes them.
+     */
+    private static final class Occurrences {
+        final Map<Integer, Positions> byPrecedingToken = new HashMap<>();
+        int size = 1;
+
+        Occurrences(int position, int precedingToken) {
+            Positions positions = new Positions();
+            positions.add(position);
+            byPrecedingToken.put(precedingToken, positions);
+        }
+    }
+
+    private static final class Positions {
+        int[] values = new int[2];
+        int size = 0;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(Positions other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(size + other.size, values.length * 2));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ASTParserConstants;
+import com.github.javaparser.ast.MethodRepresentation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * Finds methods that share most of their tokens, in the style of SourcererCC.
+ * <p>
+ * Every method is turned into a bag of tokens: its identifiers, keywords and literals, without operators and
+ * separators. Two bags are clones when they share at least {@link CloneConfiguration#minimumOverlap} of the tokens of
+ * the larger bag. To avoid comparing all pairs:
+ * <ul>
+ * <li>the tokens of every bag are sorted by their global frequency, rarest first,</li>
+ * <li>only the first tokens of every bag (the prefix) go into an inverted index; two bags that overlap enough must
+ * share a token in their prefixes,</li>
+ * <li>bags are processed from small to large, and only bags that are large enough are taken from the index,</li>
+ * <li>a candidate is dropped as soon as the tokens left in both bags can not make up the required overlap.</li>
+ * </ul>
+ * Only the remaining candidates are verified by merging both bags.
+ */
+public class TokenBagIndex {
+    public interface PairConsumer {
+        void accept(MethodRepresentation first, MethodRepresentation second, double overlap);
+    }
+
+    private final CloneConfiguration configuration;
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private int[] termFrequencies = new int[1024];
+    private final List<MethodRepresentation> methods = new ArrayList<>();
+    private final List<int[]> bags = new ArrayList<>();
+
+    public TokenBagIndex(CloneConfiguration configuration) {
+        this.configuration = assertNotNull(configuration);
+    }
+
+    /**
+     * Adds a method to the index.
+     *
+     * @return false if the method is too small to be indexed.
+     */
+    public boolean add(MethodRepresentation method) {
+        NormalizedTokenStream tokens = CloneIndex.tokensOf(method);
+        if (tokens.size() < configuration.minimumTokens) {
+            return false;
+        }
+        int[] bag = new int[tokens.size()];
+        int size = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            if (isTerm(tokens.codeAt(i))) {
+                int term = termIds.computeIfAbsent(tokens.imageAt(i), id -> termIds.size());
+                if (term == termFrequencies.length) {
+                    termFrequencies = Arrays.copyOf(termFrequencies, term * 2);
+                }
+                termFrequencies[term]++;
+                bag[size++] = term;
+            }
+        }
+        methods.add(method);
+        bags.add(Arrays.copyOf(bag, size));
+        return true;
+    }
+
+    public int size() {
+        return methods.size();
+    }
+
+    /**
+     * @return whether a token with this {@link NormalizedTokenStream normalized code} goes into the bag: identifiers,
+     * literals, types and keywords do, operators and separators do not.
+     */
+    static boolean isTerm(int code) {
+        return code == NormalizedTokenStream.IDENTIFIER || code == NormalizedTokenStream.LITERAL
+                || code == NormalizedTokenStream.TYPE
+                || (code >= ASTParserConstants.ABSTRACT && code <= ASTParserConstants.WHILE);
+    }
+
+    /**
+     * Passes every pair of methods that share enough tokens to the consumer, once, smallest bag first.
+     */
+    public void forEachSimilarPair(PairConsumer consumer) {
+        double threshold = configuration.minimumOverlap;
+        int[][] sorted = sortBags();
+        // process from small to large, so every candidate taken from the index is at most as large as the query
+        Integer[] order = new Integer[sorted.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> sorted[a].length != sorted[b].length ? sorted[a].length - sorted[b].length : a - b);
+
+        PostingLists postings = new PostingLists(termIds.size());
+        int[] matches = new int[sorted.length];
+        int[] touched = new int[sorted.length];
+        for (int query : order) {
+            int[] bag = sorted[query];
+            int prefix = Math.min(prefixLength(bag.length, threshold), bag.length);
+            int minimumSize = (int) Math.ceil(threshold * bag.length);
+            int touchedCount = 0;
+            for (int i = 0; i < prefix; i++) {
+                int term = bag[i];
+                int[] entries = postings.entries(term);
+                for (int p = 0; p < postings.size(term); p++) {
+                    int candidate = entries[p * 2];
+                    int[] candidateBag = sorted[candidate];
+                    if (candidateBag.length < minimumSize || matches[candidate] < 0) {
+                        continue;
+                    }
+                    if (matches[candidate] == 0) {
+                        touched[touchedCount++] = candidate;
+                    }
+                    int position = entries[p * 2 + 1];
+                    int required = requiredOverlap(bag.length, candidateBag.length, threshold);
+                    int reachable = matches[candidate] + 1 + Math.min(bag.length - i - 1, candidateBag.length - position - 1);
+                    // a negative count marks a candidate that can no longer make it
+                    matches[candidate] = reachable < required ? -1 : matches[candidate] + 1;
+                }
+            }
+            for (int t = 0; t < touchedCount; t++) {
+                int candidate = touched[t];
+                if (matches[candidate] > 0) {
+                    int overlap = overlap(sorted[candidate], bag);
+                    if (overlap >= requiredOverlap(bag.length, sorted[candidate].length, threshold)) {
+                        consumer.accept(methods.get(candidate), methods.get(query), (double) overlap / bag.length);
+                    }
+                }
+                matches[candidate] = 0;
+            }
+            for (int i = 0; i < prefix; i++) {
+                postings.add(bag[i], query, i);
+            }
+        }
+    }
+
+    /**
+     * @return the bags with their terms replaced by their rank in the global frequency order, sorted.
+     */
+    private int[][] sortBags() {
+        Integer[] terms = new Integer[termIds.size()];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = i;
+        }
+        Arrays.sort(terms, (a, b) -> termFrequencies[a] != termFrequencies[b] ? termFrequencies[a] - termFrequencies[b] : a - b);
+        int[] ranks = new int[terms.length];
+        for (int rank = 0; rank < terms.length; rank++) {
+            ranks[terms[rank]] = rank;
+        }
+        int[][] sorted = new int[bags.size()][];
+        for (int i = 0; i < sorted.length; i++) {
+            int[] bag = bags.get(i);
+            sorted[i] = new int[bag.length];
+            for (int j = 0; j < bag.length; j++) {
+                sorted[i][j] = ranks[bag[j]];
+            }
+            Arrays.sort(sorted[i]);
+        }
+        return sorted;
+    }
+
+    private static int prefixLength(int size, double threshold) {
+        return size - (int) Math.ceil(threshold * size) + 1;
+    }
+
+    private static int requiredOverlap(int size, int otherSize, double threshold) {
+        return (int) Math.ceil(threshold * Math.max(size, otherSize));
+    }
+
+    /**
+     * @return the number of terms two sorted bags have in common, counting duplicates.
+     */
+    private static int overlap(int[] first, int[] second) {
+        int overlap = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] == second[j]) {
+                overlap++;
+                i++;
+                j++;
+            } else if (first[i] < second[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return overlap;
+    }
+
+    /**
+     * The inverted index: for every term, the bags that have it in their prefix and where.
+     * Entries are kept in growable int arrays per term, two ints per entry.
+     */
+    private static final class PostingLists {
+        private final int[][] entries;
+        private final int[] sizes;
+
+        PostingLists(int terms) {
+            entries = new int[terms][];
+            sizes = new int[terms];
+        }
+
+        void add(int term, int bag, int position) {
+            if (entries[term] == null) {
+                entries[term] = new int[4];
+            } else if (sizes[term] * 2 == entries[term].length) {
+                entries[term] = Arrays.copyOf(entries[term], entries[term].length * 2);
+            }
+            entries[term][sizes[term] * 2] = bag;
+            entries[term][sizes[term] * 2 + 1] = position;
+            sizes[term]++;
+        }
+
+        int[] entries(int term) {
+            return entries[term];
+        }
+
+        int size(int term) {
+            return sizes[term];
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.Range;
+
+import static com.github.javaparser.utils.Utils.assertNotNull;
+
+/**
+ * Two runs of tokens that are equal after normalization, anywhere in the corpus.
+ */
+public class TokenClonePair {
+    private final String firstPath;
+    private final Range firstRange;
+    private final String secondPath;
+    private final Range secondRange;
+    private final int length;
+
+    TokenClonePair(String firstPath, Range firstRange, String secondPath, Range secondRange, int length) {
+        this.firstPath = assertNotNull(firstPath);
+        this.firstRange = assertNotNull(firstRange);
+        this.secondPath = assertNotNull(secondPath);
+        this.secondRange = assertNotNull(secondRange);
+        this.length = length;
+    }
+
+    public String getFirstPath() {
+        return firstPath;
+    }
+
+    public Range getFirstRange() {
+        return firstRange;
+    }
+
+    public String getSecondPath() {
+        return secondPath;
+    }
+
+    public Range getSecondRange() {
+        return secondRange;
+    }
+
+    /**
+     * @return the number of tokens in each run.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        return firstPath + " " + firstRange + " <-> " + secondPath + " " + secondRange + " (" + length + " tokens)";
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.javaparser.extend.clone;
+
+import java.util.Arrays;
+
+/**
+ * An immutable sequence of token codes that can be used as a hash key.
+ * The hash code is computed once, so bucketing a method costs a single pass over its tokens.
+ */
+final class TokenSequence {
+    private final int[] codes;
+    private final int hash;
+
+    TokenSequence(int[] codes) {
+        this.codes = codes;
+        this.hash = Arrays.hashCode(codes);
+    }
+
+    int size() {
+        return codes.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TokenSequence that = (TokenSequence) o;
+        return hash == that.hash && Arrays.equals(codes, that.codes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(codes);
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.javaparser.extend.clone;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * A locality-sensitive hash index over characteristic vectors, in the style of Deckard.
+ * <p>
+ * Vectors are hashed with random projections (p-stable LSH for euclidean distance), so vectors that are close together
+ * are likely to share a bucket in at least one of the hash tables. Only vectors that share a bucket are compared,
+ * instead of all pairs.
+ * Because the allowed distance between two similar vectors grows with their size, vectors are first partitioned into
+ * groups of similar size, each with its own bucket width. Every vector is put in its own group and in the next one,
+ * so two vectors that are similar enough always meet in at least one group.
+ *
+ * @param <T> the items the vectors were computed for.
+ */
+class VectorIndex<T> {
+    /**
+     * Bucket width relative to the largest distance between similar vectors in a group.
+     * Wide buckets make it likely that a similar pair collides on every projection of a table.
+     */
+    private static final double WIDTH_FACTOR = 4;
+
+    interface PairConsumer<T> {
+        void accept(T first, T second, double similarity);
+    }
+
+    private final CloneConfiguration configuration;
+    private final List<T> items = new ArrayList<>();
+    private final List<CharacteristicVector> vectors = new ArrayList<>();
+
+    VectorIndex(CloneConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    void add(T item, CharacteristicVector vector) {
+        items.add(item);
+        vectors.add(vector);
+    }
+
+    int size() {
+        return items.size();
+    }
+
+    /**
+     * Passes every pair of items with at least the configured similarity to the consumer, in the order they were
+     * added.
+     */
+    void forEachSimilarPair(PairConsumer<T> consumer) {
+        double minimumSimilarity = configuration.minimumSimilarity;
+        // sizes of similar vectors differ at most by this factor
+        double ratio = minimumSimilarity >= 1 ? 1 : (2 - minimumSimilarity) / minimumSimilarity;
+        Map<Integer, List<Integer>> groups = new HashMap<>();
+        for (int i = 0; i < vectors.size(); i++) {
+            int group = groupOf(vectors.get(i).size(), ratio);
+            groups.computeIfAbsent(group, g -> new ArrayList<>()).add(i);
+            groups.computeIfAbsent(group + 1, g -> new ArrayList<>()).add(i);
+        }
+
+        Set<Long> candidates = new HashSet<>();
+        Random random = new Random(configuration.randomSeed);
+        double[][] directions = new double[configuration.hashTables * configuration.projectionsPerTable][];
+        double[] offsets = new double[directions.length];
+        for (int p = 0; p < directions.length; p++) {
+            directions[p] = new double[CharacteristicVector.KINDS.size()];
+            for (int d = 0; d < directions[p].length; d++) {
+                directions[p][d] = random.nextGaussian();
+            }
+            offsets[p] = random.nextDouble();
+        }
+        for (Map.Entry<Integer, List<Integer>> group : groups.entrySet()) {
+            if (group.getValue().size() < 2) {
+                continue;
+            }
+            double largestSize = Math.pow(ratio, group.getKey());
+            double width = Math.max(1, WIDTH_FACTOR * 2 * (1 - minimumSimilarity) * largestSize);
+            for (int table = 0; table < configuration.hashTables; table++) {
+                Map<Long, List<Integer>> buckets = new HashMap<>();
+                for (int i : group.getValue()) {
+                    long key = 1;
+                    for (int p = table * configuration.projectionsPerTable; p < (table + 1) * configuration.projectionsPerTable; p++) {
+                        key = key * 31 + (long) Math.floor(vectors.get(i).dot(directions[p]) / width + offsets[p]);
+                    }
+                    buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+                }
+                for (List<Integer> bucket : buckets.values()) {
+                    for (int a = 0; a < bucket.size(); a++) {
+                        for (int b = a + 1; b < bucket.size(); b++) {
+                            int first = Math.min(bucket.get(a), bucket.get(b));
+                            int second = Math.max(bucket.get(a), bucket.get(b));
+                            candidates.add(((long) first << 32) | second);
+                        }
+                    }
+                }
+            }
+        }
+
+        long[] sortedCandidates = new long[candidates.size()];
+        int c = 0;
+        for (long candidate : candidates) {
+            sortedCandidates[c++] = candidate;
+        }
+        Arrays.sort(sortedCandidates);
+        for (long candidate : sortedCandidates) {
+            int first = (int) (candidate >>> 32);
+            int second = (int) candidate;
+            double similarity = vectors.get(first).similarity(vectors.get(second));
+            if (similarity >= minimumSimilarity) {
+                consumer.accept(items.get(first), items.get(second), similarity);
+            }
+        }
+    }
+
+    /**
+     * Vectors with a size between ratio^(group - 1) and ratio^group are in a group.
+     */
+    private static int groupOf(int size, double ratio) {
+        if (ratio <= 1) {
+            return size;
+        }
+        return (int) Math.ceil(Math.log(Math.max(size, 1)) / Math.log(ratio));
+    }
+}
@@ -0,0 +1,197 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ASTParserConstants;
+import com.github.javaparser.Range;
+import com.github.javaparser.Token;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The winnowed k-gram fingerprints of a file or method, as used by MOSS.
+ * <p>
+ * Every run of {@link CloneConfiguration#shingleSize} normalized tokens is hashed, and out of every window of
+ * {@link CloneConfiguration#winnowingWindow} consecutive hashes the smallest one is kept.
+ * This guarantees that any match of at least shingleSize + winnowingWindow - 1 tokens shares a fingerprint,
+ * while only keeping about 2 / (winnowingWindow + 1) of the hashes.
+ * Every fingerprint remembers the range of the tokens it was computed from.
+ */
+public final class WinnowedFingerprints {
+    private final int[] hashes;
+    /**
+     * Begin line, begin column, end line and end column of every fingerprint.
+     */
+    private final int[] ranges;
+
+    private WinnowedFingerprints(int[] hashes, int[] ranges) {
+        this.hashes = hashes;
+        this.ranges = ranges;
+    }
+
+    /**
+     * Fingerprints all tokens of a file, like the ones in {@link com.github.javaparser.ParseResult#getTokens()}.
+     */
+    public static WinnowedFingerprints of(List<Token> tokens, CloneConfiguration configuration) {
+        return of(tokens, 0, tokens.size(), configuration);
+    }
+
+    /**
+     * Fingerprints the tokens within a range of a file, usually the range of a method.
+     */
+    public static WinnowedFingerprints of(List<Token> tokens, Range range, CloneConfiguration configuration) {
+        int from = NormalizedTokenStream.firstTokenAtOrAfter(tokens, range.begin);
+        int to = from;
+        while (to < tokens.size() && !NormalizedTokenStream.isAfter(tokens.get(to), range.end)) {
+            to++;
+        }
+        return of(tokens, from, to, configuration);
+    }
+
+    private static WinnowedFingerprints of(List<Token> tokens, int from, int to, CloneConfiguration configuration) {
+        List<Token> slice = new ArrayList<>(to - from);
+        for (Token token : tokens.subList(from, to)) {
+            if (token.kind != ASTParserConstants.EOF) {
+                slice.add(token);
+            }
+        }
+        int[] codes = new int[slice.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = NormalizedTokenStream.normalize(slice.get(i).kind);
+        }
+        int k = Math.max(1, configuration.shingleSize);
+        int[] kGrams = hashKGrams(codes, k);
+        int[] selected = winnow(kGrams, configuration.winnowingWindow);
+
+        int[] hashes = new int[selected.length];
+        int[] ranges = new int[selected.length * 4];
+        for (int i = 0; i < selected.length; i++) {
+            int position = selected[i];
+            hashes[i] = kGrams[position];
+            Token first = slice.get(position);
+            Token last = slice.get(Math.min(position + k, slice.size()) - 1);
+            ranges[i * 4] = first.beginLine;
+            ranges[i * 4 + 1] = first.beginColumn;
+            ranges[i * 4 + 2] = last.endLine;
+            ranges[i * 4 + 3] = last.endColumn;
+        }
+        return new WinnowedFingerprints(hashes, ranges);
+    }
+
+    /**
+     * @return the winnowed fingerprints of a normalized token stream, without their ranges.
+     */
+    static int[] hashesOf(NormalizedTokenStream tokens, CloneConfiguration configuration) {
+        int[] kGrams = hashKGrams(tokens.codes(), Math.max(1, configuration.shingleSize));
+        int[] selected = winnow(kGrams, configuration.winnowingWindow);
+        int[] hashes = new int[selected.length];
+        for (int i = 0; i < selected.length; i++) {
+            hashes[i] = kGrams[selected[i]];
+        }
+        return hashes;
+    }
+
+    /**
+     * @return the positions of the rightmost minimum of every window of w k-grams, each position once.
+     */
+    private static int[] winnow(int[] kGrams, int w) {
+        w = Math.max(1, w);
+        int[] selected = new int[kGrams.length];
+        int count = 0;
+        if (kGrams.length > 0 && kGrams.length <= w) {
+            selected[count++] = rightmostMinimum(kGrams, 0, kGrams.length);
+        }
+        int minimum = -1;
+        for (int end = w - 1; end < kGrams.length && kGrams.length > w; end++) {
+            int start = end - w + 1;
+            if (minimum < start) {
+                minimum = rightmostMinimum(kGrams, start, end + 1);
+                selected[count++] = minimum;
+            } else if (kGrams[end] <= kGrams[minimum]) {
+                minimum = end;
+                selected[count++] = minimum;
+            }
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    /**
+     * Rolling hashes of every k consecutive codes. Fewer than k codes make a single k-gram.
+     */
+    private static int[] hashKGrams(int[] codes, int k) {
+        if (codes.length == 0) {
+            return new int[0];
+        }
+        k = Math.min(k, codes.length);
+        int base = 31;
+        int highest = 1;
+        for (int i = 1; i < k; i++) {
+            highest *= base;
+        }
+        int[] kGrams = new int[codes.length - k + 1];
+        int rolling = 0;
+        for (int i = 0; i < codes.length; i++) {
+            if (i >= k) {
+                rolling -= codes[i - k] * highest;
+            }
+            rolling = rolling * base + codes[i];
+            if (i >= k - 1) {
+                kGrams[i - k + 1] = mix(rolling);
+            }
+        }
+        return kGrams;
+    }
+
+    private static int rightmostMinimum(int[] values, int from, int to) {
+        int minimum = from;
+        for (int i = from + 1; i < to; i++) {
+            if (values[i] <= values[minimum]) {
+                minimum = i;
+            }
+        }
+        return minimum;
+    }
+
+    /**
+     * The finalizer of 32 bit MurmurHash3, so the minimum of a window is not biased towards some tokens.
+     */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    public int size() {
+        return hashes.length;
+    }
+
+    public int hashAt(int index) {
+        return hashes[index];
+    }
+
+    public Range rangeAt(int index) {
+        return Range.range(ranges[index * 4], ranges[index * 4 + 1], ranges[index * 4 + 2], ranges[index * 4 + 3]);
+    }
+
+    /**
+     * @return the ranges of the fingerprints that also occur in the other fingerprints, in order.
+     */
+    public List<Range> rangesSharedWith(WinnowedFingerprints other) {
+        int[] otherHashes = other.hashes.clone();
+        Arrays.sort(otherHashes);
+        List<Range> shared = new ArrayList<>();
+        for (int i = 0; i < hashes.length; i++) {
+            if (Arrays.binarySearch(otherHashes, hashes[i]) >= 0) {
+                shared.add(rangeAt(i));
+            }
+        }
+        return shared;
+    }
+
+    int[] hashes() {
+        return hashes;
+    }
+}
@@ -23,6 +23,7 @@ package com.github.javaparser.utils;
 
 import static java.lang.Integer.signum;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -85,7 +86,9 @@ public final class PositionUtils {
 
     public static AnnotationExpr getLastAnnotation(Node node) {
         if (node instanceof NodeWithAnnotations){
-            NodeList<AnnotationExpr> annotations = NodeList.nodeList(((NodeWithAnnotations<?>) node).getAnnotations());
+            // a copy into a new NodeList would take the annotations away from their parent
+            List<AnnotationExpr> annotations = new ArrayList<>();
+            ((NodeWithAnnotations<?>) node).getAnnotations().forEach(annotations::add);
             if (annotations.isEmpty()){
                 return null;
             }
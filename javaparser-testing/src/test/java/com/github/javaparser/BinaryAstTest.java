@@ -0,0 +1,203 @@
+package com.github.javaparser;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeKind;
+import com.github.javaparser.ast.StructuralHash;
+import com.github.javaparser.ast.comments.Comment;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.github.javaparser.ParseStart.COMPILATION_UNIT;
+import static com.github.javaparser.Providers.provider;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BinaryAstTest {
+    private static final String MORE = "import static java.util.Collections.*;\n" +
+            "import java.util.*;;\n" +
+            "@interface A { int a() default 1; }\n" +
+            "interface C { default void c() { } }\n" +
+            "@SuppressWarnings(\"all\") @A(a = 2)\n" +
+            "class B<T extends Object & Comparable<T>> {\n" +
+            "    int[] a = new int[] {-2147483648}; long b = -9223372036854775808L; char c = '\\u00e9';\n" +
+            "    void m(String... args) throws Exception {\n" +
+            "        try (java.io.Reader r = null) { } catch (RuntimeException | Error e) { }\n" +
+            "        java.util.function.Function<Object, Object> f = x -> x; java.util.function.Supplier<Object> s = Object::new;\n" +
+            "        Object o = this.<String>m2(); o = B.super.hashCode(); o = (Object) null; Runnable l = () -> {};\n" +
+            "        label: for (int i = 0; i < 2; i++) { if (i > 0) break label; else continue; }\n" +
+            "        class Local {}\n" +
+            "        ;\n" +
+            "        /** orphan */\n" +
+            "    }\n" +
+            "    <X> X m2() { return null; }\n" +
+            "    // orphan\n" +
+            "    /* orphan */\n" +
+            "};\n";
+
+    @Test
+    public void treeSurvivesARoundTrip() throws Exception {
+        for (String source : new String[]{resource("com/github/javaparser/bdd/samples/JavaConcepts.java"), MORE}) {
+            CompilationUnit cu = JavaParser.parse(source);
+
+            ParseResult<CompilationUnit> read = BinaryAst.read(ByteBuffer.wrap(write(cu)));
+            CompilationUnit copy = read.getResult().get();
+
+            assertEquals(cu.toString(), copy.toString());
+            assertEquals(describe(cu), describe(copy));
+            assertEquals(shape(cu), shape(copy));
+            assertEquals(hashes(cu), hashes(copy));
+            assertEquals(cu.getAllContainedComments().size(), read.getCommentsCollection().get().size());
+            assertFalse(read.getTokens().isPresent());
+        }
+    }
+
+    @Test
+    public void commentsCanBeLeftOut() throws Exception {
+        ParseResult<CompilationUnit> result = new JavaParser().parse(COMPILATION_UNIT, provider(MORE));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAst.write(result, false, false, new DataOutputStream(bytes));
+
+        ParseResult<CompilationUnit> read = BinaryAst.read(ByteBuffer.wrap(bytes.toByteArray()));
+
+        CompilationUnit copy = read.getResult().get();
+        assertTrue(copy.getAllContainedComments().isEmpty());
+        assertFalse(read.getCommentsCollection().isPresent());
+        CompilationUnit cu = result.getResult().get();
+        cu.getAllContainedComments().forEach(Node::remove);
+        assertEquals(cu.toString(), copy.toString());
+    }
+
+    @Test
+    public void tokensAreKeptWhenAskedFor() throws Exception {
+        ParseResult<CompilationUnit> result = new JavaParser().parse(COMPILATION_UNIT, provider(MORE));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAst.write(result, true, true, new DataOutputStream(bytes));
+
+        List<Token> tokens = BinaryAst.read(ByteBuffer.wrap(bytes.toByteArray())).getTokens().get();
+
+        assertEquals(describeTokens(result.getTokens().get()), describeTokens(tokens));
+    }
+
+    @Test
+    public void unitsAreReadOneAfterTheOther() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        BinaryAst.write(JavaParser.parse("class A {}"), out);
+        BinaryAst.write(JavaParser.parse("class B {}"), out);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+
+        assertEquals("A", BinaryAst.read(buffer).getResult().get().getTypes().get(0).getName());
+        assertEquals("B", BinaryAst.read(buffer).getResult().get().getTypes().get(0).getName());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void formatIsSmallerThanTheSource() throws Exception {
+        String source = resource("com/github/javaparser/bdd/samples/JavaConcepts.java");
+
+        byte[] bytes = write(JavaParser.parse(source));
+
+        assertTrue(bytes.length + " bytes", bytes.length < source.length());
+    }
+
+    @Test
+    public void brokenInputIsRejected() throws Exception {
+        byte[] bytes = write(JavaParser.parse("class A { void m() {} }"));
+        assertRejected(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+        byte[] truncated = new byte[bytes.length - 3];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        assertRejected(truncated);
+        // a commented node without a kind
+        assertRejected(nodes(bytes, 0x80, 0, 0, 0));
+        // a package declaration with a statement as its name
+        assertRejected(nodes(bytes, NodeKind.COMPILATION_UNIT.ordinal() + 1, 0, 0, 0,
+                NodeKind.PACKAGE_DECLARATION.ordinal() + 1, 0, 0, 0, 0,
+                NodeKind.EMPTY_STMT.ordinal() + 1, 0, 0, 0));
+    }
+
+    /**
+     * @return the header of a binary AST followed by the bytes.
+     */
+    private static byte[] nodes(byte[] binaryAst, int... bytes) {
+        byte[] nodes = Arrays.copyOf(binaryAst, 9 + bytes.length);
+        for (int i = 0; i < bytes.length; i++) {
+            nodes[9 + i] = (byte) bytes[i];
+        }
+        return nodes;
+    }
+
+    private static void assertRejected(byte[] bytes) {
+        try {
+            BinaryAst.read(ByteBuffer.wrap(bytes));
+            fail();
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    private static byte[] write(CompilationUnit cu) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAst.write(cu, new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    /**
+     * The nodes with their ranges, parents and comments. Sorted, as the parser does not always add children in the
+     * order of the source.
+     */
+    private static List<String> describe(CompilationUnit cu) {
+        List<String> descriptions = new ArrayList<>();
+        for (Node node : cu.getNodesByType(Node.class)) {
+            descriptions.add(node.getKind() + " " + node.getRange() + " " + node.getParentNode().getKind()
+                    + node.getComment().map(Comment::getContent).orElse("")
+                    + node.getOrphanComments().stream().map(Comment::getContent).collect(Collectors.toList()));
+        }
+        Collections.sort(descriptions);
+        return descriptions;
+    }
+
+    /**
+     * The kinds of the nodes, nested like {@link Node#getChildrenNodes()}, in its order.
+     */
+    private static String shape(Node node) {
+        StringBuilder shape = new StringBuilder(node.getKind().name());
+        if (!node.getChildrenNodes().isEmpty()) {
+            shape.append(node.getChildrenNodes().stream().map(BinaryAstTest::shape).collect(Collectors.joining(" ", "(", ")")));
+        }
+        return shape.toString();
+    }
+
+    private static List<String> hashes(CompilationUnit cu) {
+        StructuralHash.compute(cu);
+        return cu.getNodesByType(Node.class).stream()
+                .map(node -> node.getStructuralHash() + " " + node.getNormalizedStructuralHash())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> describeTokens(List<Token> tokens) {
+        return tokens.stream().map(token -> token.kind + " " + token.image + " " + token.beginLine + ":" +
+                token.beginColumn + "-" + token.endLine + ":" + token.endColumn).collect(Collectors.toList());
+    }
+
+    private static String resource(String name) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                BinaryAstTest.class.getClassLoader().getResourceAsStream(name), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining("\n"));
+        }
+    }
+}
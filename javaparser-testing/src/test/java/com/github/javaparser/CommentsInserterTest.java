@@ -0,0 +1,187 @@
+package com.github.javaparser;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.comments.Comment;
+import com.github.javaparser.ast.comments.CommentsCollection;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static com.github.javaparser.ParseStart.COMPILATION_UNIT;
+import static com.github.javaparser.Providers.provider;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that comments are attributed exactly as the {@link LegacyCommentsInserter} did, for all configurations.
+ */
+public class CommentsInserterTest {
+    private static final String[] COMMENTS = {"/* block %N% */", "/** javadoc %N% */", "// line %N%"};
+
+    @Test
+    public void javaConceptsWithCommentsEverywhere() throws Exception {
+        String source = resource("com/github/javaparser/bdd/samples/JavaConcepts.java");
+        for (int seed = 0; seed < 5; seed++) {
+            assertSameAttribution(addComments(source, new Random(seed)));
+        }
+    }
+
+    @Test
+    public void generatedCode() {
+        for (int seed = 0; seed < 30; seed++) {
+            assertSameAttribution(generate(new Random(seed)));
+        }
+    }
+
+    @Test
+    public void edgeCases() {
+        assertSameAttribution("/* license */\npackage p;\n// orphan\nclass A {}\n");
+        assertSameAttribution("// only a comment\n");
+        assertSameAttribution("package p; /* after the package */\n");
+        assertSameAttribution("class A { int a; // a\n int b; /* b */ int c; // c\n\n // far away\n\n int d;\n /* last */ }");
+        assertSameAttribution("class A { @Deprecated // on the annotation\n void m() { } /* between */ @Override /* after */ public String toString() { return \"\"; } }");
+        assertSameAttribution("class A { void m() { int x = 1 + /* inside */ 2; foo(a, // argument\n b); } }");
+        assertSameAttribution("enum E { /* one */ ONE, // two\n TWO; /* after */ }");
+    }
+
+    @Test
+    public void equalCommentsAreAllKept() {
+        CompilationUnit compilationUnit = JavaParser.parse("class A {\n /* same */\n\n /* same */\n\n int a; }");
+
+        assertEquals(2, compilationUnit.getTypes().get(0).getOrphanComments().size());
+    }
+
+    /**
+     * The legacy inserter lost comments that were equal to an attributed one, so every comment is made unique first.
+     */
+    private static void assertSameAttribution(String source) {
+        StringBuilder numbered = new StringBuilder(source);
+        int number = 0;
+        for (int i = numbered.indexOf("%N%"); i >= 0; i = numbered.indexOf("%N%", i)) {
+            numbered.replace(i, i + 3, Integer.toString(number++));
+        }
+        source = numbered.toString();
+        for (int options = 0; options < 4; options++) {
+            ParserConfiguration configuration = new ParserConfiguration();
+            configuration.doNotAssignCommentsPrecedingEmptyLines = (options & 1) != 0;
+            configuration.doNotConsiderAnnotationsAsNodeStartForCodeAttribution = (options & 2) != 0;
+            configuration.attributeComments = false;
+
+            ParseResult<CompilationUnit> expected = new JavaParser(configuration).parse(COMPILATION_UNIT, provider(source));
+            ParseResult<CompilationUnit> actual = new JavaParser(configuration).parse(COMPILATION_UNIT, provider(source));
+            assertTrue(source, expected.isSuccessful());
+
+            new LegacyCommentsInserter(configuration).insertComments(expected.getResult().get(), expected.getCommentsCollection().get().copy().getComments());
+            CommentsCollection comments = actual.getCommentsCollection().get();
+            new CommentsInserter(configuration).insertComments(actual.getResult().get(), comments.getComments());
+
+            assertSameComments(source, expected.getResult().get(), actual.getResult().get());
+        }
+    }
+
+    private static void assertSameComments(String source, Node expected, Node actual) {
+        assertEquals(source, expected.getClass(), actual.getClass());
+        assertEquals(source, expected.getRange(), actual.getRange());
+        assertEquals(source + " at " + expected.getRange(), describe(expected.getComment().orElse(null)), describe(actual.getComment().orElse(null)));
+        assertEquals(source + " at " + expected.getRange(), describe(expected.getOrphanComments()), describe(actual.getOrphanComments()));
+        List<Node> expectedChildren = expected.getChildrenNodes();
+        List<Node> actualChildren = actual.getChildrenNodes();
+        assertEquals(source + " at " + expected.getRange(), expectedChildren.size(), actualChildren.size());
+        for (int i = 0; i < expectedChildren.size(); i++) {
+            assertSameComments(source, expectedChildren.get(i), actualChildren.get(i));
+        }
+    }
+
+    private static String describe(Comment comment) {
+        return comment == null ? "none" : comment.getRange() + " " + comment.getContent();
+    }
+
+    private static String describe(List<Comment> comments) {
+        return comments.stream().map(CommentsInserterTest::describe).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Puts comments at the start and end of random lines, and on lines of their own.
+     */
+    private static String addComments(String source, Random random) {
+        StringBuilder result = new StringBuilder();
+        for (String line : source.split("\n", -1)) {
+            if (random.nextInt(4) == 0) {
+                result.append(comment(random, true)).append('\n');
+            }
+            if (random.nextInt(6) == 0) {
+                result.append(random.nextBoolean() ? COMMENTS[0] : COMMENTS[1]).append(' ');
+            }
+            result.append(line);
+            if (random.nextInt(4) == 0) {
+                result.append(' ').append(comment(random, false));
+            }
+            result.append('\n');
+            if (random.nextInt(8) == 0) {
+                result.append('\n');
+            }
+        }
+        return result.toString();
+    }
+
+    private static String comment(Random random, boolean ownLine) {
+        String comment = COMMENTS[random.nextInt(COMMENTS.length)];
+        return ownLine || !comment.startsWith("//") ? comment : comment + " at the end";
+    }
+
+    private static String generate(Random random) {
+        StringBuilder code = new StringBuilder();
+        if (random.nextBoolean()) {
+            code.append(maybeComment(random)).append("package p;\n");
+        }
+        code.append(maybeComment(random)).append("import java.util.List;").append(maybeComment(random)).append('\n');
+        code.append(maybeComment(random)).append("public class A {\n");
+        int members = 1 + random.nextInt(6);
+        for (int m = 0; m < members; m++) {
+            code.append(maybeComment(random));
+            if (random.nextBoolean()) {
+                code.append("@Deprecated ").append(maybeComment(random));
+            }
+            if (random.nextBoolean()) {
+                code.append("int f").append(m).append(" = ").append(maybeComment(random)).append(m).append(";").append(maybeComment(random)).append('\n');
+            } else {
+                code.append("void m").append(m).append("(int a").append(maybeComment(random)).append(", int b) {\n");
+                int statements = random.nextInt(5);
+                for (int s = 0; s < statements; s++) {
+                    code.append(maybeComment(random)).append("a = b + ").append(maybeComment(random)).append(s).append(";").append(maybeComment(random)).append('\n');
+                }
+                code.append(maybeComment(random)).append("}\n");
+            }
+        }
+        code.append(maybeComment(random)).append("}\n").append(maybeComment(random));
+        return code.toString();
+    }
+
+    private static String maybeComment(Random random) {
+        switch (random.nextInt(6)) {
+            case 0:
+                return " /* b %N% */ ";
+            case 1:
+                return " /** j %N% */ ";
+            case 2:
+                return " // l %N%\n";
+            case 3:
+                return "\n\n";
+            default:
+                return " ";
+        }
+    }
+
+    private static String resource(String name) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                CommentsInserterTest.class.getClassLoader().getResourceAsStream(name), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining("\n"));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.javaparser;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.stmt.IfStmt;
+import com.github.javaparser.ast.stmt.SwitchStmt;
+import org.junit.Test;
+
+import static com.github.javaparser.ParseStart.COMPILATION_UNIT;
+import static com.github.javaparser.Providers.provider;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class ErrorRecoveryTest {
+    @Test
+    public void aBrokenStatementIsSkipped() {
+        ParseResult<CompilationUnit> result = parse("class A {\n" +
+                "    void m() {\n" +
+                "        int a = 1;\n" +
+                "        a = (a + ;\n" +
+                "        if (a > 0) { a = 2 }\n" +
+                "        return;\n" +
+                "    }\n" +
+                "}\n", true);
+
+        assertEquals(2, result.getProblems().size());
+        assertEquals(Range.range(4, 18, 4, 18), result.getProblems().get(0).getRange().get());
+        MethodDeclaration m = result.getResult().get().getTypes().get(0).getMethodsByName("m").get(0);
+        assertEquals(3, m.getBody().get().getStmts().size());
+        assertTrue(m.getBody().get().getStmts().get(1) instanceof IfStmt);
+    }
+
+    @Test
+    public void aBrokenMemberIsSkipped() {
+        ParseResult<CompilationUnit> result = parse("class A {\n" +
+                "    int a = ;\n" +
+                "    void broken(int a,) { a++; }\n" +
+                "    void m() {}\n" +
+                "    int b;\n" +
+                "}\n", true);
+
+        assertEquals(2, result.getProblems().size());
+        TypeDeclaration<?> type = result.getResult().get().getTypes().get(0);
+        assertEquals(2, type.getMembers().size());
+        assertEquals(1, type.getMethodsByName("m").size());
+        assertNotNull(type.getFieldByName("b"));
+    }
+
+    @Test
+    public void tokensThatStartNoMemberAreSkipped() {
+        ParseResult<CompilationUnit> result = parse("class A {\n" +
+                "    ) ) void m() {}\n" +
+                "}\n", true);
+
+        assertEquals(1, result.getProblems().size());
+        assertEquals(Range.range(2, 5, 2, 5), result.getProblems().get(0).getRange().get());
+        assertEquals(1, result.getResult().get().getTypes().get(0).getMethodsByName("m").size());
+    }
+
+    @Test
+    public void switchEntriesKeepTheirLabels() {
+        ParseResult<CompilationUnit> result = parse("class A {\n" +
+                "    void m(int a) {\n" +
+                "        switch (a) {\n" +
+                "            case 1: a = ;\n" +
+                "            case 2: a++;\n" +
+                "            default: ) a--;\n" +
+                "        }\n" +
+                "    }\n" +
+                "}\n", true);
+
+        assertEquals(2, result.getProblems().size());
+        SwitchStmt switchStmt = result.getResult().get().getNodesByType(SwitchStmt.class).get(0);
+        assertEquals(3, switchStmt.getEntries().size());
+    }
+
+    @Test
+    public void withoutRecoveryTheFirstErrorStopsTheParse() {
+        ParseResult<CompilationUnit> result = parse("class A {\n" +
+                "    int a = ;\n" +
+                "    void m() {}\n" +
+                "}\n", false);
+
+        assertFalse(result.getResult().isPresent());
+        assertEquals(1, result.getProblems().size());
+    }
+
+    @Test
+    public void correctCodeHasNoProblems() {
+        ParseResult<CompilationUnit> result = parse("class A { void m() { int a = 1; } }", true);
+
+        assertTrue(result.isSuccessful());
+    }
+
+    private static ParseResult<CompilationUnit> parse(String code, boolean recover) {
+        ParserConfiguration configuration = new ParserConfiguration();
+        configuration.recoverFromErrors = recover;
+        return new JavaParser(configuration).parse(COMPILATION_UNIT, provider(code));
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.javaparser;
+
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.stmt.Statement;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class JavaParserTest {
+
+    @Test
+    public void everyThreadHasItsOwnParser() throws Exception {
+        AtomicReference<JavaParser> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(JavaParser.forCurrentThread()));
+        thread.start();
+        thread.join();
+
+        assertSame(JavaParser.forCurrentThread(), JavaParser.forCurrentThread());
+        assertNotSame(JavaParser.forCurrentThread(), other.get());
+    }
+
+    @Test
+    public void staticHelpersDoNotSeeEarlierCalls() {
+        try {
+            JavaParser.parseStatement("int x = ;");
+            fail();
+        } catch (ParseProblemException e) {
+            // expected
+        }
+
+        Statement statement = JavaParser.parseStatement("int x = 1;");
+        BinaryExpr expression = JavaParser.parseExpression("a + b");
+
+        assertEquals("int x = 1;", statement.toString());
+        assertEquals("a + b", expression.toString());
+        assertEquals(4, JavaParser.forCurrentThread().parse(ParseStart.EXPRESSION, Providers.provider("a + b")).getTokens().get().size());
+    }
+}
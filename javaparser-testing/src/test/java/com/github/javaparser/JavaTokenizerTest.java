@@ -0,0 +1,101 @@
+package com.github.javaparser;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.javaparser.ParseStart.COMPILATION_UNIT;
+import static com.github.javaparser.Providers.provider;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class JavaTokenizerTest {
+    private static final String CODE = "package p;\n" +
+            "import java.util.*;\n" +
+            "/** A class. */\n" +
+            "public class A<T extends Comparable<T>> {\n" +
+            "    private int x = 1 >> 2;\n" +
+            "    static { System.out.println(A.class); }\n" +
+            "    @SuppressWarnings({\"a\", \"b\"}) A() { this(1); }\n" +
+            "    A(int x) throws java.io.IOException, RuntimeException { this.x = x; }\n" +
+            "    abstract void none();\n" +
+            "    <U> List<U> generic(U u) {\n" +
+            "        if (u == null) { return null; }\n" +
+            "        Runnable r = () -> { };\n" +
+            "        Object o = new Object() {\n" +
+            "            public String toString() { return \"o\"; }\n" +
+            "        };\n" +
+            "        class Local { void local() { } }\n" +
+            "        return new ArrayList<U>() { };\n" +
+            "    }\n" +
+            "    enum E {\n" +
+            "        ONE(1) { int value() { return 1; } },\n" +
+            "        TWO { };\n" +
+            "        E(int i) { }\n" +
+            "        E() { }\n" +
+            "        int value() { return 0; }\n" +
+            "    }\n" +
+            "    interface I { public default void d() { } }\n" +
+            "}\n";
+
+    @Test
+    public void tokensAreTheSameAsAfterAFullParse() {
+        TokenizeResult tokenized = new JavaTokenizer().tokenize(CODE);
+        ParseResult<CompilationUnit> parsed = new JavaParser().parse(COMPILATION_UNIT, provider(CODE));
+
+        assertTrue(tokenized.isSuccessful());
+        List<Token> expected = parsed.getTokens().get();
+        assertEquals(expected.size(), tokenized.getTokens().size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).kind, tokenized.getTokens().get(i).kind);
+            assertEquals(expected.get(i).image, tokenized.getTokens().get(i).image);
+            assertEquals(expected.get(i).beginLine, tokenized.getTokens().get(i).beginLine);
+            assertEquals(expected.get(i).beginColumn, tokenized.getTokens().get(i).beginColumn);
+        }
+    }
+
+    @Test
+    public void methodBoundariesMatchTheDeclarations() {
+        TokenizeResult tokenized = new JavaTokenizer().tokenize(CODE);
+        CompilationUnit compilationUnit = JavaParser.parse(CODE);
+        List<Node> declarations = new ArrayList<>();
+        declarations.addAll(compilationUnit.getNodesByType(MethodDeclaration.class));
+        declarations.addAll(compilationUnit.getNodesByType(ConstructorDeclaration.class));
+        declarations.removeIf(declaration -> declaration instanceof MethodDeclaration && !((MethodDeclaration) declaration).getBody().isPresent());
+        declarations.sort(Node.NODE_BY_BEGIN_POSITION);
+
+        List<MethodBoundary> methods = tokenized.getMethods();
+        assertEquals(declarations.size(), methods.size());
+        for (int i = 0; i < methods.size(); i++) {
+            assertEquals(declarations.get(i).getRange(), methods.get(i).getRange());
+        }
+        assertEquals("generic", methods.get(2).getName());
+        assertEquals("{", tokenized.getTokens().get(methods.get(2).getBodyToken()).image);
+    }
+
+    @Test
+    public void aTokenizerCanBeReused() {
+        JavaTokenizer tokenizer = new JavaTokenizer();
+        TokenizeResult first = tokenizer.tokenize("class A { void a() { } }");
+        TokenizeResult second = tokenizer.tokenize("class B { }");
+
+        assertEquals(11, first.getTokens().size());
+        assertEquals(5, second.getTokens().size());
+        assertEquals(1, first.getMethods().size());
+        assertTrue(second.getMethods().isEmpty());
+    }
+
+    @Test
+    public void lexicalErrorsAreProblems() {
+        TokenizeResult result = new JavaTokenizer().tokenize("class A { char c = '");
+
+        assertFalse(result.isSuccessful());
+        assertEquals(1, result.getProblems().size());
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.javaparser;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.ExplicitConstructorInvocationStmt;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.github.javaparser.ParseStart.COMPILATION_UNIT;
+import static com.github.javaparser.Providers.provider;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class LazyMethodBodiesTest {
+    private static final String SOURCE = "class A {\n" +
+            "    A() {\n" +
+            "        this(1); // delegate\n" +
+            "    }\n" +
+            "    A(int a) {}\n" +
+            "    /** Does m. */\n" +
+            "    int m(int a) throws Exception {\n" +
+            "        // first\n" +
+            "        int b = a + 1;\n" +
+            "        return new Object() { int c() { return b; } }.c();\n" +
+            "    }\n" +
+            "    abstract void n();\n" +
+            "}\n";
+
+    @Test
+    public void bodiesAreParsedWhenAskedFor() {
+        CompilationUnit cu = parse(SOURCE, true);
+        MethodDeclaration m = cu.getTypes().get(0).getMethodsByName("m").get(0);
+        assertTrue(m.hasUnparsedBody());
+        assertEquals(1, m.getParameters().size());
+        assertEquals(1, m.getThrows().size());
+        assertTrue(m.getComment().isPresent());
+        assertFalse(m.getChildrenNodes().stream().anyMatch(child -> child instanceof BlockStmt));
+
+        BlockStmt body = m.getBody().get();
+
+        assertFalse(m.hasUnparsedBody());
+        assertTrue(m.getChildrenNodes().contains(body));
+        assertEquals(2, body.getStmts().size());
+        assertEquals(Range.range(7, 35, 11, 5), body.getRange());
+        assertEquals(" first", body.getStmts().get(0).getComment().get().getContent());
+    }
+
+    @Test
+    public void constructorBodiesKeepTheirExplicitInvocation() {
+        CompilationUnit cu = parse(SOURCE, true);
+        ConstructorDeclaration constructor = (ConstructorDeclaration) cu.getTypes().get(0).getMembers().get(0);
+        assertTrue(constructor.hasUnparsedBody());
+
+        BlockStmt body = constructor.getBody();
+
+        assertTrue(body.getStmts().get(0) instanceof ExplicitConstructorInvocationStmt);
+        assertEquals(" delegate", body.getStmts().get(0).getComment().get().getContent());
+    }
+
+    @Test
+    public void methodsWithoutBodyStayWithoutBody() {
+        CompilationUnit cu = parse(SOURCE, true);
+        MethodDeclaration n = cu.getTypes().get(0).getMethodsByName("n").get(0);
+        assertFalse(n.hasUnparsedBody());
+        assertFalse(n.getBody().isPresent());
+    }
+
+    @Test
+    public void sameTreeAsFullParse() throws Exception {
+        String source = resource("com/github/javaparser/bdd/samples/JavaConcepts.java");
+        CompilationUnit full = parse(source, false);
+        CompilationUnit lazy = parse(source, true);
+
+        assertEquals(full.toString(), lazy.toString());
+        assertEquals(full.getAllContainedComments().size(), lazy.getAllContainedComments().size());
+        List<MethodDeclaration> fullMethods = full.getNodesByType(MethodDeclaration.class);
+        List<MethodDeclaration> lazyMethods = lazy.getNodesByType(MethodDeclaration.class);
+        assertEquals(fullMethods.size(), lazyMethods.size());
+        for (int i = 0; i < fullMethods.size(); i++) {
+            assertEquals(fullMethods.get(i).getRange(), lazyMethods.get(i).getRange());
+            assertEquals(fullMethods.get(i).getBody().map(BlockStmt::getRange),
+                    lazyMethods.get(i).getBody().map(BlockStmt::getRange));
+        }
+    }
+
+    @Test
+    public void errorsInABodyShowWhenItIsParsed() {
+        CompilationUnit cu = parse("class A { void m() { int = ; } void n() {} }", true);
+        MethodDeclaration m = cu.getTypes().get(0).getMethodsByName("m").get(0);
+        try {
+            m.getBody();
+            fail();
+        } catch (ParseProblemException e) {
+            assertTrue(m.hasUnparsedBody());
+        }
+        assertTrue(cu.getTypes().get(0).getMethodsByName("n").get(0).getBody().isPresent());
+    }
+
+    @Test
+    public void unbalancedBracesFailTheParse() {
+        ParserConfiguration configuration = new ParserConfiguration();
+        configuration.lazyMethodBodies = true;
+        ParseResult<CompilationUnit> result = new JavaParser(configuration).parse(COMPILATION_UNIT, provider("class A { void m() { { }"));
+        assertFalse(result.isSuccessful());
+    }
+
+    private static CompilationUnit parse(String source, boolean lazy) {
+        ParserConfiguration configuration = new ParserConfiguration();
+        configuration.lazyMethodBodies = lazy;
+        ParseResult<CompilationUnit> result = new JavaParser(configuration).parse(COMPILATION_UNIT, provider(source));
+        assertTrue(result.getProblems().toString(), result.isSuccessful());
+        return result.getResult().get();
+    }
+
+    private static String resource(String name) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                LazyMethodBodiesTest.class.getClassLoader().getResourceAsStream(name), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining("\n"));
+        }
+    }
+}
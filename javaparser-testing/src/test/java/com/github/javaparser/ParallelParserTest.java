@@ -0,0 +1,109 @@
+package com.github.javaparser;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.utils.Pair;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelParserTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ParallelParser parser = new ParallelParser(new ParserConfiguration(), 4);
+
+    @After
+    public void tearDown() {
+        parser.shutdown();
+    }
+
+    private Path write(String name, String content) throws Exception {
+        Path file = folder.getRoot().toPath().resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    public void resultsComeInTheOrderOfTheFiles() throws Exception {
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            files.add(write("C" + i + ".java", "class C" + i + " { /* " + i + " */ void m() { int x = " + i + "; } }"));
+        }
+
+        List<Pair<Path, ParseResult<CompilationUnit>>> results = parser.parse(files).collect(Collectors.toList());
+
+        assertEquals(50, results.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(files.get(i), results.get(i).a);
+            ParseResult<CompilationUnit> result = results.get(i).b;
+            assertTrue(result.isSuccessful());
+            assertEquals("C" + i, result.getResult().get().getTypes().get(0).getName());
+            // every file gets its own tokens and comments, even though the workers reuse their parsers
+            assertEquals(16, result.getTokens().get().size());
+            assertEquals(1, result.getCommentsCollection().get().size());
+        }
+    }
+
+    @Test
+    public void resultsArriveWhileLaterFilesAreNotParsedYet() throws Exception {
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            files.add(write("C" + i + ".java", "class C" + i + " {}"));
+        }
+
+        Iterator<Pair<Path, ParseResult<CompilationUnit>>> results = parser.parse(files).iterator();
+
+        assertTrue(results.next().b.isSuccessful());
+        // the last file is far outside the window of files being parsed, so it is only read after this
+        Files.delete(files.get(99));
+        List<ParseResult<CompilationUnit>> rest = new ArrayList<>();
+        results.forEachRemaining(parsed -> rest.add(parsed.b));
+        assertEquals(99, rest.size());
+        assertTrue(rest.get(97).isSuccessful());
+        assertFalse(rest.get(98).getResult().isPresent());
+    }
+
+    @Test
+    public void sourceRootsAreWalked() throws Exception {
+        write("a/A.java", "class A {}");
+        write("a/b/B.java", "class B {}");
+        write("a/notes.txt", "not java");
+
+        List<String> names = parser.parse(folder.getRoot().toPath(), ".java")
+                .map(parsed -> parsed.b.getResult().get().getTypes().get(0).getName())
+                .collect(Collectors.toList());
+
+        assertEquals(2, names.size());
+        assertEquals("A", names.get(0));
+        assertEquals("B", names.get(1));
+    }
+
+    @Test
+    public void problemsAreReportedPerFile() throws Exception {
+        List<Path> files = new ArrayList<>();
+        files.add(write("Good.java", "class Good {}"));
+        files.add(write("Bad.java", "class {"));
+        files.add(folder.getRoot().toPath().resolve("Missing.java"));
+
+        List<ParseResult<CompilationUnit>> results = parser.parse(files).map(parsed -> parsed.b).collect(Collectors.toList());
+
+        assertTrue(results.get(0).isSuccessful());
+        assertFalse(results.get(1).isSuccessful());
+        assertFalse(results.get(2).isSuccessful());
+        assertFalse(results.get(2).getResult().isPresent());
+    }
+}
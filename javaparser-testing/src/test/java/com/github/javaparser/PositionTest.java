@@ -0,0 +1,51 @@
+package com.github.javaparser;
+
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.NameExpr;
+import org.junit.Test;
+
+import static com.github.javaparser.Position.pos;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PositionTest {
+    private static final Position[] POSITIONS = {
+            Position.ABSOLUTE_END, Position.ABSOLUTE_START, pos(-1, 0), Position.UNKNOWN, pos(0, 5),
+            Position.HOME, pos(1, 2), pos(2, -1), pos(2, 1), pos(70000, 3), pos(70000, 70000)
+    };
+
+    @Test
+    public void packedPositionsUnpackToTheSamePosition() {
+        for (Position position : POSITIONS) {
+            assertEquals(position, Position.unpack(Position.pack(position)));
+        }
+        assertSame(Position.UNKNOWN, Position.unpack(Position.pack(Position.UNKNOWN)));
+    }
+
+    @Test
+    public void packedPositionsCompareLikePositions() {
+        for (Position a : POSITIONS) {
+            for (Position b : POSITIONS) {
+                assertEquals(a + " " + b, a.isBefore(b), Position.isBefore(Position.pack(a), Position.pack(b)));
+                assertEquals(a + " " + b, a.isAfter(b), Position.isAfter(Position.pack(a), Position.pack(b)));
+            }
+        }
+    }
+
+    @Test
+    public void nodesHandOutTheirRange() {
+        Node node = new NameExpr(Range.range(3, 4, 3, 9), "name");
+
+        assertEquals(pos(3, 4), node.getBegin());
+        assertEquals(pos(3, 9), node.getEnd());
+        assertEquals(Range.range(3, 4, 3, 9), node.getRange());
+        node.setEnd(pos(4, 1));
+        assertEquals(Range.range(3, 4, 4, 1), node.getRange());
+        assertTrue(node.isPositionedAfter(pos(3, 3)));
+        assertFalse(node.isPositionedBefore(pos(4, 1)));
+        assertTrue(node.containsWithin(new NameExpr(Range.range(3, 5, 3, 10), "inner")));
+        assertSame(Range.UNKNOWN, new NameExpr("unknown").getRange());
+    }
+}
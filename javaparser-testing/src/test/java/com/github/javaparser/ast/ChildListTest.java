@@ -0,0 +1,127 @@
+package com.github.javaparser.ast;
+
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.expr.MarkerAnnotationExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.type.PrimitiveType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ChildListTest {
+    @Test
+    public void childrenKeepTheirOrderWhenOthersLeave() {
+        NameExpr parent = new NameExpr("parent");
+        NameExpr other = new NameExpr("other");
+        NameExpr a = new NameExpr("a");
+        NameExpr b = new NameExpr("b");
+        NameExpr c = new NameExpr("c");
+        NameExpr d = new NameExpr("d");
+        for (NameExpr child : asList(a, b, c, d)) {
+            child.setParentNode(parent);
+        }
+
+        b.setParentNode(other);
+        d.setParentNode(null);
+
+        assertEquals(asList(a, c), parent.getChildrenNodes());
+        assertEquals(asList(b), other.getChildrenNodes());
+        assertEquals(1, parent.getChildrenNodes().indexOf(c));
+        assertFalse(parent.getChildrenNodes().contains(b));
+
+        d.setParentNode(parent);
+        b.setParentNode(parent);
+
+        assertEquals(asList(a, c, d, b), parent.getChildrenNodes());
+        assertTrue(other.getChildrenNodes().isEmpty());
+    }
+
+    @Test
+    public void equalChildrenAreToldApart() {
+        NameExpr parent = new NameExpr("parent");
+        NameExpr first = new NameExpr("same");
+        NameExpr second = new NameExpr("same");
+        first.setParentNode(parent);
+        second.setParentNode(parent);
+
+        first.setParentNode(null);
+
+        assertEquals(1, parent.getChildrenNodes().size());
+        assertTrue(parent.getChildrenNodes().get(0) == second);
+    }
+
+    @Test
+    public void manyChildrenCanMoveBetweenParents() {
+        NameExpr from = new NameExpr("from");
+        NameExpr to = new NameExpr("to");
+        List<NameExpr> children = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            NameExpr child = new NameExpr("n");
+            child.setParentNode(from);
+            children.add(child);
+        }
+
+        for (int i = 0; i < children.size(); i += 2) {
+            children.get(i).setParentNode(to);
+        }
+
+        assertEquals(50_000, from.getChildrenNodes().size());
+        assertEquals(50_000, to.getChildrenNodes().size());
+        for (int i = 0; i < 50_000; i++) {
+            assertTrue(from.getChildrenNodes().get(i) == children.get(i * 2 + 1));
+            assertTrue(to.getChildrenNodes().get(i) == children.get(i * 2));
+        }
+    }
+
+    @Test
+    public void replacedChildIsTakenOutAndTheNewOneTakesItsPlace() {
+        PrimitiveType type = new PrimitiveType(PrimitiveType.Primitive.Int);
+        NodeList<AnnotationExpr> replaced = type.getAnnotations();
+        NodeList<AnnotationExpr> annotations = NodeList.nodeList(new MarkerAnnotationExpr(new NameExpr("A")));
+
+        type.setAnnotations(annotations);
+
+        assertEquals(asList(annotations), type.getChildrenNodes());
+        assertNull(replaced.getParentNode());
+    }
+
+    @Test
+    public void elementsOfAListAreChildrenInTheOrderOfTheList() {
+        NodeList<NameExpr> list = new NodeList<>();
+        NameExpr a = new NameExpr("a");
+        NameExpr b = new NameExpr("b");
+        NameExpr c = new NameExpr("c");
+        NameExpr d = new NameExpr("d");
+        list.add(a);
+        list.add(b);
+
+        list.add(0, c);
+
+        assertEquals(asList(c, a, b), list.getChildrenNodes());
+
+        list.set(1, d);
+
+        assertEquals(asList(c, d, b), list.getChildrenNodes());
+        assertNull(a.getParentNode());
+    }
+
+    @Test
+    public void settingTheSameParentAgainKeepsThePlace() {
+        NameExpr parent = new NameExpr("parent");
+        NameExpr a = new NameExpr("a");
+        NameExpr b = new NameExpr("b");
+        a.setParentNode(parent);
+        b.setParentNode(parent);
+
+        a.setParentNode(parent);
+
+        assertEquals(asList(a, b), parent.getChildrenNodes());
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.javaparser.ast;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.extend.clone.CharacteristicVector;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.github.javaparser.ParseStart.COMPILATION_UNIT;
+import static com.github.javaparser.Providers.provider;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class FlatTreeTest {
+    @Test
+    public void treeHoldsTheNodesInPreorder() throws Exception {
+        CompilationUnit cu = JavaParser.parse(resource("com/github/javaparser/bdd/samples/JavaConcepts.java"));
+        List<Node> nodes = cu.getNodesByType(Node.class);
+        nodes.add(0, cu);
+        Map<Node, Integer> indexes = new IdentityHashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            indexes.put(nodes.get(i), i);
+        }
+
+        FlatTree tree = FlatTree.of(cu);
+
+        assertEquals(nodes.size(), tree.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+            assertEquals(node.getKind(), tree.getKind(i));
+            assertEquals(node.getRange(), tree.getRange(i));
+            assertEquals(i == 0 ? FlatTree.NONE : (int) indexes.get(node.getParentNode()), tree.getParent(i));
+            List<Node> children = node.getChildrenNodes();
+            assertEquals(children.isEmpty() ? FlatTree.NONE : (int) indexes.get(children.get(0)),
+                    tree.getFirstChild(i));
+            for (int c = 0; c < children.size(); c++) {
+                assertEquals(c == children.size() - 1 ? FlatTree.NONE : (int) indexes.get(children.get(c + 1)),
+                        tree.getNextSibling(indexes.get(children.get(c))));
+            }
+        }
+    }
+
+    @Test
+    public void nodesKeepTheirTexts() {
+        FlatTree tree = FlatTree.of(JavaParser.parse("class A { int a = a + 1; }"));
+
+        List<Integer> named = new ArrayList<>();
+        for (int i = 0; i < tree.size(); i++) {
+            if (tree.getTextId(i) != FlatTree.NONE) {
+                named.add(i);
+            }
+        }
+
+        assertEquals("[A, Int, a, plus, a, 1]",
+                named.stream().map(tree::getText).collect(Collectors.toList()).toString());
+        assertEquals(5, tree.getStringCount());
+        assertEquals(tree.getTextId(named.get(2)), tree.getTextId(named.get(4)));
+        assertNull(tree.getText(0));
+    }
+
+    @Test
+    public void vectorsOfSubtreesAreTheVectorsOfTheirNodes() throws Exception {
+        CompilationUnit cu = JavaParser.parse(resource("com/github/javaparser/bdd/samples/JavaConcepts.java"));
+        List<Node> nodes = cu.getNodesByType(Node.class);
+        nodes.add(0, cu);
+
+        FlatTree tree = FlatTree.of(cu);
+
+        for (int i = 0; i < nodes.size(); i++) {
+            assertEquals(CharacteristicVector.of(nodes.get(i)), CharacteristicVector.of(tree, i));
+            assertEquals(nodes.get(i).getNodesByType(Node.class).size() + 1, tree.getSubtreeEnd(i) - i);
+        }
+    }
+
+    @Test
+    public void lazyBodiesAreParsed() {
+        String source = "class A { A() { super(); } int m() { return 1; } }";
+        ParserConfiguration configuration = new ParserConfiguration();
+        configuration.lazyMethodBodies = true;
+        CompilationUnit lazy = new JavaParser(configuration).parse(COMPILATION_UNIT, provider(source)).getResult().get();
+
+        assertEquals(FlatTree.of(JavaParser.parse(source)).size(), FlatTree.of(lazy).size());
+    }
+
+    private static String resource(String name) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                FlatTreeTest.class.getClassLoader().getResourceAsStream(name), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining("\n"));
+        }
+    }
+}
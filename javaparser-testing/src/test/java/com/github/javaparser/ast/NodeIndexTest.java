@@ -0,0 +1,99 @@
+package com.github.javaparser.ast;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.stmt.Statement;
+import com.github.javaparser.ast.stmt.SwitchStmt;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.github.javaparser.ParseStart.COMPILATION_UNIT;
+import static com.github.javaparser.Providers.provider;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class NodeIndexTest {
+    @Test
+    public void indexFindsWhatASearchFinds() throws Exception {
+        CompilationUnit cu = JavaParser.parse(resource("com/github/javaparser/bdd/samples/JavaConcepts.java"));
+        NodeIndex index = NodeIndex.of(cu);
+
+        for (Class<? extends Node> type : asTypes(MethodDeclaration.class, MethodCallExpr.class, Statement.class,
+                Expression.class, SwitchStmt.class, Node.class)) {
+            assertSameNodes(cu.getNodesByType(type), index.getNodesByType(type));
+        }
+        assertEquals(cu.getNodesByType(Node.class).size(), index.size());
+    }
+
+    @Test
+    public void searchVisitsParentsBeforeChildren() {
+        CompilationUnit cu = JavaParser.parse("class A { void m() { a(b(), c()); d(); } }");
+        List<String> names = new ArrayList<>();
+
+        cu.forEachNodeOfType(MethodCallExpr.class, call -> names.add(call.getName()));
+
+        assertEquals("[a, b, c, d]", names.toString());
+    }
+
+    @Test
+    public void indexIsBuiltWhileParsingWhenAskedFor() {
+        ParserConfiguration configuration = new ParserConfiguration();
+        configuration.indexNodesByType = true;
+        ParseResult<CompilationUnit> result = new JavaParser(configuration).parse(COMPILATION_UNIT,
+                provider("class A { void m() {} void n() {} }"));
+        CompilationUnit cu = result.getResult().get();
+
+        NodeIndex index = cu.getNodeIndex();
+
+        assertSame(index, cu.getNodeIndex());
+        assertEquals(2, index.getNodesByType(MethodDeclaration.class).size());
+        assertTrue(index.getNodesByType(SwitchStmt.class).isEmpty());
+    }
+
+    @Test
+    public void indexIsASnapshot() {
+        CompilationUnit cu = JavaParser.parse("class A { void m() {} }");
+        NodeIndex before = cu.getNodeIndex();
+
+        cu.getClassByName("A").addMethod("n");
+
+        assertEquals(1, before.getNodesByType(MethodDeclaration.class).size());
+        assertEquals(2, cu.indexNodes().getNodesByType(MethodDeclaration.class).size());
+        assertEquals(0, NodeIndex.of(new NameExpr("a")).size());
+    }
+
+    private static void assertSameNodes(List<? extends Node> expected, List<? extends Node> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i));
+        }
+    }
+
+    @SafeVarargs
+    private static List<Class<? extends Node>> asTypes(Class<? extends Node>... types) {
+        List<Class<? extends Node>> list = new ArrayList<>();
+        for (Class<? extends Node> type : types) {
+            list.add(type);
+        }
+        return list;
+    }
+
+    private static String resource(String name) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                NodeIndexTest.class.getClassLoader().getResourceAsStream(name), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining("\n"));
+        }
+    }
+}
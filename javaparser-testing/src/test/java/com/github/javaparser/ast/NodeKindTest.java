@@ -0,0 +1,94 @@
+package com.github.javaparser.ast;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.LiteralExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.stmt.Statement;
+import com.github.javaparser.ast.visitor.KindDispatcher;
+import com.github.javaparser.extend.InterfaceRepresentation;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class NodeKindTest {
+    @Test
+    public void everyNodeHasTheKindOfItsClass() throws Exception {
+        CompilationUnit cu = JavaParser.parse(resource("com/github/javaparser/bdd/samples/JavaConcepts.java"));
+
+        assertSame(NodeKind.COMPILATION_UNIT, cu.getKind());
+        for (Node node : cu.getNodesByType(Node.class)) {
+            assertSame(node.getClass(), node.getKind().getNodeClass());
+        }
+    }
+
+    @Test
+    public void kindsOfATypeIncludeItsSubclasses() {
+        assertTrue(NodeKind.kindsOf(Statement.class).contains(NodeKind.IF_STMT));
+        assertFalse(NodeKind.kindsOf(Statement.class).contains(NodeKind.NAME_EXPR));
+        assertTrue(NodeKind.kindsOf(LiteralExpr.class).contains(NodeKind.INTEGER_LITERAL_MIN_VALUE_EXPR));
+        assertEquals(NodeKind.count(), NodeKind.kindsOf(Node.class).size());
+    }
+
+    @Test
+    public void dispatcherWalksParentsBeforeChildren() {
+        CompilationUnit cu = JavaParser.parse("class A { void m() { if (a(b())) return; c(); } }");
+        List<String> seen = new ArrayList<>();
+
+        new KindDispatcher<List<String>>()
+                .on(Statement.class, (statement, list) -> list.add(statement.getKind().name()))
+                .on(MethodCallExpr.class, (call, list) -> list.add(call.getName()))
+                .walk(cu, seen);
+
+        assertEquals("[BLOCK_STMT, IF_STMT, a, b, RETURN_STMT, EXPRESSION_STMT, c]", seen.toString());
+    }
+
+    @Test
+    public void laterActionsReplaceEarlierOnes() {
+        CompilationUnit cu = JavaParser.parse("class A { int a = 1 + b; }");
+        List<String> seen = new ArrayList<>();
+
+        new KindDispatcher<List<String>>()
+                .on(Expression.class, (expression, list) -> list.add(expression.getClass().getSimpleName()))
+                .on(LiteralExpr.class, (literal, list) -> list.add("literal"))
+                .walk(cu, seen);
+
+        assertEquals("[NameExpr, BinaryExpr, literal, NameExpr]", seen.toString());
+    }
+
+    @Test
+    public void nodesOfOtherClassesCanBeWalked() {
+        InterfaceRepresentation representation = new InterfaceRepresentation("A.java");
+        representation.addImport("java.util.List");
+        List<String> seen = new ArrayList<>();
+
+        new KindDispatcher<List<String>>()
+                .on(Node.class, (node, list) -> list.add(node.getKind().name()))
+                .walk(representation, seen);
+        StructuralHash.compute(representation);
+        FlatTree tree = FlatTree.of(representation);
+
+        assertSame(NodeKind.OTHER, representation.getKind());
+        assertEquals("OTHER", seen.get(0));
+        assertTrue(seen.contains("SINGLE_TYPE_IMPORT_DECLARATION"));
+        assertEquals(seen.size(), tree.size());
+        assertSame(NodeKind.OTHER, tree.getKind(0));
+    }
+
+    private static String resource(String name) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                NodeKindTest.class.getClassLoader().getResourceAsStream(name), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining("\n"));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.javaparser.ast;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.visitor.DumpVisitor;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class NodePrintTest {
+    private static final String SOURCE = "class A {\n" +
+            "    // comment\n" +
+            "    int m(int a) { if (a > 0) { return a; } return -a; }\n" +
+            "    /** doc */\n" +
+            "    void n() throws Exception { }\n" +
+            "}\n";
+
+    @Test
+    public void printingWritesWhatToStringReturns() {
+        CompilationUnit cu = JavaParser.parse(SOURCE);
+
+        StringWriter out = new StringWriter();
+        cu.print(out);
+        StringWriter outWithoutComments = new StringWriter();
+        cu.printWithoutComments(outWithoutComments);
+
+        assertEquals(cu.toString(), out.toString());
+        assertEquals(cu.toStringWithoutComments(), outWithoutComments.toString());
+    }
+
+    @Test
+    public void visitorCanBeUsedAgain() {
+        List<MethodDeclaration> methods = JavaParser.parse(SOURCE).getNodesByType(MethodDeclaration.class);
+        DumpVisitor visitor = new DumpVisitor(false);
+        StringBuilder out = new StringBuilder();
+
+        for (MethodDeclaration method : methods) {
+            out.setLength(0);
+            visitor.print(method, out);
+            assertEquals(method.toStringWithoutComments(), out.toString());
+        }
+    }
+
+    @Test
+    public void printingLeavesTheSourceOfTheVisitorAlone() {
+        CompilationUnit cu = JavaParser.parse(SOURCE);
+        DumpVisitor visitor = new DumpVisitor();
+        cu.getTypes().get(0).accept(visitor, null);
+
+        visitor.print(cu.getNodesByType(MethodDeclaration.class).get(0), new StringWriter());
+
+        assertEquals(cu.getTypes().get(0).toString(), visitor.getSource());
+    }
+
+    @Test
+    public void hashCodeIsTheHashCodeOfToString() {
+        CompilationUnit cu = JavaParser.parse(SOURCE);
+
+        for (Node node : cu.getNodesByType(Node.class)) {
+            assertEquals(node.toString().hashCode(), node.hashCode());
+        }
+        assertEquals(cu.toString().hashCode(), cu.hashCode());
+    }
+
+    @Test
+    public void errorsOfTheOutputAreThrown() {
+        Writer broken = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("broken");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        try {
+            JavaParser.parse(SOURCE).print(broken);
+            fail();
+        } catch (UncheckedIOException e) {
+            assertEquals("broken", e.getCause().getMessage());
+        }
+    }
+}
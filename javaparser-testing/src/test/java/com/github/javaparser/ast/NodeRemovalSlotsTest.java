@@ -0,0 +1,195 @@
+package com.github.javaparser.ast;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.comments.Comment;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks {@link Node#remove()} and {@link Node#replace(Node)} against what reflection finds in the fields of the
+ * parent, for every child of every node class in the AST.
+ */
+public class NodeRemovalSlotsTest {
+    private static final String MORE = "import static java.util.Collections.*;\n" +
+            "import static java.util.Collections.emptyList;;\n" +
+            "@interface A { int a() default 1; }\n" +
+            "@SuppressWarnings(\"all\") @A(a = 2)\n" +
+            "class B<T extends Object & Comparable<T>> {\n" +
+            "    int[] a = new int[] {-2147483648}; long b = -9223372036854775808L;\n" +
+            "    void m() throws Exception {\n" +
+            "        try (java.io.Reader r = null) { } catch (RuntimeException | Error e) { }\n" +
+            "        java.util.function.Function<Object, Object> f = x -> x; java.util.function.Supplier<Object> s = Object::new; Runnable l = (Runnable & Cloneable) () -> {};\n" +
+            "        Object o = this.<String>m2(); o = B.super.hashCode(); o = (Object) null;\n" +
+            "        label: for (;;) { break label; }\n" +
+            "        class Local {}\n" +
+            "        ;\n" +
+            "        /** orphan */\n" +
+            "    }\n" +
+            "    <X> X m2() { return null; }\n" +
+            "    // orphan\n" +
+            "    /* orphan */\n" +
+            "};\n";
+
+    @Test
+    public void removalEmptiesTheSlotThatHeldTheNode() throws Exception {
+        Set<Class<?>> seen = new HashSet<>();
+        for (CompilationUnit cu : samples()) {
+            List<Node> nodes = allNodes(cu);
+            Collections.reverse(nodes);
+            for (Node node : nodes) {
+                Node parent = node.getParentNode();
+                seen.add(node.getClass());
+                seen.add(parent.getClass());
+                boolean held = holds(parent, node);
+
+                assertEquals(describe(parent, node), held, node.remove());
+
+                assertFalse(describe(parent, node), holds(parent, node));
+                assertNull(node.getParentNode());
+                assertFalse(parent.getChildrenNodes().contains(node));
+            }
+        }
+        assertEquals(new TreeSet<>(), notSeen(seen));
+    }
+
+    @Test
+    public void replacementTakesTheSlotOfTheNode() throws Exception {
+        for (CompilationUnit cu : samples()) {
+            // cloning does not copy orphan comments
+            cu.getAllContainedComments().stream().filter(Comment::isOrphan).forEach(Node::remove);
+            String before = cu.toString();
+            List<Node> nodes = allNodes(cu);
+            Collections.reverse(nodes);
+            for (Node node : nodes) {
+                Node parent = node.getParentNode();
+                boolean held = holds(parent, node);
+                Node replacement = node.clone();
+
+                assertEquals(describe(parent, node), held, node.replace(replacement));
+
+                if (held) {
+                    assertTrue(holds(parent, replacement));
+                    assertTrue(replacement.getParentNode() == parent);
+                    assertNull(node.getParentNode());
+                }
+            }
+            assertEquals(before, cu.toString());
+        }
+    }
+
+    @Test
+    public void equalSiblingsAreToldApart() {
+        CompilationUnit cu = JavaParser.parse("class A { void m() { a(); a(); } }");
+        NodeList<?> statements = cu.getNodesByType(NodeList.class).stream()
+                .filter(list -> list.size() == 2).findFirst().get();
+        Node second = statements.get(1);
+
+        assertTrue(second.remove());
+
+        assertEquals(1, statements.size());
+        assertTrue(statements.get(0) != second);
+    }
+
+    private static List<CompilationUnit> samples() throws Exception {
+        List<CompilationUnit> samples = new ArrayList<>();
+        samples.add(JavaParser.parse(resource("com/github/javaparser/bdd/samples/JavaConcepts.java")));
+        samples.add(JavaParser.parse(MORE));
+        return samples;
+    }
+
+    private static List<Node> allNodes(CompilationUnit cu) {
+        List<Node> nodes = cu.getNodesByType(Node.class);
+        for (Comment comment : cu.getAllContainedComments()) {
+            if (comment.getParentNode() != null && !nodes.contains(comment)) {
+                nodes.add(comment);
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Whether a field of the parent holds the child, directly, in an optional, or in a list.
+     * A node list in a field of its owner does not count, as it cannot be removed.
+     */
+    private static boolean holds(Node parent, Node child) throws IllegalAccessException {
+        for (Class<?> type = parent.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.getName().equals("parentNode")
+                        || field.getName().equals("childrenNodes")) {
+                    continue;
+                }
+                field.setAccessible(true);
+                Object value = field.get(parent);
+                if (value instanceof NodeList) {
+                    if (((NodeList<?>) value).stream().anyMatch(element -> element == child)) {
+                        return true;
+                    }
+                } else if (value == child) {
+                    return true;
+                }
+                if (value instanceof Optional && ((Optional<?>) value).orElse(null) == child) {
+                    return true;
+                }
+                if (value instanceof List && ((List<?>) value).stream().anyMatch(element -> element == child)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> notSeen(Set<Class<?>> seen) throws Exception {
+        File root = new File(Node.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Set<String> notSeen = new TreeSet<>();
+        collectNodeClasses(new File(root, "com/github/javaparser/ast"), "com.github.javaparser.ast", seen, notSeen);
+        return notSeen;
+    }
+
+    private static void collectNodeClasses(File directory, String pakage, Set<Class<?>> seen, Set<String> notSeen)
+            throws ClassNotFoundException {
+        for (File file : directory.listFiles()) {
+            String name = file.getName();
+            if (file.isDirectory()) {
+                if (!name.equals("visitor")) {
+                    collectNodeClasses(file, pakage + "." + name, seen, notSeen);
+                }
+            } else if (name.endsWith(".class") && !name.contains("$")) {
+                Class<?> type = Class.forName(pakage + "." + name.substring(0, name.length() - ".class".length()));
+                if (Node.class.isAssignableFrom(type) && !Modifier.isAbstract(type.getModifiers())
+                        && !seen.contains(type)) {
+                    notSeen.add(type.getName());
+                }
+            }
+        }
+    }
+
+    private static String describe(Node parent, Node child) {
+        return child.getClass().getSimpleName() + " in " + parent.getClass().getSimpleName() + " at " + child.getRange();
+    }
+
+    private static String resource(String name) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                NodeRemovalSlotsTest.class.getClassLoader().getResourceAsStream(name), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining("\n"));
+        }
+    }
+}
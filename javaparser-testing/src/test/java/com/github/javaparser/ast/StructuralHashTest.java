@@ -0,0 +1,85 @@
+package com.github.javaparser.ast;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import org.junit.Test;
+
+import java.util.List;
+
+import static com.github.javaparser.ParseStart.COMPILATION_UNIT;
+import static com.github.javaparser.Providers.provider;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StructuralHashTest {
+
+    private static final String SOURCE = "class A {\n" +
+            "    int first(int a) { return a + 1; }\n" +
+            "    int first(int a) {\n" +
+            "        // same code, other layout\n" +
+            "        return a\n" +
+            "            + 1;\n" +
+            "    }\n" +
+            "    long second(long b) { return b + 2L; }\n" +
+            "    long second(long b) { return b - 2L; }\n" +
+            "}\n";
+
+    private static List<MethodDeclaration> parseMethods(ParserConfiguration configuration) {
+        CompilationUnit cu = new JavaParser(configuration).parse(COMPILATION_UNIT, provider(SOURCE)).getResult().get();
+        return cu.getNodesByType(MethodDeclaration.class);
+    }
+
+    @Test
+    public void layoutAndCommentsDoNotChangeTheHash() {
+        List<MethodDeclaration> methods = parseMethods(new ParserConfiguration());
+
+        assertEquals(methods.get(0).getStructuralHash(), methods.get(1).getStructuralHash());
+        assertEquals(methods.get(0).getNormalizedStructuralHash(), methods.get(1).getNormalizedStructuralHash());
+    }
+
+    @Test
+    public void renamingOnlyChangesTheExactHash() {
+        List<MethodDeclaration> methods = parseMethods(new ParserConfiguration());
+
+        assertNotEquals(methods.get(0).getStructuralHash(), methods.get(2).getStructuralHash());
+        assertEquals(methods.get(0).getNormalizedStructuralHash(), methods.get(2).getNormalizedStructuralHash());
+    }
+
+    @Test
+    public void operatorsAreNotNormalized() {
+        List<MethodDeclaration> methods = parseMethods(new ParserConfiguration());
+
+        assertNotEquals(methods.get(2).getNormalizedStructuralHash(), methods.get(3).getNormalizedStructuralHash());
+    }
+
+    @Test
+    public void parserCanComputeHashesUpFront() {
+        ParserConfiguration configuration = new ParserConfiguration();
+        configuration.computeStructuralHashes = true;
+        List<MethodDeclaration> methods = parseMethods(configuration);
+
+        assertTrue(((Node) methods.get(0)).structuralHashed);
+        assertEquals(methods.get(0).getStructuralHash(), methods.get(1).getStructuralHash());
+    }
+
+    @Test
+    public void lazyBodiesArePartOfTheHash() {
+        ParserConfiguration configuration = new ParserConfiguration();
+        configuration.computeStructuralHashes = true;
+        configuration.lazyMethodBodies = true;
+        CompilationUnit cu = new JavaParser(configuration).parse(COMPILATION_UNIT,
+                provider("class A { void m() { x(); y(); } void n() { return; } A() { x(); } A(int a) { } }"))
+                .getResult().get();
+
+        List<MethodDeclaration> methods = cu.getNodesByType(MethodDeclaration.class);
+        assertNotEquals(methods.get(0).getNormalizedStructuralHash(), methods.get(1).getNormalizedStructuralHash());
+        List<ConstructorDeclaration> constructors = cu.getNodesByType(ConstructorDeclaration.class);
+        assertNotEquals(constructors.get(0).getStructuralHash(), constructors.get(1).getStructuralHash());
+        for (Node node : cu.getNodesByType(Node.class)) {
+            assertTrue(node.structuralHashed);
+        }
+    }
+}
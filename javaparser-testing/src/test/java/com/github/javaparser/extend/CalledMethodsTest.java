@@ -0,0 +1,42 @@
+package com.github.javaparser.extend;
+
+import com.github.javaparser.JavaParser;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.github.javaparser.ParseStart.COMPILATION_UNIT;
+import static com.github.javaparser.Providers.provider;
+import static org.junit.Assert.assertEquals;
+
+public class CalledMethodsTest {
+
+    @Test
+    public void calledMethodsAreFoundInTheWrappedTree() {
+        // there is no such file, so the wrapper has to use the tree it was given
+        CompilationUnitWrapper compilationUnitWrapper = new CompilationUnitWrapper("missing/A.java",
+                new JavaParser().parse(COMPILATION_UNIT, provider("class A {\n" +
+                        "    void m() { a.first(); b.second(); }\n" +
+                        "    void n() { c.third(); }\n" +
+                        "}\n")));
+
+        assertEquals(2, compilationUnitWrapper.getNamesOfMethodsCalledFromMethod("m",
+                CompilationUnitWrapper.METHOD_AT_END).size());
+        assertEquals("second", compilationUnitWrapper.getNameOfLastMethodCalledFromMethod("m"));
+    }
+
+    @Test
+    public void commentsInFrontOfCallsAreIgnored() {
+        String source = "class A {\n" +
+                "    void m() { a.first(); // c\n b.second(); }\n" +
+                "}\n";
+        // with comments, as any parse result can be wrapped, and without, like the wrapper parses itself
+        CompilationUnitWrapper withComments = new CompilationUnitWrapper("missing/A.java",
+                new JavaParser().parse(COMPILATION_UNIT, provider(source)));
+        CompilationUnitWrapper withoutComments = new CompilationUnitWrapper("missing/A.java",
+                source.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("second", withComments.getNameOfLastMethodCalledFromMethod("m"));
+        assertEquals("second", withoutComments.getNameOfLastMethodCalledFromMethod("m"));
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.javaparser.extend.clone;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CloneDetectorTest {
+
+    @Rule
+    public TemporaryFolder sourceRoot = new TemporaryFolder();
+
+    private CloneDetector cloneDetector;
+
+    @Before
+    public void setUp() throws Exception {
+        CloneConfiguration configuration = new CloneConfiguration();
+        configuration.minimumTokens = 10;
+        cloneDetector = new CloneDetector(configuration);
+
+        write("a/Original.java", "class Original {\n" +
+                "    int sum(int[] values) {\n" +
+                "        int total = 0;\n" +
+                "        for (int value : values) { total += value; }\n" +
+                "        return total;\n" +
+                "    }\n" +
+                "    int get() { return 1; }\n" +
+                "}\n");
+        write("b/Copy.java", "class Copy {\n" +
+                "    // copied from Original\n" +
+                "    int add(int[] values) {\n" +
+                "        int total = 0;\n" +
+                "        for (int value : values) {\n" +
+                "            total += value; // accumulate\n" +
+                "        }\n" +
+                "        return total;\n" +
+                "    }\n" +
+                "}\n");
+        write("b/Renamed.java", "class Renamed {\n" +
+                "    long count(long[] items) {\n" +
+                "        long result = 1;\n" +
+                "        for (long item : items) { result += item; }\n" +
+                "        return result;\n" +
+                "    }\n" +
+                "    int get() { return 1; }\n" +
+                "}\n");
+        write("b/Broken.java", "class Broken {");
+    }
+
+    @Test
+    public void identicalBodiesAreType1Clones() throws Exception {
+        CloneReport report = cloneDetector.detect(Collections.singletonList(sourceRoot.getRoot().toPath()));
+
+        List<ClonePair> pairs = report.getClonePairs(CloneType.TYPE_1);
+        assertEquals(1, pairs.size());
+        assertEquals("sum", pairs.get(0).getFirst().getMethodName());
+        assertEquals("add", pairs.get(0).getSecond().getMethodName());
+    }
+
+    @Test
+    public void renamedBodiesAreType2Clones() throws Exception {
+        CloneReport report = cloneDetector.detect(Collections.singletonList(sourceRoot.getRoot().toPath()));
+
+        List<CloneClass> cloneClasses = report.getCloneClasses(CloneType.TYPE_2);
+        assertEquals(1, cloneClasses.size());
+        assertEquals(3, cloneClasses.get(0).size());
+        assertEquals(2, cloneClasses.get(0).getVariants().size());
+        assertEquals(2, report.getClonePairs(CloneType.TYPE_2).size());
+    }
+
+    @Test
+    public void smallMethodsAreNotIndexed() throws Exception {
+        CloneReport report = cloneDetector.detect(Collections.singletonList(sourceRoot.getRoot().toPath()));
+
+        assertEquals(3, report.getIndexedMethodCount());
+    }
+
+    @Test
+    public void unparsableFilesAreSkipped() throws Exception {
+        CloneReport report = cloneDetector.detect(Collections.singletonList(sourceRoot.getRoot().toPath()));
+
+        assertEquals(1, report.getSkippedFiles().size());
+        assertTrue(report.getSkippedFiles().keySet().iterator().next().endsWith("Broken.java"));
+    }
+
+    @Test
+    public void methodsNextToSyntaxErrorsAreStillIndexed() throws Exception {
+        write("c/HalfBroken.java", "class HalfBroken {\n" +
+                "    int broken( {\n" +
+                "    }\n" +
+                "    int sum(int[] values) {\n" +
+                "        int total = 0;\n" +
+                "        for (int value : values) { total += value; }\n" +
+                "        return total;\n" +
+                "    }\n" +
+                "}\n");
+
+        CloneReport report = cloneDetector.detect(Collections.singletonList(sourceRoot.getRoot().toPath()));
+
+        assertEquals(4, report.getIndexedMethodCount());
+        assertEquals(1, report.getPartiallyParsedFiles().size());
+        assertTrue(report.getPartiallyParsedFiles().keySet().iterator().next().endsWith("HalfBroken.java"));
+        assertEquals(1, report.getSkippedFiles().size());
+    }
+
+    private void write(String relativePath, String source) throws IOException {
+        File file = new File(sourceRoot.getRoot(), relativePath);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.Range;
+import com.github.javaparser.Token;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import org.junit.Test;
+
+import java.util.List;
+
+import static com.github.javaparser.ParseStart.COMPILATION_UNIT;
+import static com.github.javaparser.Providers.provider;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FingerprintDatabaseTest {
+
+    private static final String ORIGINAL = "class A {\n" +
+            "    int sum(int[] values) {\n" +
+            "        int total = 0;\n" +
+            "        for (int i = 0; i < values.length; i++) { total += values[i]; }\n" +
+            "        return total;\n" +
+            "    }\n" +
+            "    void hello() { System.out.println(\"hello\"); }\n" +
+            "}\n";
+    private static final String COPY = "class B {\n" +
+            "    String name;\n" +
+            "    long add(long[] numbers) {\n" +
+            "        long result = 0;\n" +
+            "        for (int j = 0; j < numbers.length; j++) { result += numbers[j]; }\n" +
+            "        return result;\n" +
+            "    }\n" +
+            "}\n";
+    private static final String OTHER = "interface C {\n" +
+            "    @Deprecated\n" +
+            "    default Object other(Object o) throws Exception { throw new UnsupportedOperationException(); }\n" +
+            "}\n";
+
+    private static final CloneConfiguration CONFIGURATION = new CloneConfiguration();
+
+    private static List<Token> tokens(String source) {
+        return new JavaParser().parse(COMPILATION_UNIT, provider(source)).getTokens().get();
+    }
+
+    @Test
+    public void winnowingKeepsASubsetOfTheKGrams() {
+        WinnowedFingerprints fingerprints = WinnowedFingerprints.of(tokens(ORIGINAL), CONFIGURATION);
+
+        assertTrue(fingerprints.size() > 0);
+        assertTrue(fingerprints.size() < tokens(ORIGINAL).size() / 2);
+    }
+
+    @Test
+    public void filesSharingCodeAreFound() {
+        FingerprintDatabase database = new FingerprintDatabase();
+        int original = database.add("A.java", WinnowedFingerprints.of(tokens(ORIGINAL), CONFIGURATION));
+        database.add("B.java", WinnowedFingerprints.of(tokens(COPY), CONFIGURATION));
+        database.add("C.java", WinnowedFingerprints.of(tokens(OTHER), CONFIGURATION));
+
+        List<FingerprintMatch> matches = database.findSimilar(original);
+
+        assertEquals("B.java", matches.get(0).getName());
+        assertTrue(matches.get(0).getQueryCoverage() > 0.5);
+        assertTrue(matches.stream().noneMatch(m -> m.getName().equals("A.java")));
+    }
+
+    @Test
+    public void methodFingerprintsMapBackToRanges() {
+        ParseResult<CompilationUnit> original = new JavaParser().parse(COMPILATION_UNIT, provider(ORIGINAL));
+        MethodDeclaration sum = original.getResult().get().getNodesByType(MethodDeclaration.class).get(0);
+        WinnowedFingerprints method = WinnowedFingerprints.of(original.getTokens().get(), sum.getRange(), CONFIGURATION);
+        WinnowedFingerprints copy = WinnowedFingerprints.of(tokens(COPY), CONFIGURATION);
+
+        List<Range> shared = method.rangesSharedWith(copy);
+
+        assertTrue(shared.size() > 0);
+        for (Range range : shared) {
+            assertTrue(sum.getRange().contains(range));
+        }
+    }
+}
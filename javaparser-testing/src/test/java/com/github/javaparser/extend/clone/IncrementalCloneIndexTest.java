@@ -0,0 +1,95 @@
+package com.github.javaparser.extend.clone;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class IncrementalCloneIndexTest {
+
+    private static final String SUM = "class %s {\n" +
+            "    int sum(int[] values) {\n" +
+            "        int total = 0;\n" +
+            "        for (int value : values) { total += value; }\n" +
+            "        return total;\n" +
+            "    }\n" +
+            "}\n";
+
+    @Rule
+    public TemporaryFolder sourceRoot = new TemporaryFolder();
+
+    private IncrementalCloneIndex index;
+    private List<Path> roots;
+
+    @Before
+    public void setUp() throws Exception {
+        CloneConfiguration configuration = new CloneConfiguration();
+        configuration.minimumTokens = 10;
+        index = new IncrementalCloneIndex(configuration);
+        roots = Collections.singletonList(sourceRoot.getRoot().toPath());
+        write("A.java", String.format(SUM, "A"), 1000);
+        write("B.java", String.format(SUM, "B"), 1000);
+        write("C.java", "class C {\n    void c() { System.out.println(\"c\"); }\n}\n", 1000);
+    }
+
+    private Path write(String name, String content, long lastModified) throws IOException {
+        Path file = sourceRoot.getRoot().toPath().resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified));
+        return file;
+    }
+
+    @Test
+    public void firstUpdateIndexesEverything() throws Exception {
+        assertEquals(3, index.update(roots).size());
+
+        CloneReport report = index.getReport();
+        assertEquals(1, report.getClonePairs(CloneType.TYPE_1).size());
+        assertEquals(3, report.getIndexedMethodCount());
+    }
+
+    @Test
+    public void unchangedFilesAreSkipped() throws Exception {
+        index.update(roots);
+        // touched, but the same content
+        write("C.java", "class C {\n    void c() { System.out.println(\"c\"); }\n}\n", 2000);
+
+        assertTrue(index.update(roots).isEmpty());
+        assertEquals(1, index.getReport().getClonePairs(CloneType.TYPE_1).size());
+    }
+
+    @Test
+    public void changedFileReplacesItsMethods() throws Exception {
+        index.update(roots);
+        Path b = write("B.java", String.format(SUM, "B").replace("total += value", "total -= value"), 2000);
+
+        Set<String> changed = index.update(roots);
+
+        assertEquals(Collections.singleton(b.toString()), changed);
+        assertEquals(0, index.getReport().getClonePairs(CloneType.TYPE_1).size());
+        assertEquals(1, index.getMethods(b.toString()).size());
+    }
+
+    @Test
+    public void deletedFileIsRemoved() throws Exception {
+        index.update(roots);
+        Path b = sourceRoot.getRoot().toPath().resolve("B.java");
+        Files.delete(b);
+
+        assertEquals(Collections.singleton(b.toString()), index.update(roots));
+        assertEquals(0, index.getReport().getCloneClasses().size());
+        assertEquals(2, index.getReport().getIndexedMethodCount());
+    }
+}
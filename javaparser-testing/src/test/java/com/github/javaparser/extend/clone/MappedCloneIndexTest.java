@@ -0,0 +1,108 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ast.MethodRepresentation;
+import com.github.javaparser.extend.CompilationUnitWrapper;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.javaparser.Range.range;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MappedCloneIndexTest {
+
+    private static final String SUM = "class %s {\n" +
+            "    int sum(int[] %s) {\n" +
+            "        int total = 0;\n" +
+            "        for (int value : %s) { total += value; }\n" +
+            "        return total;\n" +
+            "    }\n" +
+            "}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private List<MethodRepresentation> methods = new ArrayList<>();
+    private Path indexFile;
+    private int written;
+
+    @Before
+    public void setUp() throws Exception {
+        add("A.java", String.format(SUM, "A", "values", "values"));
+        add("B.java", String.format(SUM, "B", "values", "values"));
+        add("C.java", String.format(SUM, "C", "numbers", "numbers"));
+        add("D.java", "class D {\n    void d() { System.out.println(\"d\"); }\n}\n");
+        CloneConfiguration configuration = new CloneConfiguration();
+        configuration.minimumTokens = 20;
+        configuration.winnowingWindow = 4;
+        indexFile = folder.getRoot().toPath().resolve("clones.idx");
+        written = MappedCloneIndex.write(indexFile, methods, configuration);
+    }
+
+    private void add(String name, String content) throws IOException {
+        Path file = folder.getRoot().toPath().resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        methods.addAll(new CompilationUnitWrapper(file.toString()).getMethodRepresentations());
+    }
+
+    @Test
+    public void smallMethodsAreLeftOut() throws Exception {
+        assertEquals(3, written);
+        assertEquals(3, MappedCloneIndex.open(indexFile).size());
+    }
+
+    @Test
+    public void methodMetadataIsReadBack() throws Exception {
+        MappedCloneIndex index = MappedCloneIndex.open(indexFile);
+
+        assertEquals(methods.get(1).getFilePath(), index.getFilePath(1));
+        assertEquals("B", index.getClassName(1));
+        assertEquals("sum", index.getMethodName(1));
+        assertEquals(range(2, 5, 6, 5), index.getRange(1));
+        assertEquals(methods.get(1).getUserData(NormalizedTokenStream.METHOD_BODY).size(), index.getTokenCount(1));
+    }
+
+    @Test
+    public void clonesAreFoundByHash() throws Exception {
+        MappedCloneIndex index = MappedCloneIndex.open(indexFile);
+
+        assertArrayEquals(new int[]{1}, index.findClones(0, CloneType.TYPE_1));
+        assertArrayEquals(new int[]{2}, index.findClones(0, CloneType.TYPE_2));
+        assertArrayEquals(new int[]{0, 1}, index.findClones(2, CloneType.TYPE_2));
+        assertArrayEquals(new int[]{0, 1}, index.findClones(methods.get(0).getUserData(NormalizedTokenStream.METHOD_BODY), CloneType.TYPE_1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nearMissClonesAreNotFoundByHash() throws Exception {
+        MappedCloneIndex.open(indexFile).findClones(0, CloneType.TYPE_3);
+    }
+
+    @Test
+    public void similarMethodsShareFingerprints() throws Exception {
+        MappedCloneIndex index = MappedCloneIndex.open(indexFile);
+
+        List<FingerprintMatch> matches = index.findSimilar(0);
+
+        assertEquals(2, matches.size());
+        assertTrue(matches.get(0).getName().endsWith(":B.sum"));
+        assertEquals(1.0, matches.get(0).getQueryCoverage(), 0.0);
+        assertEquals(3, index.findSimilar(methods.get(2).getUserData(NormalizedTokenStream.METHOD_BODY)).size());
+    }
+
+    @Test(expected = IOException.class)
+    public void otherFilesAreRejected() throws Exception {
+        Path other = folder.newFile("other.idx").toPath();
+        Files.write(other, "not an index, but long enough to hold a header of fifty-six bytes".getBytes(StandardCharsets.UTF_8));
+        MappedCloneIndex.open(other);
+    }
+}
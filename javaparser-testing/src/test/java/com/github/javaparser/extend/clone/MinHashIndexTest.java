@@ -0,0 +1,90 @@
+package com.github.javaparser.extend.clone;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MinHashIndexTest {
+
+    private static NormalizedTokenStream stream(int[] codes) {
+        String[] images = new String[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            images[i] = String.valueOf(codes[i]);
+        }
+        return new NormalizedTokenStream(codes, images);
+    }
+
+    private static int[] randomCodes(Random random, int length) {
+        int[] codes = new int[length];
+        for (int i = 0; i < length; i++) {
+            codes[i] = random.nextInt(NormalizedTokenStream.CODE_COUNT);
+        }
+        return codes;
+    }
+
+    @Test
+    public void equalStreamsHaveEqualSignatures() {
+        CloneConfiguration configuration = new CloneConfiguration();
+        int[] codes = randomCodes(new Random(1), 100);
+
+        MinHashSignature signature = MinHashSignature.of(stream(codes), configuration);
+
+        assertEquals(configuration.minHashFunctions, signature.size());
+        assertEquals(signature, MinHashSignature.of(stream(codes.clone()), configuration));
+        assertEquals(1.0, signature.estimateJaccard(MinHashSignature.of(stream(codes), configuration)), 0.0);
+    }
+
+    @Test
+    public void sharedHashFunctionsSketchLikeTheConfiguration() {
+        CloneConfiguration configuration = new CloneConfiguration();
+        MinHashSignature.HashFunctions functions = new MinHashSignature.HashFunctions(configuration);
+        Random random = new Random(4);
+        for (int i = 0; i < 10; i++) {
+            NormalizedTokenStream tokens = stream(randomCodes(random, 50));
+            assertEquals(MinHashSignature.of(tokens, configuration), functions.of(tokens));
+        }
+    }
+
+    @Test
+    public void gappedCopyIsFoundAndUnrelatedCodeIsNot() {
+        CloneConfiguration configuration = new CloneConfiguration();
+        Random random = new Random(2);
+        int[] original = randomCodes(random, 200);
+        // the same code with a few tokens inserted in the middle
+        int[] gapped = new int[original.length + 5];
+        System.arraycopy(original, 0, gapped, 0, 100);
+        System.arraycopy(randomCodes(random, 5), 0, gapped, 100, 5);
+        System.arraycopy(original, 100, gapped, 105, 100);
+
+        MinHashIndex index = new MinHashIndex(configuration);
+        MinHashSignature.HashFunctions functions = new MinHashSignature.HashFunctions(configuration);
+        index.add(functions.of(stream(original)));
+        index.add(functions.of(stream(randomCodes(random, 200))));
+        index.add(functions.of(stream(gapped)));
+        List<int[]> pairs = new ArrayList<>();
+        index.forEachSimilarPair((first, second, estimatedJaccard) -> pairs.add(new int[]{first, second}));
+
+        assertEquals(1, pairs.size());
+        assertEquals(0, pairs.get(0)[0]);
+        assertEquals(2, pairs.get(0)[1]);
+        assertTrue(index.estimateJaccard(0, 2) >= configuration.minimumJaccard);
+    }
+
+    @Test
+    public void indexGrowsBeyondItsInitialCapacity() {
+        CloneConfiguration configuration = new CloneConfiguration();
+        MinHashIndex index = new MinHashIndex(configuration);
+        MinHashSignature.HashFunctions functions = new MinHashSignature.HashFunctions(configuration);
+        Random random = new Random(3);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, index.add(functions.of(stream(randomCodes(random, 50)))));
+        }
+
+        assertEquals(100, index.size());
+    }
+}
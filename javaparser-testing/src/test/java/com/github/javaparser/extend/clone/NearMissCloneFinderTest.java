@@ -0,0 +1,129 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.MethodRepresentation;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.stmt.ForStmt;
+import com.github.javaparser.extend.CompilationUnitWrapper;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.github.javaparser.ParseStart.COMPILATION_UNIT;
+import static com.github.javaparser.Providers.provider;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class NearMissCloneFinderTest {
+
+    private static final String SOURCE = "class A {\n" +
+            "    int total(int[] values) {\n" +
+            "        int sum = 0;\n" +
+            "        for (int i = 0; i < values.length; i++) {\n" +
+            "            if (values[i] > 0) { sum += values[i]; }\n" +
+            "        }\n" +
+            "        return sum;\n" +
+            "    }\n" +
+            "    int count(int[] numbers) {\n" +
+            "        int result = 0;\n" +
+            "        for (int j = 0; j < numbers.length; j++) {\n" +
+            "            if (numbers[j] > 0) { result += numbers[j]; }\n" +
+            "            log(j);\n" +
+            "        }\n" +
+            "        return result;\n" +
+            "    }\n" +
+            "    String describe(Object o) {\n" +
+            "        try { return o.toString() + \"!\"; } catch (RuntimeException e) { throw new IllegalStateException(e); }\n" +
+            "    }\n" +
+            "}\n";
+
+    private static final ParseResult<CompilationUnit> RESULT = new JavaParser().parse(COMPILATION_UNIT, provider(SOURCE));
+    private static final CompilationUnit CU = RESULT.getResult().get();
+
+    private static CloneConfiguration configuration() {
+        CloneConfiguration configuration = new CloneConfiguration();
+        configuration.minimumTokens = 10;
+        configuration.minimumSimilarity = 0.8;
+        configuration.minimumSubtreeSize = 10;
+        return configuration;
+    }
+
+    private static List<MethodRepresentation> methods() {
+        List<MethodRepresentation> methods = new ArrayList<>();
+        for (MethodDeclaration declaration : CU.getNodesByType(MethodDeclaration.class)) {
+            MethodRepresentation method = new MethodRepresentation("A.java", "A");
+            method.setMethodName(declaration.getName());
+            method.setStringifiedWithoutComments(declaration.toStringWithoutComments());
+            method.setUserData(CompilationUnitWrapper.METHOD_DECLARATION, declaration);
+            method.setUserData(NormalizedTokenStream.METHOD_BODY, NormalizedTokenStream.of(RESULT.getTokens().get(), declaration.getRange()));
+            methods.add(method);
+        }
+        return methods;
+    }
+
+    @Test
+    public void vectorCountsRelevantNodeKinds() {
+        CharacteristicVector vector = CharacteristicVector.of(CU.getNodesByType(ForStmt.class).get(0));
+
+        assertEquals(1, vector.countAt(CharacteristicVector.KINDS.indexOf(ForStmt.class)));
+        assertEquals(1.0, vector.similarity(vector), 0.0);
+    }
+
+    @Test
+    public void methodWithAnAddedStatementIsANearMissClone() {
+        List<ClonePair> pairs = new NearMissCloneFinder(configuration()).findMethodClones(methods());
+
+        assertEquals(1, pairs.size());
+        assertEquals(CloneType.TYPE_3, pairs.get(0).getType());
+        assertEquals("A.total", pairs.get(0).getFirst().getFullMethodName());
+        assertEquals("A.count", pairs.get(0).getSecond().getFullMethodName());
+        assertTrue(pairs.get(0).getSimilarity() < 1);
+    }
+
+    @Test
+    public void minHashFindsTheSameMethodPair() {
+        CloneConfiguration configuration = configuration();
+        configuration.nearMissAlgorithm = NearMissAlgorithm.MIN_HASH;
+        configuration.minimumJaccard = 0.5;
+        List<ClonePair> pairs = new NearMissCloneFinder(configuration).findMethodClones(methods());
+
+        assertEquals(1, pairs.size());
+        assertEquals("A.total", pairs.get(0).getFirst().getFullMethodName());
+        assertEquals("A.count", pairs.get(0).getSecond().getFullMethodName());
+    }
+
+    @Test
+    public void vectorsAreComputedFromTheDeclarationsWhenFirstNeeded() {
+        List<MethodRepresentation> methods = methods();
+        List<MethodDeclaration> declarations = CU.getNodesByType(MethodDeclaration.class);
+
+        assertNull(methods.get(0).getUserData(CharacteristicVector.METHOD));
+        assertEquals(1, new NearMissCloneFinder(configuration()).findMethodClones(methods).size());
+        for (int i = 0; i < methods.size(); i++) {
+            assertEquals(CharacteristicVector.of(declarations.get(i)), methods.get(i).getUserData(CharacteristicVector.METHOD));
+        }
+    }
+
+    @Test
+    public void vectorsAreComputedWithoutTheDeclarations() {
+        List<MethodRepresentation> methods = methods();
+        for (MethodRepresentation method : methods) {
+            method.setUserData(CompilationUnitWrapper.METHOD_DECLARATION, null);
+        }
+
+        assertEquals(1, new NearMissCloneFinder(configuration()).findMethodClones(methods).size());
+    }
+
+    @Test
+    public void onlyTheOutermostSimilarStatementsAreReported() {
+        List<SubtreeClonePair> pairs = new NearMissCloneFinder(configuration()).findSubtreeClones(Collections.singletonList(CU));
+
+        assertEquals(1, pairs.size());
+        assertTrue(pairs.get(0).getFirst().getParentNode() instanceof MethodDeclaration);
+    }
+}
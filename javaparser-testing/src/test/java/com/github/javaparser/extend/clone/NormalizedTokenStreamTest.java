@@ -0,0 +1,66 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.Token;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.javaparser.ParseStart.COMPILATION_UNIT;
+import static com.github.javaparser.Providers.provider;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class NormalizedTokenStreamTest {
+
+    private static final String SOURCE = "class A {\n" +
+            "    int first(int a) { return a + 1; }\n" +
+            "    /** renamed */\n" +
+            "    long second(long b) {\n" +
+            "        return b + 2L; // comment\n" +
+            "    }\n" +
+            "    void third() { System.out.println(\"x\"); }\n" +
+            "}\n";
+
+    @Test
+    public void streamIsSlicedByMethodRange() {
+        List<NormalizedTokenStream> streams = parseMethods();
+
+        NormalizedTokenStream first = streams.get(0);
+        assertEquals(13, first.size());
+        assertEquals("int first ( int a ) { return a + 1 ; }", first.toString());
+    }
+
+    @Test
+    public void renamedMethodsHaveEqualCodes() {
+        List<NormalizedTokenStream> streams = parseMethods();
+
+        assertArrayEquals(streams.get(0).getCodes(), streams.get(1).getCodes());
+        assertNotEquals(streams.get(0).imageAt(1), streams.get(1).imageAt(1));
+        assertNotEquals(streams.get(0).getCodes().length, streams.get(2).getCodes().length);
+    }
+
+    @Test
+    public void identifiersLiteralsAndTypesAreAbstracted() {
+        NormalizedTokenStream first = parseMethods().get(0);
+
+        assertEquals(NormalizedTokenStream.TYPE, first.codeAt(0));
+        assertEquals(NormalizedTokenStream.IDENTIFIER, first.codeAt(1));
+        assertEquals(NormalizedTokenStream.LITERAL, first.codeAt(10));
+    }
+
+    private List<NormalizedTokenStream> parseMethods() {
+        ParseResult<CompilationUnit> result = new JavaParser().parse(COMPILATION_UNIT, provider(SOURCE));
+        List<Token> tokens = result.getTokens().get();
+        List<NormalizedTokenStream> streams = new ArrayList<>();
+        for (MethodDeclaration method : result.getResult().get().getNodesByType(MethodDeclaration.class)) {
+            streams.add(NormalizedTokenStream.of(tokens, method.getRange()));
+        }
+        return streams;
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.stmt.ForStmt;
+import com.github.javaparser.ast.stmt.WhileStmt;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SubtreeCloneFinderTest {
+
+    private static final String SOURCE = "class A {\n" +
+            "    void a(int[] values) {\n" +
+            "        for (int i = 0; i < values.length; i++) { values[i] = values[i] * 2; }\n" +
+            "        while (values.length > 3) { print(values, values.length - 1); }\n" +
+            "    }\n" +
+            "    void b(int[] values) {\n" +
+            "        for (int i = 0; i < values.length; i++) { values[i] = values[i] * 2; }\n" +
+            "    }\n" +
+            "    void c(int[] numbers) {\n" +
+            "        for (int j = 0; j < numbers.length; j++) { numbers[j] = numbers[j] * 4; }\n" +
+            "        while (numbers.length > 1) { show(numbers, numbers.length - 1); }\n" +
+            "    }\n" +
+            "}\n";
+
+    private List<SubtreeCloneClass> find() {
+        CompilationUnit cu = JavaParser.parse(SOURCE);
+        return new SubtreeCloneFinder(12).find(Collections.singletonList(cu));
+    }
+
+    @Test
+    public void exactSubtreeClonesAreFound() {
+        List<SubtreeCloneClass> classes = find();
+
+        SubtreeCloneClass exact = classes.get(0);
+        assertEquals(CloneType.TYPE_1, exact.getType());
+        assertEquals(2, exact.size());
+        assertTrue(exact.getNodes().get(0) instanceof ForStmt);
+    }
+
+    @Test
+    public void renamedSubtreeClonesAreFound() {
+        List<SubtreeCloneClass> classes = find();
+
+        assertEquals(2, classes.stream()
+                .filter(c -> c.getType() == CloneType.TYPE_2)
+                .filter(c -> c.getNodes().get(0) instanceof MethodDeclaration)
+                .mapToInt(SubtreeCloneClass::size)
+                .sum());
+        assertEquals(3, classes.stream()
+                .filter(c -> c.getType() == CloneType.TYPE_2)
+                .filter(c -> c.getNodes().get(0) instanceof ForStmt)
+                .mapToInt(SubtreeCloneClass::size)
+                .sum());
+    }
+
+    @Test
+    public void partsOfLargerClonesAreNotReported() {
+        List<SubtreeCloneClass> classes = find();
+
+        assertEquals(1, classes.stream().filter(c -> c.getType() == CloneType.TYPE_1).count());
+        assertFalse(classes.stream().anyMatch(c -> c.getNodes().get(0) instanceof WhileStmt));
+    }
+}
@@ -0,0 +1,180 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ASTParserConstants;
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.Range;
+import com.github.javaparser.Token;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.github.javaparser.ParseStart.COMPILATION_UNIT;
+import static com.github.javaparser.Providers.provider;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class SuffixArrayCloneFinderTest {
+
+    private static final String FIRST = "class A {\n" +
+            "    void a() {\n" +
+            "        prepare();\n" +
+            "        int total = 0;\n" +
+            "        for (int i = 0; i < 10; i++) { total += i * i; }\n" +
+            "        System.out.println(total);\n" +
+            "    }\n" +
+            "}\n";
+    private static final String SECOND = "class B {\n" +
+            "    int[] values = { 1, 2, 3 };\n" +
+            "    void b() {\n" +
+            "        check(values);\n" +
+            "        int sum = 0;\n" +
+            "        for (int j = 0; j < 20; j++) { sum += j * j; }\n" +
+            "        System.out.println(sum);\n" +
+            "        cleanUp();\n" +
+            "    }\n" +
+            "}\n";
+
+    private static List<Token> tokens(String source) {
+        return new JavaParser().parse(COMPILATION_UNIT, provider(source)).getTokens().get();
+    }
+
+    @Test
+    public void clonedBlockInsideLargerMethodsIsFound() {
+        CloneConfiguration configuration = new CloneConfiguration();
+        configuration.minimumTokens = 20;
+        SuffixArrayCloneFinder finder = new SuffixArrayCloneFinder(configuration);
+        finder.add("A.java", tokens(FIRST));
+        finder.add("B.java", tokens(SECOND));
+
+        List<TokenClonePair> pairs = finder.findClonePairs();
+
+        assertEquals(1, pairs.size());
+        TokenClonePair pair = pairs.get(0);
+        assertEquals("A.java", pair.getFirstPath());
+        assertEquals("B.java", pair.getSecondPath());
+        // from ") ; int total" up to and including "println ( total ) ;"
+        assertEquals(Range.range(3, 17, 6, 34), pair.getFirstRange());
+        assertEquals(Range.range(4, 21, 7, 32), pair.getSecondRange());
+        assertEquals(38, pair.getLength());
+    }
+
+    @Test
+    public void suffixArrayMatchesNaiveSort() {
+        Random random = new Random(7);
+        for (int round = 0; round < 20; round++) {
+            int[] text = new int[1 + random.nextInt(200)];
+            for (int i = 0; i < text.length; i++) {
+                text[i] = random.nextInt(1 + round % 4);
+            }
+            Integer[] expected = new Integer[text.length];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = i;
+            }
+            Arrays.sort(expected, Comparator.comparing(i -> Arrays.toString(Arrays.copyOfRange(text, i, text.length))
+                    .replace("]", " ]")));
+            int[] suffixes = SuffixArray.build(text, 4);
+
+            assertArrayEquals(Arrays.stream(expected).mapToInt(Integer::intValue).toArray(), suffixes);
+        }
+    }
+
+    @Test
+    public void lcpOfRepeatedText() {
+        int[] text = {1, 0, 1, 0, 1};
+        int[] suffixes = SuffixArray.build(text, 2);
+
+        assertArrayEquals(new int[]{3, 1, 4, 2, 0}, suffixes);
+        assertArrayEquals(new int[]{0, 2, 0, 1, 3}, SuffixArray.longestCommonPrefixes(text, suffixes));
+    }
+
+    @Test
+    public void repetitiveCodeOnlyYieldsItsMaximalPairs() {
+        StringBuilder source = new StringBuilder("class A {\n    void a() {\n");
+        for (int i = 0; i < 5000; i++) {
+            source.append("        a();\n");
+        }
+        source.append("    }\n}\n");
+        CloneConfiguration configuration = new CloneConfiguration();
+        configuration.minimumTokens = 20;
+        SuffixArrayCloneFinder finder = new SuffixArrayCloneFinder(configuration);
+        finder.add("A.java", tokens(source.toString()));
+
+        List<TokenClonePair> pairs = finder.findClonePairs();
+
+        // only the first statement is preceded by something else than a semicolon,
+        // so every pair starts at it, and is cut short where the copy starts
+        assertEquals(4991, pairs.size());
+        for (TokenClonePair pair : pairs) {
+            assertEquals(3, pair.getFirstRange().begin.line);
+        }
+    }
+
+    @Test
+    public void pairsAreTheMaximalRepeats() {
+        Random random = new Random(11);
+        int[] kinds = {ASTParserConstants.IDENTIFIER, ASTParserConstants.LPAREN, ASTParserConstants.RPAREN,
+                ASTParserConstants.SEMICOLON};
+        for (int round = 0; round < 50; round++) {
+            CloneConfiguration configuration = new CloneConfiguration();
+            configuration.minimumTokens = 1 + random.nextInt(4);
+            SuffixArrayCloneFinder finder = new SuffixArrayCloneFinder(configuration);
+            List<int[]> files = new ArrayList<>();
+            for (int file = 0; file < 1 + random.nextInt(3); file++) {
+                int[] codes = new int[random.nextInt(40)];
+                List<Token> tokens = new ArrayList<>();
+                for (int i = 0; i < codes.length; i++) {
+                    codes[i] = kinds[random.nextInt(1 + round % kinds.length)];
+                    Token token = new Token(codes[i], "t");
+                    token.beginLine = token.endLine = i + 1;
+                    token.beginColumn = token.endColumn = 1;
+                    tokens.add(token);
+                }
+                finder.add("F" + file, tokens);
+                files.add(codes);
+            }
+
+            Set<String> actual = new HashSet<>();
+            for (TokenClonePair pair : finder.findClonePairs()) {
+                actual.add(pair.getFirstPath() + pair.getFirstRange() + pair.getSecondPath() + pair.getSecondRange());
+            }
+
+            assertEquals(naivePairs(files, configuration.minimumTokens), actual);
+        }
+    }
+
+    private static Set<String> naivePairs(List<int[]> files, int minimum) {
+        Set<String> pairs = new HashSet<>();
+        for (int f = 0; f < files.size(); f++) {
+            for (int g = f; g < files.size(); g++) {
+                int[] first = files.get(f);
+                int[] second = files.get(g);
+                for (int p = 0; p < first.length; p++) {
+                    for (int q = f == g ? p + 1 : 0; q < second.length; q++) {
+                        if (p > 0 && q > 0 && first[p - 1] == second[q - 1]) {
+                            continue;
+                        }
+                        int common = 0;
+                        while (p + common < first.length && q + common < second.length
+                                && first[p + common] == second[q + common]) {
+                            common++;
+                        }
+                        if (f == g) {
+                            common = Math.min(common, q - p);
+                        }
+                        if (common >= minimum) {
+                            pairs.add("F" + f + Range.range(p + 1, 1, p + common, 1)
+                                    + "F" + g + Range.range(q + 1, 1, q + common, 1));
+                        }
+                    }
+                }
+            }
+        }
+        return pairs;
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.javaparser.extend.clone;
+
+import com.github.javaparser.ast.MethodRepresentation;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TokenBagIndexTest {
+
+    private static MethodRepresentation method(String name, String code) {
+        MethodRepresentation method = new MethodRepresentation("A.java", "A");
+        method.setMethodName(name);
+        method.setStringifiedWithoutComments(code);
+        return method;
+    }
+
+    private static final MethodRepresentation ORIGINAL = method("original", "void original() {\n" +
+            "    int width = shape.getWidth();\n" +
+            "    int height = shape.getHeight();\n" +
+            "    canvas.draw(shape, width, height);\n" +
+            "    log.debug(\"drawn\");\n" +
+            "}");
+    private static final MethodRepresentation REORDERED = method("reordered", "void reordered() {\n" +
+            "    int height = shape.getHeight();\n" +
+            "    int width = shape.getWidth();\n" +
+            "    canvas.draw(shape, width, height);\n" +
+            "    log.info(\"drawn\");\n" +
+            "}");
+    private static final MethodRepresentation OTHER = method("other", "void other() {\n" +
+            "    for (String name : names) {\n" +
+            "        System.out.println(name.toUpperCase());\n" +
+            "    }\n" +
+            "    names.clear();\n" +
+            "    shape.reset();\n" +
+            "}");
+
+    private static List<String> findPairs(double minimumOverlap) {
+        CloneConfiguration configuration = new CloneConfiguration();
+        configuration.minimumTokens = 10;
+        configuration.minimumOverlap = minimumOverlap;
+        TokenBagIndex index = new TokenBagIndex(configuration);
+        assertTrue(index.add(ORIGINAL));
+        assertTrue(index.add(OTHER));
+        assertTrue(index.add(REORDERED));
+        assertFalse(index.add(method("small", "int small() {\n    return 1;\n}")));
+        List<String> pairs = new ArrayList<>();
+        index.forEachSimilarPair((first, second, overlap) ->
+                pairs.add(first.getMethodName() + "-" + second.getMethodName()));
+        return pairs;
+    }
+
+    @Test
+    public void reorderedStatementsAreFound() {
+        List<String> pairs = findPairs(0.8);
+
+        assertEquals(1, pairs.size());
+        assertTrue(pairs.contains("original-reordered") || pairs.contains("reordered-original"));
+    }
+
+    @Test
+    public void thresholdIsRespected() {
+        assertEquals(0, findPairs(1.0).size());
+    }
+
+    @Test
+    public void lowThresholdFindsEveryPair() {
+        assertEquals(3, findPairs(0.01).size());
+    }
+
+    @Test
+    public void onlyWordsAndLiteralsAreTerms() {
+        NormalizedTokenStream tokens = MethodTokenizer.tokenize(Collections.singletonList(
+                "f(.5, 1e3, 'c', \"s\", x, int.class, new Object[0], this, String... args);"));
+
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            if (TokenBagIndex.isTerm(tokens.codeAt(i))) {
+                terms.add(tokens.imageAt(i));
+            }
+        }
+
+        assertEquals("[f, .5, 1e3, 'c', \"s\", x, int, class, new, Object, 0, this, String, args]", terms.toString());
+    }
+}
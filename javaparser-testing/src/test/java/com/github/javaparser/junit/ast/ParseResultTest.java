@@ -40,4 +40,44 @@ public class ParseResultTest {
 
         assertThat(result.toString()).startsWith("Parsing failed:" + EOL + "Encountered unexpected token:");
     }
+
+    @Test
+    public void aReusedParserStartsEveryRunAfresh() {
+        javaParser.parse(COMPILATION_UNIT, provider("class {"));
+        ParseResult<CompilationUnit> first = javaParser.parse(COMPILATION_UNIT, provider("/* a */ class X{}"));
+        ParseResult<CompilationUnit> second = javaParser.parse(COMPILATION_UNIT, provider("class Y{}"));
+
+        assertThat(second.getProblems()).isEmpty();
+        assertThat(second.getTokens().get()).hasSize(5);
+        assertThat(second.getCommentsCollection().get().size()).isEqualTo(0);
+        assertThat(first.getTokens().get()).hasSize(5);
+        assertThat(first.getCommentsCollection().get().size()).isEqualTo(1);
+    }
+
+    @Test
+    public void tokensAndCommentsCanBeLeftOut() {
+        ParserConfiguration configuration = new ParserConfiguration();
+        configuration.storeTokens = false;
+        configuration.collectComments = false;
+
+        ParseResult<CompilationUnit> result = new JavaParser(configuration).parse(COMPILATION_UNIT, provider("/* a */ class X{}"));
+
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.getTokens().isPresent()).isFalse();
+        assertThat(result.getCommentsCollection().isPresent()).isFalse();
+        assertThat(result.getResult().get().getAllContainedComments()).isEmpty();
+        assertThat(result.getResult().get().getTypes().get(0).getComment().isPresent()).isFalse();
+    }
+
+    @Test
+    public void commentsCanBeCollectedWithoutAttributingThem() {
+        ParserConfiguration configuration = new ParserConfiguration();
+        configuration.attributeComments = false;
+
+        ParseResult<CompilationUnit> result = new JavaParser(configuration).parse(COMPILATION_UNIT, provider("/* a */ class X{}"));
+
+        assertThat(result.getCommentsCollection().get().size()).isEqualTo(1);
+        assertThat(result.getResult().get().getAllContainedComments()).isEmpty();
+        assertThat(result.getResult().get().getTypes().get(0).getComment().isPresent()).isFalse();
+    }
 }